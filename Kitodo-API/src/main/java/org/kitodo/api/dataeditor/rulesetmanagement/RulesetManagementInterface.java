@@ -148,6 +148,15 @@ public interface RulesetManagementInterface {
      */
     void load(File rulesetFile) throws IOException;
 
+    /**
+     * Returns the files the ruleset was read from when it was loaded. These
+     * are the ruleset file, the files it includes, and the namespace files
+     * read. If one of them changes, the ruleset must be loaded again.
+     *
+     * @return the files read when loading the ruleset
+     */
+    Collection<File> getFiles();
+
     /**
      * Returns the “always showing” value or otherwise the default value if the
      * attribute is not set.
@@ -184,4 +193,26 @@ public interface RulesetManagementInterface {
      * @return 'Reimport' value of metadata with given key
      */
     Reimport getMetadataReimport(String metadataKey, String acquisitionStage);
+
+    /**
+     * Returns how often a view on a division or key was requested that had
+     * been created before.
+     *
+     * @return the number of view cache hits
+     */
+    long getViewCacheHits();
+
+    /**
+     * Returns how often a view on a division or key had to be created.
+     *
+     * @return the number of view cache misses
+     */
+    long getViewCacheMisses();
+
+    /**
+     * Returns the number of views on divisions and keys kept.
+     *
+     * @return the number of views kept
+     */
+    int getViewCacheSize();
 }
@@ -237,7 +237,8 @@ public abstract class Division<T extends Division<T>> {
             return false;
         }
         Division<?> other = (Division<?>) compared;
-        return Objects.equals(children, other.children) && Objects.equals(label, other.label)
+        return Objects.equals(children, other.children) && Objects.equals(contentIds, other.contentIds)
+                && Objects.equals(label, other.label)
                 && Objects.equals(metadata, other.metadata)
                 && order == other.order && Objects.equals(orderlabel, other.orderlabel)
                 && Objects.equals(type, other.type);
@@ -74,7 +74,7 @@ public class MediaPartial {
 
         MediaPartial mediaPartial = (MediaPartial) o;
 
-        return Objects.equals(begin, mediaPartial.begin);
+        return Objects.equals(begin, mediaPartial.begin) && Objects.equals(extent, mediaPartial.extent);
     }
 
     @Override
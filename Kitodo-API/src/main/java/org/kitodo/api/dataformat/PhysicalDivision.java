@@ -13,7 +13,6 @@ package org.kitodo.api.dataformat;
 
 import java.net.URI;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +21,7 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.io.FilenameUtils;
 import org.kitodo.api.dataformat.mets.KitodoUUID;
+import org.kitodo.utils.CompactMap;
 
 /**
  * A tree-shaped description of the physical division of the digital representation of
@@ -51,7 +51,7 @@ public class PhysicalDivision extends Division<PhysicalDivision> {
      * Each physical division can be available in different variants, for each of which
      * a media file is available. This is in this map.
      */
-    private Map<MediaVariant, URI> mediaFiles = new HashMap<>();
+    private Map<MediaVariant, URI> mediaFiles = new CompactMap<>();
 
     private MediaPartial mediaPartial;
 
@@ -95,6 +95,15 @@ public class PhysicalDivision extends Division<PhysicalDivision> {
         return metsDivReferrerId;
     }
 
+    /**
+     * Returns the ID of div without creating one.
+     *
+     * @return the ID of div, or {@code null} if unknown
+     */
+    String getDivIdIfPresent() {
+        return metsDivReferrerId;
+    }
+
     /**
      * Set the ID of div.
      *
@@ -51,6 +51,15 @@ public class Workpiece {
      */
     private LogicalDivision logicalStructure = new LogicalDivision();
 
+    /**
+     * The sections of the METS file as they were written by the last
+     * incremental save of this workpiece. They are kept by the file format
+     * module, which does not have to serialize unchanged sections again on
+     * the next save. They are not part of the content of the workpiece, so
+     * they are neither compared nor copied.
+     */
+    private Object savedSections;
+
     /**
      * Returns the creation date of the workpiece.
      *
@@ -136,6 +145,41 @@ public class Workpiece {
         this.logicalStructure = logicalStructure;
     }
 
+    /**
+     * Returns the sections of the METS file as they were written by the last
+     * incremental save of this workpiece.
+     *
+     * @return the saved sections, or {@code null} if there are none
+     */
+    public Object getSavedSections() {
+        return savedSections;
+    }
+
+    /**
+     * Sets the sections of the METS file as they were written by the last
+     * incremental save of this workpiece. Only the file format module should
+     * call this.
+     *
+     * @param savedSections
+     *            saved sections to set
+     */
+    public void setSavedSections(Object savedSections) {
+        this.savedSections = savedSections;
+    }
+
+    /**
+     * Returns a deep copy of this workpiece. The copy shares no modifiable
+     * objects with this workpiece, so it can be kept as a snapshot of the
+     * current state while this workpiece is edited. The copy consists of
+     * instances of the classes of this API, even if this workpiece was
+     * assembled from subclasses of them.
+     *
+     * @return a deep copy of this workpiece
+     */
+    public Workpiece deepCopy() {
+        return new WorkpieceCopier().copy(this);
+    }
+
     @Override
     public String toString() {
         return id + ", " + logicalStructure;
@@ -0,0 +1,167 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.api.dataformat;
+
+import java.net.URI;
+import java.util.GregorianCalendar;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import org.kitodo.api.Metadata;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+import org.kitodo.api.dataformat.mets.LinkedMetsResource;
+
+/**
+ * Creates a deep copy of a workpiece. Objects referenced more than once in
+ * the workpiece, such as a physical division referenced by views from several
+ * logical divisions, or a media variant used by many physical divisions, are
+ * copied once, so the copy has the same shape as the original.
+ */
+class WorkpieceCopier {
+    private final Map<PhysicalDivision, PhysicalDivision> physicalDivisions = new IdentityHashMap<>();
+    private final Map<LogicalDivision, LogicalDivision> logicalDivisions = new IdentityHashMap<>();
+    private final Map<MediaVariant, MediaVariant> mediaVariants = new IdentityHashMap<>();
+
+    /**
+     * Copies a workpiece.
+     *
+     * @param workpiece
+     *            workpiece to copy
+     * @return the copy
+     */
+    Workpiece copy(Workpiece workpiece) {
+        Workpiece copy = new Workpiece();
+        GregorianCalendar creationDate = workpiece.getCreationDate();
+        copy.setCreationDate(Objects.nonNull(creationDate) ? (GregorianCalendar) creationDate.clone() : null);
+        for (ProcessingNote processingNote : workpiece.getEditHistory()) {
+            copy.getEditHistory().add(copy(processingNote));
+        }
+        copy.setId(workpiece.getId());
+        copy.setPhysicalStructure(copy(workpiece.getPhysicalStructure()));
+        copy.setLogicalStructure(copy(workpiece.getLogicalStructure()));
+        for (Entry<PhysicalDivision, PhysicalDivision> entry : physicalDivisions.entrySet()) {
+            for (LogicalDivision logicalDivision : entry.getKey().getLogicalDivisions()) {
+                LogicalDivision logicalDivisionCopy = logicalDivisions.get(logicalDivision);
+                if (Objects.nonNull(logicalDivisionCopy)) {
+                    entry.getValue().getLogicalDivisions().add(logicalDivisionCopy);
+                }
+            }
+        }
+        return copy;
+    }
+
+    private LogicalDivision copy(LogicalDivision logicalDivision) {
+        if (Objects.isNull(logicalDivision)) {
+            return null;
+        }
+        LogicalDivision copy = new LogicalDivision();
+        logicalDivisions.put(logicalDivision, copy);
+        copyDivision(logicalDivision, copy);
+        for (LogicalDivision child : logicalDivision.getChildren()) {
+            copy.getChildren().add(copy(child));
+        }
+        LinkedMetsResource link = logicalDivision.getLink();
+        if (Objects.nonNull(link)) {
+            LinkedMetsResource linkCopy = new LinkedMetsResource();
+            linkCopy.setLoctype(link.getLoctype());
+            linkCopy.setUri(link.getUri());
+            copy.setLink(linkCopy);
+        }
+        for (View view : logicalDivision.getViews()) {
+            copy.getViews().add(View.of(copy(view.getPhysicalDivision())));
+        }
+        return copy;
+    }
+
+    private PhysicalDivision copy(PhysicalDivision physicalDivision) {
+        if (Objects.isNull(physicalDivision)) {
+            return null;
+        }
+        PhysicalDivision copy = physicalDivisions.get(physicalDivision);
+        if (Objects.nonNull(copy)) {
+            return copy;
+        }
+        copy = new PhysicalDivision();
+        physicalDivisions.put(physicalDivision, copy);
+        copyDivision(physicalDivision, copy);
+        for (PhysicalDivision child : physicalDivision.getChildren()) {
+            copy.getChildren().add(copy(child));
+        }
+        for (Entry<MediaVariant, URI> entry : physicalDivision.getMediaFiles().entrySet()) {
+            copy.getMediaFiles().put(copy(entry.getKey()), entry.getValue());
+        }
+        MediaPartial mediaPartial = physicalDivision.getMediaPartial();
+        if (Objects.nonNull(mediaPartial)) {
+            copy.setMediaPartial(new MediaPartial(mediaPartial.getBegin(), mediaPartial.getExtent()));
+        }
+        copy.setDivId(physicalDivision.getDivIdIfPresent());
+        return copy;
+    }
+
+    private static Metadata copy(Metadata metadata) {
+        Metadata copy;
+        if (metadata instanceof MetadataEntry) {
+            MetadataEntry metadataEntry = new MetadataEntry();
+            metadataEntry.setValue(((MetadataEntry) metadata).getValue());
+            copy = metadataEntry;
+        } else if (metadata instanceof MetadataGroup) {
+            HashSet<Metadata> members = new HashSet<>();
+            for (Metadata member : ((MetadataGroup) metadata).getMetadata()) {
+                members.add(copy(member));
+            }
+            MetadataGroup metadataGroup = new MetadataGroup();
+            metadataGroup.setMetadata(members);
+            copy = metadataGroup;
+        } else {
+            copy = new Metadata();
+        }
+        copy.setDomain(metadata.getDomain());
+        copy.setKey(metadata.getKey());
+        return copy;
+    }
+
+    private MediaVariant copy(MediaVariant mediaVariant) {
+        if (Objects.isNull(mediaVariant)) {
+            return null;
+        }
+        return mediaVariants.computeIfAbsent(mediaVariant, original -> {
+            MediaVariant copy = new MediaVariant();
+            copy.setMimeType(original.getMimeType());
+            copy.setUse(original.getUse());
+            return copy;
+        });
+    }
+
+    private static ProcessingNote copy(ProcessingNote processingNote) {
+        ProcessingNote copy = new ProcessingNote();
+        copy.setName(processingNote.getName());
+        copy.setNote(processingNote.getNote());
+        copy.setRole(processingNote.getRole());
+        copy.setType(processingNote.getType());
+        return copy;
+    }
+
+    private static void copyDivision(Division<?> division, Division<?> copy) {
+        copy.getContentIds().addAll(division.getContentIds());
+        copy.setLabel(division.getLabel());
+        for (Metadata metadata : division.getMetadata()) {
+            copy.getMetadata().add(copy(metadata));
+        }
+        copy.setOrder(division.getOrder());
+        copy.setOrderlabel(division.getOrderlabel());
+        copy.setType(division.getType());
+    }
+}
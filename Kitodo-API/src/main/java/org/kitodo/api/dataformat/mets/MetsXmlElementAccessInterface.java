@@ -14,8 +14,12 @@ package org.kitodo.api.dataformat.mets;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collection;
+
+import javax.xml.validation.Schema;
 
 import org.kitodo.api.dataformat.Workpiece;
+import org.xml.sax.SAXException;
 
 /**
  * Interface for a service that handles access to the {@code <mets:mets>}
@@ -52,6 +56,26 @@ public interface MetsXmlElementAccessInterface {
      */
     Workpiece read(InputStream in) throws IOException;
 
+    /**
+     * Reads a METS file and validates it against a schema while reading. The
+     * file is parsed only once.
+     *
+     * @param in
+     *            open input channel for reading the file
+     * @param schema
+     *            schema to validate against, may be {@code null} to skip
+     *            validation
+     * @param validationErrors
+     *            receives the messages of all validation errors found
+     * @return the read workpiece
+     * @throws IOException
+     *             if the reading fails
+     * @throws SAXException
+     *             if the file does not contain well-formed XML
+     */
+    Workpiece read(InputStream in, Schema schema, Collection<String> validationErrors) throws IOException,
+            SAXException;
+
     /**
      * Writes the workpiece to a METS file.
      *
@@ -63,4 +87,20 @@ public interface MetsXmlElementAccessInterface {
      *             if the writing fails
      */
     void save(Workpiece workpiece, OutputStream out) throws IOException;
+
+    /**
+     * Writes the workpiece to a METS file. Only the sections of the file that
+     * have changed since the last incremental save of the same workpiece are
+     * serialized, the others are copied as they were written then. To do so,
+     * the written sections are kept with the workpiece, which is why this is
+     * meant for workpieces that are saved repeatedly while being edited.
+     *
+     * @param workpiece
+     *            workpiece to save
+     * @param out
+     *            open output channel for writing the file
+     * @throws IOException
+     *             if the writing fails
+     */
+    void saveIncrementally(Workpiece workpiece, OutputStream out) throws IOException;
 }
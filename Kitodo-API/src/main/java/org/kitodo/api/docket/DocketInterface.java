@@ -13,6 +13,7 @@ package org.kitodo.api.docket;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Collection;
 
@@ -29,6 +30,19 @@ public interface DocketInterface {
      */
     File generateDocket(DocketData docketData, URI xslFileUri) throws IOException;
 
+    /**
+     * Generates a docket from given data and writes it directly to a stream,
+     * for example the response to a download request.
+     *
+     * @param docketData
+     *            - the data shown in the docket
+     * @param xslFileUri
+     *            - the uri to the schema xsl file
+     * @param outputStream
+     *            - the stream to write the docket to
+     */
+    void generateDocket(DocketData docketData, URI xslFileUri, OutputStream outputStream) throws IOException;
+
     /**
      * Generates multiple dockets.
      *
@@ -40,6 +54,20 @@ public interface DocketInterface {
      */
     File generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri) throws IOException;
 
+    /**
+     * Generates multiple dockets and writes them as one PDF directly to a
+     * stream, for example the response to a download request.
+     *
+     * @param docketData
+     *            - a List data shown in the dockets
+     * @param xslFileUri
+     *            - the uri to the schema xsl file
+     * @param outputStream
+     *            - the stream to write the dockets to
+     */
+    void generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri, OutputStream outputStream)
+            throws IOException;
+
     /**
      * Save XML log, which is used as input for docket XSLT transformation.
      *
@@ -14,6 +14,10 @@ package org.kitodo.api.imagemanagement;
 import java.awt.Image;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.lang3.tuple.Pair;
 
 public interface ImageManagementInterface {
 
@@ -50,6 +54,32 @@ public interface ImageManagementInterface {
     boolean createDerivative(URI imageFileUri, double percent, URI resultFileUri, ImageFileFormat resultFileFormat)
             throws IOException;
 
+    /**
+     * Creates several derivatives for an image at a given path. Implementations
+     * should read and decode the source image only once for all derivatives.
+     *
+     * @param imageFileUri
+     *            the URI to the image
+     * @param derivatives
+     *            the derivatives to create. Key: the URI to save the derivative
+     *            to, value: the percentage of scaling and the format for the
+     *            derivative
+     * @return true, if creation of all derivatives was successful, false
+     *         otherwise
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    default boolean createDerivatives(URI imageFileUri, Map<URI, Pair<Double, ImageFileFormat>> derivatives)
+            throws IOException {
+        boolean successful = true;
+        for (Entry<URI, Pair<Double, ImageFileFormat>> derivative : derivatives.entrySet()) {
+            successful &= createDerivative(imageFileUri, derivative.getValue().getKey(), derivative.getKey(),
+                derivative.getValue().getValue());
+        }
+        return successful;
+    }
+
     /**
      * Changes the size (in pixel) of the image.
      *
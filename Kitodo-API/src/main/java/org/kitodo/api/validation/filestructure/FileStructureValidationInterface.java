@@ -15,6 +15,9 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Collection;
 
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
+
 import org.kitodo.api.validation.ValidationInterface;
 import org.kitodo.api.validation.ValidationResult;
 import org.xml.sax.SAXException;
@@ -67,4 +70,36 @@ public interface FileStructureValidationInterface extends ValidationInterface {
      */
     ValidationResult validate(String xmlString, URI xsdFileUri) throws SAXException, IOException;
 
+    /**
+     * Validates XML read from a source, for example a stream, against xsd
+     * files at the given locations. This avoids loading the XML into a String
+     * first.
+     *
+     * @param xmlSource
+     *            source of the XML content to validate.
+     * @param xsdFiles
+     *            Collection of URIs pointing to the schema files to validate against.
+     * @return A ValidationResult, with result boolean and resultMessages.
+     * @throws SAXException
+     *          when initializing the XML validator fails.
+     * @throws IOException
+     *          when XML validator throws an IOException during validation.
+     */
+    ValidationResult validate(Source xmlSource, Collection<URI> xsdFiles) throws IOException, SAXException;
+
+    /**
+     * Returns the compiled schema for the xsd files at the given locations.
+     * The schema can be used to validate XML while it is being parsed. The
+     * compiled schema is thread-safe and may be shared; implementations may
+     * return the same instance for the same schema files as long as they have
+     * not been changed.
+     *
+     * @param xsdFiles
+     *            Collection of URIs pointing to the schema files.
+     * @return the compiled schema
+     * @throws SAXException
+     *          when compiling the schema fails.
+     */
+    Schema getSchema(Collection<URI> xsdFiles) throws SAXException;
+
 }
@@ -0,0 +1,105 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.api.validation.metadata;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.kitodo.api.dataformat.Division;
+import org.kitodo.api.validation.ValidationResult;
+
+/**
+ * Remembers the results of the metadata validation of the divisions of one
+ * workpiece, for example during an editing session. When the workpiece is
+ * validated again, only the divisions that have changed since need to be
+ * validated. The divisions are told apart by identity. Each result is stored
+ * with a fingerprint of everything it depends on, which is created by the
+ * metadata validation.
+ */
+public class MetadataValidationCache {
+    private Map<Division<?>, CachedResults> results = new IdentityHashMap<>();
+
+    /**
+     * Validation results of a division, and the fingerprint of the division
+     * at the time they were created.
+     */
+    private static class CachedResults {
+        private final Object fingerprint;
+        private final Collection<ValidationResult> results;
+
+        CachedResults(Object fingerprint, Collection<ValidationResult> results) {
+            this.fingerprint = fingerprint;
+            this.results = results;
+        }
+    }
+
+    /**
+     * Returns the remembered validation results of a division, if the
+     * division has not changed since.
+     *
+     * @param division
+     *            division whose results are requested
+     * @param fingerprint
+     *            current fingerprint of the division
+     * @return the validation results, or an empty optional if the division
+     *         must be validated
+     */
+    public synchronized Optional<Collection<ValidationResult>> getResults(Division<?> division, Object fingerprint) {
+        CachedResults cachedResults = results.get(division);
+        if (Objects.nonNull(cachedResults) && cachedResults.fingerprint.equals(fingerprint)) {
+            return Optional.of(cachedResults.results);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Replaces the remembered validation results with the results of a
+     * validation of the whole workpiece. Results of divisions which are no
+     * longer part of the workpiece are forgotten.
+     *
+     * @param divisions
+     *            validated divisions
+     * @param fingerprints
+     *            fingerprints of the divisions, in the same order
+     * @param divisionResults
+     *            validation results of the divisions, in the same order
+     */
+    public synchronized void setResults(List<? extends Division<?>> divisions, List<?> fingerprints,
+            List<Collection<ValidationResult>> divisionResults) {
+        Map<Division<?>, CachedResults> newResults = new IdentityHashMap<>(divisions.size());
+        for (int i = 0; i < divisions.size(); i++) {
+            newResults.put(divisions.get(i), new CachedResults(fingerprints.get(i), divisionResults.get(i)));
+        }
+        results = newResults;
+    }
+
+    /**
+     * Forgets all remembered validation results.
+     */
+    public synchronized void clear() {
+        results = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns the number of divisions whose validation results are
+     * remembered.
+     *
+     * @return the number of divisions
+     */
+    public synchronized int size() {
+        return results.size();
+    }
+}
@@ -73,4 +73,31 @@ public interface MetadataValidationInterface extends ValidationInterface {
      */
     ValidationResult validate(Workpiece workpiece, RulesetManagementInterface ruleset,
             List<LanguageRange> metadataLanguage, Map<String, String> translations, boolean checkMedia);
+
+    /**
+     * Validates if a workpiece is confirm to a ruleset. Divisions which have
+     * not changed since the last validation with the same cache are not
+     * validated again; their remembered results are used.
+     *
+     * @param workpiece
+     *            The workpiece which should be validated.
+     * @param ruleset
+     *            The ruleset to validate against.
+     * @param metadataLanguage
+     *            The list of languages preferred by the requesting user to
+     *            display the metadata labels
+     * @param translations
+     *            A map containing the validation error messages translated into
+     *            the requesting user’s language. See above for the required
+     *            entries.
+     * @param checkMedia
+     *            whether to check for missing or unlinked media
+     * @param cache
+     *            the validation results of the previous validation of this
+     *            workpiece. It is updated with the results of this validation.
+     * @return A validation result.
+     */
+    ValidationResult validate(Workpiece workpiece, RulesetManagementInterface ruleset,
+            List<LanguageRange> metadataLanguage, Map<String, String> translations, boolean checkMedia,
+            MetadataValidationCache cache);
 }
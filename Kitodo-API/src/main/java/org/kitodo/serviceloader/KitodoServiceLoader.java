@@ -27,13 +27,11 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
-import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -49,28 +47,6 @@ public class KitodoServiceLoader<T> {
     private Class<T> clazz;
     private String modulePath = "";
 
-    /**
-     * <p>The class loader chain keeps track of the respective newest class loader
-     * created for loading new jar files. Previously loaded jar files are
-     * found by delegating requests to each parent class loader, and finally,
-     * to the webapp and system class loader. See:</p>
-     *
-     * <p>http://tomcat.apache.org/tomcat-9.0-doc/class-loader-howto.html</p>
-     *
-     * <p>Module/Plugin classes loaded from jar files can only be accessed through
-     * this class loader.</p>
-     *
-     * <p>In the future, a refresh mechanism could be implemented by throwing away
-     * this chain, starting a new one and reloading all jars.</p>
-     */
-    private static ClassLoader classLoaderChain = Thread.currentThread().getContextClassLoader();
-
-    /**
-     * Already loaded jars are remembered by their file path, and thus, not
-     * loaded multiple times during runtime.
-     */
-    private static final Set<String> loadedJars = new HashSet<>();
-
     private static final String POM_PROPERTIES_FILE = "pom.properties";
     private static final String ARTIFACT_ID_PROPERTY = "artifactId";
     private static final String TEMP_DIR_PREFIX = "kitodo_";
@@ -102,13 +78,23 @@ public class KitodoServiceLoader<T> {
         }
     }
 
-    private ServiceLoader<T> getClassLoader() {
-        loadModulesIntoClasspath();
-        loadBeans();
-        loadFrontendFilesIntoCore();
-        // services and their classes need to be loaded from the class loader
-        // chain instead of the default class loader
-        return ServiceLoader.load(clazz, KitodoServiceLoader.classLoaderChain);
+    /**
+     * Returns the providers of the modules implementing the constructed clazz.
+     * The modules directory is only scanned again by the module registry if
+     * its content has changed. Beans and frontend files of the modules are
+     * loaded into the core once, when the modules have been loaded and a
+     * faces context is available.
+     *
+     * @return the providers of the modules
+     */
+    private List<ServiceLoader.Provider<T>> getProviders() {
+        ModuleRegistry.refresh(modulePath);
+        if (ModuleRegistry.isFrontendFilesLoadingRequired() && Objects.nonNull(FacesContext.getCurrentInstance())) {
+            loadBeans();
+            loadFrontendFilesIntoCore();
+            ModuleRegistry.setFrontendFilesLoaded();
+        }
+        return ModuleRegistry.getProviders(clazz);
     }
 
     /**
@@ -118,12 +104,11 @@ public class KitodoServiceLoader<T> {
      * @return A module with type T.
      */
     public T loadModule() {
-        ServiceLoader<T> loader = getClassLoader();
-        Iterator<T> loaderIterator = loader.iterator();
-        if (!loaderIterator.hasNext()) {
+        List<ServiceLoader.Provider<T>> providers = getProviders();
+        if (providers.isEmpty()) {
             logger.error("Couldn't find a module for {}!", clazz);
         }
-        return loaderIterator.next();
+        return providers.getFirst().get();
     }
 
     /**
@@ -131,9 +116,10 @@ public class KitodoServiceLoader<T> {
      * @return List of modules with type T
      */
     public List<T> loadModules() {
-        ServiceLoader<T> loader = getClassLoader();
         LinkedList<T> modules = new LinkedList<>();
-        loader.iterator().forEachRemaining(modules::add);
+        for (ServiceLoader.Provider<T> provider : getProviders()) {
+            modules.add(provider.get());
+        }
         return modules;
     }
 
@@ -363,56 +349,4 @@ public class KitodoServiceLoader<T> {
         throw new FileNotFoundException(
                 "ERROR: file '" + name + "' not found in folder '" + folder.getAbsolutePath() + "'!");
     }
-
-    /**
-     * <p>Loads jars from the modules directory by creating a separate class
-     * loader each time jars are loaded, connected in a chain of class loaders
-     * through their parent relationship.
-     * A ServiceLoader can find them when using the most recent class loader
-     * added to the chain of class loaders.</p>
-     *
-     * <p>If used inappropriately, this may lead to unexpected behaviour, e.g.,
-     * when referring to the same singleton from multiple modules, since
-     * classes could be loaded twice.</p>
-     *
-     * <p>If several modules depend on each other (load classes from another
-     * module), both modules have to be present at the same time when loading
-     * happens. Otherwise, the order at which jars are loaded could break
-     * things, since new classes will not be visible to jars loaded by an
-     * earlier class loader created at an earlier time.</p>
-     */
-    private void loadModulesIntoClasspath() {
-        Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
-
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
-
-            // collect urls of new jars present in the module directory
-            Set<URL> jarsToBeAdded = new HashSet<>();
-            for (Path f : stream) {
-
-                File loc = new File(f.toString());
-                URL url = loc.toURI().toURL();
-
-                if (!KitodoServiceLoader.loadedJars.contains(url.toString())) {
-                    jarsToBeAdded.add(url);
-                }
-            }
-
-            // create a single URL class loader with all jars
-            // such that plugins can load classes from each other
-            if (!jarsToBeAdded.isEmpty()) {
-
-                for (URL url : jarsToBeAdded) {
-                    logger.info("Loading module jar file from path " + url.toString());
-                    KitodoServiceLoader.loadedJars.add(url.toString());
-                }
-                URL[] urls = new URL[jarsToBeAdded.size()];
-                jarsToBeAdded.toArray(urls);
-                classLoaderChain = new URLClassLoader(urls, KitodoServiceLoader.classLoaderChain);
-            }
-        } catch (IOException e) {
-            logger.error(ERROR, e.getMessage());
-        }
-    }
-
 }
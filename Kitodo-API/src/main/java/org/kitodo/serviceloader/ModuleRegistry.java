@@ -0,0 +1,205 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.serviceloader;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keeps track of the module jar files loaded from the modules directory. The
+ * directory is only scanned again if its modification time has changed, which
+ * happens when jar files are added or removed. To keep lookups cheap, the
+ * modification time is checked at most once per second. The service providers
+ * found in the modules are cached per interface, so that looking up a module
+ * does not access the file system.
+ */
+final class ModuleRegistry {
+    private static final Logger logger = LogManager.getLogger(ModuleRegistry.class);
+
+    private static final long CHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final String JAR = "*.jar";
+
+    /**
+     * <p>The class loader chain keeps track of the respective newest class loader
+     * created for loading new jar files. Previously loaded jar files are
+     * found by delegating requests to each parent class loader, and finally,
+     * to the webapp and system class loader. See:</p>
+     *
+     * <p>http://tomcat.apache.org/tomcat-9.0-doc/class-loader-howto.html</p>
+     *
+     * <p>Module/Plugin classes loaded from jar files can only be accessed through
+     * this class loader.</p>
+     */
+    private static ClassLoader classLoaderChain = Thread.currentThread().getContextClassLoader();
+
+    /**
+     * Already loaded jars are remembered by their file path, and thus, not
+     * loaded multiple times during runtime.
+     */
+    private static final Set<String> loadedJars = new HashSet<>();
+
+    private static final Map<Class<?>, List<? extends Provider<?>>> providers = new ConcurrentHashMap<>();
+
+    private static volatile String scannedDirectory;
+    private static volatile long scannedDirectoryModified;
+    private static volatile long nextCheck = System.nanoTime();
+    private static volatile boolean frontendFilesLoaded;
+
+    private ModuleRegistry() {
+    }
+
+    /**
+     * Makes sure the module jar files in the given directory are loaded. The
+     * directory is only accessed if it has not been checked within the last
+     * second.
+     *
+     * @param modulePath
+     *            path to the modules directory
+     */
+    static void refresh(String modulePath) {
+        if (modulePath.equals(scannedDirectory) && System.nanoTime() - nextCheck < 0) {
+            return;
+        }
+        synchronized (ModuleRegistry.class) {
+            long modified = new File(modulePath).lastModified();
+            if (!modulePath.equals(scannedDirectory) || modified != scannedDirectoryModified) {
+                if (loadModulesIntoClasspath(modulePath)) {
+                    providers.clear();
+                    frontendFilesLoaded = false;
+                }
+                scannedDirectory = modulePath;
+                scannedDirectoryModified = modified;
+            }
+            nextCheck = System.nanoTime() + CHECK_INTERVAL_NANOS;
+        }
+    }
+
+    /**
+     * Returns the service providers for an interface found in the loaded
+     * modules. The providers are cached until new module jar files are
+     * loaded.
+     *
+     * @param clazz
+     *            interface class of the module
+     * @return the providers, in the order the {@link ServiceLoader} finds them
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<Provider<T>> getProviders(Class<T> clazz) {
+        List<? extends Provider<?>> found = providers.get(clazz);
+        if (Objects.nonNull(found)) {
+            return (List<Provider<T>>) found;
+        }
+        // loaded and stored under the class lock, so that refresh() cannot
+        // clear the cache in between; the lock must not be taken inside a
+        // mapping function of the map, as refresh() clears it holding the lock
+        synchronized (ModuleRegistry.class) {
+            // services and their classes need to be loaded from the class loader
+            // chain instead of the default class loader
+            List<Provider<T>> loaded = ServiceLoader.load(clazz, classLoaderChain).stream().toList();
+            found = providers.putIfAbsent(clazz, loaded);
+            return Objects.nonNull(found) ? (List<Provider<T>>) found : loaded;
+        }
+    }
+
+    /**
+     * Returns whether the frontend files of the modules have to be loaded
+     * into the core, because this has not happened since the modules were
+     * loaded.
+     *
+     * @return whether the frontend files have to be loaded
+     */
+    static boolean isFrontendFilesLoadingRequired() {
+        return !frontendFilesLoaded;
+    }
+
+    /**
+     * Records that the frontend files of the modules have been loaded into the
+     * core.
+     */
+    static void setFrontendFilesLoaded() {
+        frontendFilesLoaded = true;
+    }
+
+    /**
+     * <p>Loads jars from the modules directory by creating a separate class
+     * loader each time jars are loaded, connected in a chain of class loaders
+     * through their parent relationship.
+     * A ServiceLoader can find them when using the most recent class loader
+     * added to the chain of class loaders.</p>
+     *
+     * <p>If used inappropriately, this may lead to unexpected behaviour, e.g.,
+     * when referring to the same singleton from multiple modules, since
+     * classes could be loaded twice.</p>
+     *
+     * <p>If several modules depend on each other (load classes from another
+     * module), both modules have to be present at the same time when loading
+     * happens. Otherwise, the order at which jars are loaded could break
+     * things, since new classes will not be visible to jars loaded by an
+     * earlier class loader created at an earlier time.</p>
+     *
+     * @return whether new jars were loaded
+     */
+    private static boolean loadModulesIntoClasspath(String modulePath) {
+        Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
+        if (!Files.isDirectory(moduleFolder)) {
+            logger.error("Specified module folder does not exist: {}", moduleFolder.toAbsolutePath());
+            return false;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
+
+            // collect urls of new jars present in the module directory
+            List<URL> jarsToBeAdded = new ArrayList<>();
+            for (Path f : stream) {
+                URL url = f.toFile().toURI().toURL();
+                if (!loadedJars.contains(url.toString())) {
+                    jarsToBeAdded.add(url);
+                }
+            }
+
+            // create a single URL class loader with all jars
+            // such that plugins can load classes from each other
+            if (jarsToBeAdded.isEmpty()) {
+                return false;
+            }
+            for (URL url : jarsToBeAdded) {
+                logger.info("Loading module jar file from path {}", url);
+                loadedJars.add(url.toString());
+            }
+            classLoaderChain = new URLClassLoader(jarsToBeAdded.toArray(new URL[0]), classLoaderChain);
+            return true;
+        } catch (IOException e) {
+            logger.error("Classpath could not be accessed", e);
+            return false;
+        }
+    }
+
+}
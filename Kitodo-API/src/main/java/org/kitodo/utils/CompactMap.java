@@ -0,0 +1,239 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map for few entries, which stores its keys and values alternately in one
+ * array. Keys are found by linear search. Compared to a hash map, it does not
+ * need an object per entry and a hash table, so it takes a fraction of the
+ * memory. The entries are iterated in the order in which they were added.
+ *
+ * <p>
+ * Use it where there are many small maps, such as the media files of the
+ * pages of a workpiece. For more than a handful of entries, use a hash map.
+ *
+ * @param <K>
+ *            type of keys
+ * @param <V>
+ *            type of values
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V> {
+    private static final Object[] EMPTY = {};
+
+    /**
+     * Keys at even indexes, each followed by its value.
+     */
+    private Object[] keysAndValues;
+    private int size;
+    private int modCount;
+
+    /**
+     * Creates an empty map.
+     */
+    public CompactMap() {
+        keysAndValues = EMPTY;
+    }
+
+    /**
+     * Creates an empty map with room for a number of entries.
+     *
+     * @param expectedSize
+     *            number of entries expected
+     */
+    public CompactMap(int expectedSize) {
+        keysAndValues = expectedSize > 0 ? new Object[2 * expectedSize] : EMPTY;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? (V) keysAndValues[index + 1] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            V previous = (V) keysAndValues[index + 1];
+            keysAndValues[index + 1] = value;
+            return previous;
+        }
+        if (2 * size == keysAndValues.length) {
+            keysAndValues = Arrays.copyOf(keysAndValues, Math.max(4, 2 * keysAndValues.length));
+        }
+        keysAndValues[2 * size] = key;
+        keysAndValues[2 * size + 1] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) keysAndValues[index + 1];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keysAndValues, 0, 2 * size, null);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int index = 0; index < 2 * size; index += 2) {
+            if (Objects.equals(keysAndValues[index], key)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(keysAndValues, index + 2, keysAndValues, index, 2 * size - index - 2);
+        size--;
+        keysAndValues[2 * size] = null;
+        keysAndValues[2 * size + 1] = null;
+        modCount++;
+    }
+
+    /**
+     * Iterates over the entries of the map.
+     */
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < 2 * size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next += 2;
+            return new CompactEntry(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(current);
+            next = current;
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * An entry of the map. Setting the value writes through to the map.
+     */
+    private class CompactEntry implements Entry<K, V> {
+        private final int index;
+
+        CompactEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) keysAndValues[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) keysAndValues[index + 1];
+        }
+
+        @Override
+        public V setValue(V value) {
+            V previous = getValue();
+            keysAndValues[index + 1] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Map.Entry<?, ?> entry && Objects.equals(getKey(), entry.getKey())
+                    && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.api.dataformat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+import org.kitodo.api.MdSec;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+
+public class WorkpieceTest {
+
+    /**
+     * Tests the method {@code Workpiece.deepCopy()}.
+     */
+    @Test
+    public void deepCopyTest() {
+        Workpiece workpiece = new Workpiece();
+        workpiece.setId("1");
+        MediaVariant local = new MediaVariant();
+        local.setUse("LOCAL");
+        local.setMimeType("image/tiff");
+        for (int order = 1; order <= 2; order++) {
+            PhysicalDivision page = new PhysicalDivision();
+            page.setType(PhysicalDivision.TYPE_PAGE);
+            page.setOrder(order);
+            page.getMediaFiles().put(local, URI.create("images/0" + order + ".tif"));
+            workpiece.getPhysicalStructure().getChildren().add(page);
+        }
+        LogicalDivision chapter = new LogicalDivision();
+        chapter.setType("Chapter");
+        MetadataEntry title = new MetadataEntry();
+        title.setKey("TitleDocMain");
+        title.setValue("Chapter 1");
+        MetadataGroup person = new MetadataGroup();
+        person.setKey("Person");
+        person.setDomain(MdSec.DMD_SEC);
+        person.getMetadata().add(title);
+        chapter.getMetadata().add(title);
+        chapter.getMetadata().add(person);
+        for (PhysicalDivision page : workpiece.getPhysicalStructure().getChildren()) {
+            chapter.getViews().add(View.of(page));
+            page.getLogicalDivisions().add(chapter);
+        }
+        workpiece.getLogicalStructure().getChildren().add(chapter);
+
+        Workpiece copy = workpiece.deepCopy();
+
+        assertEquals(workpiece, copy);
+        LogicalDivision chapterCopy = copy.getLogicalStructure().getChildren().get(0);
+        PhysicalDivision firstPageCopy = copy.getPhysicalStructure().getChildren().get(0);
+        assertNotSame(chapter, chapterCopy);
+        assertSame(firstPageCopy, chapterCopy.getViews().getFirst().getPhysicalDivision());
+        assertSame(chapterCopy, firstPageCopy.getLogicalDivisions().get(0));
+        MediaVariant localCopy = firstPageCopy.getMediaFiles().keySet().iterator().next();
+        assertNotSame(local, localCopy);
+        assertSame(localCopy, copy.getPhysicalStructure().getChildren().get(1).getMediaFiles().keySet().iterator()
+                .next());
+
+        title.setValue("Chapter one");
+        assertNotEquals(workpiece, copy);
+    }
+
+    /**
+     * Tests that {@code Workpiece.equals()} recognizes changes to content IDs
+     * and media partials, as it is used to find out whether a workpiece must
+     * be saved.
+     */
+    @Test
+    public void equalsRecognizesChangesTest() {
+        Workpiece workpiece = new Workpiece();
+        PhysicalDivision track = new PhysicalDivision();
+        track.setMediaPartial(new MediaPartial("00:00:00", "00:01:00"));
+        workpiece.getPhysicalStructure().getChildren().add(track);
+
+        Workpiece copy = workpiece.deepCopy();
+        workpiece.getLogicalStructure().getContentIds().add(URI.create("https://example.org/1"));
+        assertNotEquals(workpiece, copy);
+
+        copy = workpiece.deepCopy();
+        track.getMediaPartial().setExtent("00:02:00");
+        assertNotEquals(workpiece, copy);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.jupiter.api.Test;
+
+class CompactMapTest {
+    @Test
+    void shouldBehaveLikeHashMap() {
+        Map<String, Integer> compactMap = new CompactMap<>(2);
+        Map<String, Integer> hashMap = new HashMap<>();
+        for (Map<String, Integer> map : List.of(compactMap, hashMap)) {
+            map.put("LOCAL", 1);
+            map.put("MAX", 2);
+            map.put("THUMBS", 3);
+            map.put("MAX", 4);
+            map.remove("LOCAL");
+            map.put(null, 5);
+        }
+        assertEquals(hashMap, compactMap, "should contain the same entries");
+        assertEquals(compactMap, hashMap, "should be equal to a hash map");
+        assertEquals(hashMap.hashCode(), compactMap.hashCode(), "should have the same hash code");
+        assertEquals(4, compactMap.get("MAX"), "should return the replaced value");
+        assertEquals(5, compactMap.get(null), "should allow null keys");
+        assertNull(compactMap.get("LOCAL"), "should not return removed entries");
+    }
+
+    @Test
+    void shouldIterateInInsertionOrder() {
+        Map<String, Integer> map = new CompactMap<>();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        assertEquals(List.of("c", "a", "b"), List.copyOf(map.keySet()), "should keep insertion order");
+    }
+
+    @Test
+    void shouldRemoveAndSetThroughIterator() {
+        Map<String, Integer> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        for (Iterator<Entry<String, Integer>> iterator = map.entrySet().iterator(); iterator.hasNext();) {
+            Entry<String, Integer> entry = iterator.next();
+            if (entry.getKey().equals("b")) {
+                iterator.remove();
+            } else {
+                entry.setValue(entry.getValue() * 10);
+            }
+        }
+        assertEquals(Map.of("a", 10, "c", 30), map, "should write through the iterator");
+        assertFalse(map.containsKey("b"), "should have removed the entry");
+    }
+
+    @Test
+    void shouldDetectConcurrentModification() {
+        Map<String, Integer> map = new CompactMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put("c", 3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
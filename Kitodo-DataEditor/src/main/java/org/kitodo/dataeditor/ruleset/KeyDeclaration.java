@@ -134,8 +134,7 @@ class KeyDeclaration extends Labeled {
      */
     KeyDeclaration getSubkeyDeclaration(String keyId) {
         if (optionalKey.isPresent()) {
-            Optional<Key> keyInKey = optionalKey.get().getKeys().parallelStream()
-                    .filter(key -> keyId.equals(key.getId())).findAny();
+            Optional<Key> keyInKey = optionalKey.get().getKey(keyId);
             if (keyInKey.isPresent()) {
                 return new KeyDeclaration(ruleset, keyInKey.get());
             }
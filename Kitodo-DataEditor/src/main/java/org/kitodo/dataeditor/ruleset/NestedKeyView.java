@@ -464,10 +464,7 @@ class NestedKeyView<D extends KeyDeclaration> extends AbstractKeyView<D> impleme
     }
 
     private AuxiliaryTableRow retrieveOrCompute(String keyId) {
-        Optional<KeyDeclaration> optionalKeyDeclaration = super.declaration.getKeyDeclarations().parallelStream()
-                .filter(childKeyDeclaration -> keyId.equals(childKeyDeclaration.getId())).findAny();
-        KeyDeclaration keyDeclaration = optionalKeyDeclaration.orElseGet(() -> new KeyDeclaration(ruleset, keyId));
-        return new AuxiliaryTableRow(keyDeclaration, settings);
+        return new AuxiliaryTableRow(super.declaration.getSubkeyDeclaration(keyId), settings);
     }
 
     @Override
@@ -154,7 +154,7 @@ public class Rule {
     Rule getRuleForKey(String keyId, boolean division) {
         Rule permitRuleForKey = optionalRestrictivePermit.isPresent()
                 ? new Rule(ruleset,
-                        optionalRestrictivePermit.get().getPermits().parallelStream()
+                        optionalRestrictivePermit.get().getPermits().stream()
                                 .filter(rule -> keyId.equals(rule.getKey().orElse(null))).findAny())
                 : new Rule(ruleset, Optional.empty());
         if (division) {
@@ -23,10 +23,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import jakarta.xml.bind.JAXBException;
 
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.Metadata;
@@ -66,6 +69,29 @@ public class RulesetManagement implements RulesetManagementInterface {
      */
     private Ruleset ruleset;
 
+    /**
+     * The files read when loading the ruleset.
+     */
+    private final List<File> files = new ArrayList<>();
+
+    /**
+     * Views on divisions that have already been created, by division ID,
+     * acquisition stage and priority list. Views do not change once they are
+     * created, so they can be handed out repeatedly.
+     */
+    private final Map<Triple<String, String, List<LanguageRange>>, StructuralElementViewInterface> divisionViews
+            = new ConcurrentHashMap<>();
+
+    /**
+     * Views on keys that have already been created, by key ID, acquisition
+     * stage and priority list.
+     */
+    private final Map<Triple<String, String, List<LanguageRange>>, MetadataViewInterface> keyViews
+            = new ConcurrentHashMap<>();
+
+    private final LongAdder viewCacheHits = new LongAdder();
+    private final LongAdder viewCacheMisses = new LongAdder();
+
     /**
      * Returns the acquisition levels defined in this rule set. This function
      * was not parallelized to repeatedly serve JSF in the same order when the
@@ -173,11 +199,20 @@ public class RulesetManagement implements RulesetManagementInterface {
     @Override
     public StructuralElementViewInterface getStructuralElementView(String divisionId, String acquisitionStage,
             List<LanguageRange> priorityList) {
-
+        Triple<String, String, List<LanguageRange>> viewKey = Triple.of(divisionId, acquisitionStage,
+            List.copyOf(priorityList));
+        StructuralElementViewInterface divisionView = divisionViews.get(viewKey);
+        if (Objects.nonNull(divisionView)) {
+            viewCacheHits.increment();
+            return divisionView;
+        }
+        viewCacheMisses.increment();
         Optional<Division> division = ruleset.getDivision(divisionId);
         DivisionDeclaration divisionDeclaration = division.isPresent() ? new DivisionDeclaration(ruleset, division.get())
                 : new DivisionDeclaration(ruleset, divisionId);
-        return new DivisionView(ruleset, divisionDeclaration, acquisitionStage, priorityList);
+        divisionView = new DivisionView(ruleset, divisionDeclaration, acquisitionStage, viewKey.getRight());
+        divisionViews.putIfAbsent(viewKey, divisionView);
+        return divisionView;
     }
 
     /**
@@ -193,15 +228,57 @@ public class RulesetManagement implements RulesetManagementInterface {
      */
     @Override
     public MetadataViewInterface getMetadataView(String keyId, String acquisitionStage, List<LanguageRange> priorityList) {
+        Triple<String, String, List<LanguageRange>> viewKey = Triple.of(keyId, acquisitionStage,
+            List.copyOf(priorityList));
+        MetadataViewInterface keyView = keyViews.get(viewKey);
+        if (Objects.nonNull(keyView)) {
+            viewCacheHits.increment();
+            return keyView;
+        }
+        viewCacheMisses.increment();
         Optional<Key> key = ruleset.getKey(keyId);
         KeyDeclaration keyDeclaration = key.map(value -> new KeyDeclaration(ruleset, value))
                 .orElseGet(() -> new KeyDeclaration(ruleset, keyId));
         Rule rule = ruleset.getRuleForKey(keyId);
         if (keyDeclaration.isComplex()) {
-            return new NestedKeyView<>(ruleset, keyDeclaration, rule, ruleset.getSettings(acquisitionStage), priorityList);
+            keyView = new NestedKeyView<>(ruleset, keyDeclaration, rule, ruleset.getSettings(acquisitionStage),
+                    viewKey.getRight());
         } else {
-            return new KeyView(keyDeclaration, rule, ruleset.getSettings(acquisitionStage), priorityList);
+            keyView = new KeyView(keyDeclaration, rule, ruleset.getSettings(acquisitionStage), viewKey.getRight());
         }
+        keyViews.putIfAbsent(viewKey, keyView);
+        return keyView;
+    }
+
+    /**
+     * Returns how often a view on a division or key was requested that had
+     * been created before.
+     *
+     * @return the number of view cache hits
+     */
+    @Override
+    public long getViewCacheHits() {
+        return viewCacheHits.sum();
+    }
+
+    /**
+     * Returns how often a view on a division or key had to be created.
+     *
+     * @return the number of view cache misses
+     */
+    @Override
+    public long getViewCacheMisses() {
+        return viewCacheMisses.sum();
+    }
+
+    /**
+     * Returns the number of views on divisions and keys kept.
+     *
+     * @return the number of views kept
+     */
+    @Override
+    public int getViewCacheSize() {
+        return divisionViews.size() + keyViews.size();
     }
 
     /**
@@ -244,8 +321,17 @@ public class RulesetManagement implements RulesetManagementInterface {
      */
     @Override
     public void load(File rulesetFile) throws IOException {
+        files.clear();
+        divisionViews.clear();
+        keyViews.clear();
         this.ruleset = read(rulesetFile);
         initializeNamespaces(ruleset.getKeys(), rulesetFile.getParentFile());
+        ruleset.createIndex();
+    }
+
+    @Override
+    public Collection<File> getFiles() {
+        return Collections.unmodifiableList(files);
     }
 
     /**
@@ -265,6 +351,7 @@ public class RulesetManagement implements RulesetManagementInterface {
                 String namespaceURI = optionalNamespace.get();
                 File file = new File(home, namespaceURI.replaceFirst("^.*?/([^/]*?)[#/]?$", "$1").concat(".xml"));
                 if (file.isFile()) {
+                    files.add(file);
                     try {
                         Namespace namespace = read(Namespace.class, file);
                         if (namespace.isAbout(namespaceURI)) {
@@ -288,11 +375,13 @@ public class RulesetManagement implements RulesetManagementInterface {
         }
     }
 
-    private static Ruleset read(File rulesetFile) throws IOException {
+    private Ruleset read(File rulesetFile) throws IOException {
         Ruleset result = new Ruleset();
+        files.add(rulesetFile);
         Ruleset base = read(Ruleset.class, rulesetFile);
         for (String include : base.getIncludes()) {
             File includedFile = new File(rulesetFile.getParentFile(), include);
+            files.add(includedFile);
             Ruleset included = read(Ruleset.class, includedFile);
             result.addAll(included);
         }
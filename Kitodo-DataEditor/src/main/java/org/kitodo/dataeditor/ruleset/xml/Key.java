@@ -13,8 +13,10 @@ package org.kitodo.dataeditor.ruleset.xml;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -85,6 +87,11 @@ public class Key {
     @XmlElement(name = "key", namespace = "http://names.kitodo.org/ruleset/v2")
     private List<Key> keys = new LinkedList<>();
 
+    /**
+     * The keys in the key by their IDs. Created when first needed.
+     */
+    private transient volatile Map<String, Key> keysById;
+
     /**
      * Returns the domain of the key.
      *
@@ -132,6 +139,25 @@ public class Key {
         return keys;
     }
 
+    /**
+     * Returns a key in the key by its ID.
+     *
+     * @param keyId
+     *            ID of the key in the key
+     * @return the key in the key, if any
+     */
+    public Optional<Key> getKey(String keyId) {
+        Map<String, Key> currentKeysById = keysById;
+        if (Objects.isNull(currentKeysById)) {
+            currentKeysById = new HashMap<>();
+            for (Key key : keys) {
+                currentKeysById.putIfAbsent(key.getId(), key);
+            }
+            keysById = currentKeysById;
+        }
+        return Optional.ofNullable(currentKeysById.get(keyId));
+    }
+
     /**
      * Returns the slats.
      *
@@ -244,5 +270,6 @@ public class Key {
      */
     public void setKeys(List<Key> keys) {
         this.keys = keys;
+        this.keysById = null;
     }
 }
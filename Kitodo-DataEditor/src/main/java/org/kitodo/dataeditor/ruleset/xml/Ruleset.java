@@ -14,6 +14,7 @@ package org.kitodo.dataeditor.ruleset.xml;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
@@ -74,6 +75,47 @@ public class Ruleset {
 
     private transient List<Key> keys;
 
+    /**
+     * Index for looking up keys, divisions and restrictions by ID. It is
+     * created when it is first needed, or explicitly once the ruleset is
+     * loaded completely.
+     */
+    private transient volatile Index index;
+
+    /**
+     * Maps the IDs of keys, divisions and the targets of restrictions to their
+     * definitions. If an ID is defined more than once, the first definition
+     * wins, just as it did when the lists were searched. The fictitious
+     * ruleset key is kept here, too, so that its index of keys is shared.
+     */
+    private static class Index {
+        private final Map<String, Key> keys = new HashMap<>();
+        private final Map<String, Division> divisions = new HashMap<>();
+        private final Map<String, RestrictivePermit> keyRestrictions = new HashMap<>();
+        private final Map<String, RestrictivePermit> divisionRestrictions = new HashMap<>();
+        private final Key fictiousRulesetKey = new Key();
+
+        Index(DeclarationElement declaration, List<RestrictivePermit> restrictions) {
+            fictiousRulesetKey.setKeys(declaration.getKeys());
+            for (Key key : declaration.getKeys()) {
+                keys.putIfAbsent(key.getId(), key);
+            }
+            for (Division division : declaration.getDivisions()) {
+                divisions.putIfAbsent(division.getId(), division);
+            }
+            for (Division division : declaration.getDivisions()) {
+                for (Division subdivision : division.getDivisions()) {
+                    divisions.putIfAbsent(subdivision.getId(), subdivision);
+                }
+            }
+            for (RestrictivePermit restriction : restrictions) {
+                restriction.getKey().ifPresent(key -> keyRestrictions.putIfAbsent(key, restriction));
+                restriction.getDivision().ifPresent(division -> divisionRestrictions.putIfAbsent(division,
+                    restriction));
+            }
+        }
+    }
+
     /**
      * Inserts all information from another ruleset into this ruleset. Information
      * of the same name will be overwritten.
@@ -81,6 +123,7 @@ public class Ruleset {
      * @param other ruleset to insert
      */
     public void addAll(Ruleset other) {
+        index = null;
         if (Objects.nonNull(other.declaration)) {
             if (Objects.isNull(declaration)) {
                 declaration = other.declaration;
@@ -172,14 +215,7 @@ public class Ruleset {
      * @return the division, if there is one
      */
     public Optional<Division> getDivision(String id) {
-        Optional<Division> optionalDivision = declaration.getDivisions().parallelStream()
-                .filter(division -> division.getId().equals(id)).findFirst();
-        if (optionalDivision.isPresent()) {
-            return optionalDivision;
-        } else {
-            return this.getDivisions().parallelStream().flatMap(division -> division.getDivisions().parallelStream())
-                    .filter(division -> division.getId().equals(id)).findFirst();
-        }
+        return Optional.ofNullable(getIndex().divisions.get(id));
     }
 
     /**
@@ -190,9 +226,7 @@ public class Ruleset {
      * @return the restriction rule if there is one
      */
     public Optional<RestrictivePermit> getDivisionRestriction(String division) {
-        return restrictions.parallelStream()
-                .filter(restriction -> division.equals(restriction.getDivision().orElse(null)))
-                .findFirst();
+        return Optional.ofNullable(getIndex().divisionRestrictions.get(division));
     }
 
     /**
@@ -272,7 +306,7 @@ public class Ruleset {
      * @return a key, if any
      */
     public Optional<Key> getKey(String keyId) {
-        return declaration.getKeys().parallelStream().filter(key -> keyId.equals(key.getId())).findAny();
+        return Optional.ofNullable(getIndex().keys.get(keyId));
     }
 
     /**
@@ -283,8 +317,7 @@ public class Ruleset {
      * @return the restriction on a key, if any
      */
     public Optional<RestrictivePermit> getKeyRestriction(String keyId) {
-        return restrictions.parallelStream().filter(restriction -> keyId.equals(restriction.getKey().orElse(null)))
-                .findAny();
+        return Optional.ofNullable(getIndex().keyRestrictions.get(keyId));
     }
 
     /**
@@ -295,10 +328,30 @@ public class Ruleset {
     public List<Key> getKeys() {
         if (Objects.isNull(keys)) {
             keys = defineMetsDivKeys(declaration.getKeys());
+            index = null;
         }
         return keys;
     }
 
+    /**
+     * Creates the index for looking up keys, divisions and restrictions. This
+     * should be called once the ruleset has been loaded completely. The index
+     * is created again if includes are added afterwards, but not if the lists
+     * of the ruleset are modified otherwise.
+     */
+    public void createIndex() {
+        index = new Index(declaration, restrictions);
+    }
+
+    private Index getIndex() {
+        Index currentIndex = index;
+        if (Objects.isNull(currentIndex)) {
+            currentIndex = new Index(declaration, restrictions);
+            index = currentIndex;
+        }
+        return currentIndex;
+    }
+
     /**
      * Hard define keys for METS attributes CONTENTIDS, ORDER, and ORDERLABEL.
      *
@@ -329,7 +382,7 @@ public class Ruleset {
      *            labels for the key if it is not defined
      */
     private static void defineKey(List<Key> keys, String id, Type type, Label... labels) {
-        Optional<Key> definition = keys.parallelStream().filter(key -> key.getId().equalsIgnoreCase(id)).findAny();
+        Optional<Key> definition = keys.stream().filter(key -> key.getId().equalsIgnoreCase(id)).findAny();
         Key key;
         if (definition.isPresent()) {
             key = definition.get();
@@ -388,9 +441,7 @@ public class Ruleset {
      * @return a fictitious metadata key for the rule set
      */
     public Key getFictiousRulesetKey() {
-        Key fictiousRulesetKey = new Key();
-        fictiousRulesetKey.setKeys(declaration.getKeys());
-        return fictiousRulesetKey;
+        return getIndex().fictiousRulesetKey;
     }
 
     /**
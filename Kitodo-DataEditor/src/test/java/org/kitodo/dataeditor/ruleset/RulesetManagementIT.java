@@ -25,6 +25,8 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -758,6 +760,41 @@ public class RulesetManagementIT {
         assertThat(ids(mvwviList), contains("test1", "test2", "test2", "test2options"));
     }
 
+    /**
+     * The ruleset management reports the files it was loaded from, so that
+     * a loaded ruleset can be recognized as outdated.
+     */
+    @Test
+    public void testFilesOfTheRulesetAreReported() throws IOException {
+        File rulesetFile = new File("src/test/resources/testAnExtensiveRulesetCanBeLoaded.xml");
+        RulesetManagement underTest = new RulesetManagement();
+        underTest.load(rulesetFile);
+
+        assertTrue(underTest.getFiles().contains(rulesetFile), "Ruleset file is not reported");
+    }
+
+    /**
+     * Views are kept by the ruleset management. Asking for the same view again
+     * returns the same object, but a different acquisition stage or language
+     * results in a different view.
+     */
+    @Test
+    public void testViewsAreReused() throws IOException {
+        RulesetManagement underTest = new RulesetManagement();
+        underTest.load(new File("src/test/resources/testAnExtensiveRulesetCanBeLoaded.xml"));
+
+        StructuralElementViewInterface bookView = underTest.getStructuralElementView(BOOK, "", ENGL);
+        assertSame(bookView, underTest.getStructuralElementView(BOOK, "", LanguageRange.parse("en")));
+        assertNotSame(bookView, underTest.getStructuralElementView(BOOK, "", LanguageRange.parse("de")));
+        assertNotSame(bookView, underTest.getStructuralElementView(BOOK, EDIT, ENGL));
+        MetadataViewInterface titleView = underTest.getMetadataView("TitleDocMain", "", ENGL);
+        assertSame(titleView, underTest.getMetadataView("TitleDocMain", "", ENGL));
+
+        assertEquals(2, underTest.getViewCacheHits());
+        assertEquals(4, underTest.getViewCacheMisses());
+        assertEquals(4, underTest.getViewCacheSize());
+    }
+
     @Test
     public void testGettingOfSpecialFields() throws Exception {
         RulesetManagement rulesetManagement= new RulesetManagement();
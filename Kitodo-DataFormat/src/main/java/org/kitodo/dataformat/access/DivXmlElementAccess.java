@@ -134,7 +134,7 @@ public class DivXmlElementAccess extends LogicalDivision {
         for (DivType child : div.getDiv()) {
             getChildren().add(new DivXmlElementAccess(child, mets, physicalDivisionsMap, getOrder()));
         }
-        super.setType(div.getTYPE());
+        super.setType(Vocabulary.intern(div.getTYPE()));
         List<FileXmlElementAccess> fileXmlElementAccesses = physicalDivisionsMap.get(div.getID());
         if (Objects.nonNull(fileXmlElementAccesses)) {
             for (FileXmlElementAccess fileXmlElementAccess : fileXmlElementAccesses) {
@@ -297,8 +297,7 @@ public class DivXmlElementAccess extends LogicalDivision {
      * @return a metadata section, if there is data for it
      */
     static Optional<MdSecType> createMdSec(Iterable<Metadata> metadata, MdSec domain) {
-        if (StreamSupport.stream(metadata.spliterator(), false)
-                .noneMatch(piece -> Objects.equals(piece.getDomain(), domain))) {
+        if (!hasMdSec(metadata, domain)) {
             return Optional.empty();
         }
 
@@ -324,6 +323,33 @@ public class DivXmlElementAccess extends LogicalDivision {
         return Optional.of(dmdSec);
     }
 
+    /**
+     * Returns whether a metadata section of the specified domain is created
+     * for the metadata.
+     *
+     * @param metadata
+     *            metadata of a division
+     * @param domain
+     *            domain of the metadata section
+     * @return whether there is metadata of the domain
+     */
+    static boolean hasMdSec(Iterable<Metadata> metadata, MdSec domain) {
+        return StreamSupport.stream(metadata.spliterator(), false)
+                .anyMatch(piece -> Objects.equals(piece.getDomain(), domain));
+    }
+
+    /**
+     * Returns whether an {@code <amdSec>} is created for the metadata.
+     *
+     * @param metadata
+     *            metadata of a division
+     * @return whether there is administrative metadata
+     */
+    static boolean hasAmdSec(Iterable<Metadata> metadata) {
+        return hasMdSec(metadata, MdSec.SOURCE_MD) || hasMdSec(metadata, MdSec.DIGIPROV_MD)
+                || hasMdSec(metadata, MdSec.RIGHTS_MD) || hasMdSec(metadata, MdSec.TECH_MD);
+    }
+
     /**
      * Generates an {@code <amdSec>} if administrative metadata exists on this
      * structure.
@@ -14,7 +14,6 @@ package org.kitodo.dataformat.access;
 import java.math.BigInteger;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -64,9 +63,8 @@ public class FileXmlElementAccess {
      */
     FileXmlElementAccess(DivType div, Mets mets, Map<String, MediaVariant> useXmlAttributeAccess, 
             Map<FileType, String> fileUseByFileCache) {
-        this();
+        physicalDivision = new PhysicalDivisionMetsReferrerStorage(div.getFptr().size());
         physicalDivision.setDivId(div.getID());
-        Map<MediaVariant, URI> mediaFiles = new HashMap<>();
         for (Fptr fptr : div.getFptr()) {
             Object fileId = fptr.getFILEID();
             if (Objects.nonNull(fptr.getArea())) {
@@ -84,20 +82,19 @@ public class FileXmlElementAccess {
                 MediaVariant mediaVariant = useXmlAttributeAccess.get(fileUse);
                 FLocatXmlElementAccess fLocatXmlElementAccess = new FLocatXmlElementAccess(file);
                 physicalDivision.storeFileId(fLocatXmlElementAccess);
-                mediaFiles.put(mediaVariant, fLocatXmlElementAccess.getUri());
+                physicalDivision.getMediaFiles().put(mediaVariant, fLocatXmlElementAccess.getUri());
             } else {
                 throw new IllegalArgumentException(
                     "Corrupt file: file id for <mets:fptr> not found for div " + div.getID()
                 );
             }
         }
-        physicalDivision.getMediaFiles().putAll(mediaFiles);
         BigInteger order = div.getORDER();
         if (Objects.nonNull(order)) {
             physicalDivision.setOrder(order.intValue());
         }
         physicalDivision.setOrderlabel(div.getORDERLABEL());
-        physicalDivision.setType(div.getTYPE());
+        physicalDivision.setType(Vocabulary.intern(div.getTYPE()));
         for (Object mdSecType : div.getDMDID()) {
             physicalDivision.getMetadata().addAll(DivXmlElementAccess.readMetadata((MdSecType) mdSecType, MdSec.DMD_SEC));
         }
@@ -48,7 +48,7 @@ public class MetadataGroupXmlElementAccess extends MetadataXmlElementsAccess {
     MetadataGroupXmlElementAccess(MdSec domain, MetadataGroupType xmlMetadataGroup) {
         this();
         metadataGroup.setDomain(domain);
-        metadataGroup.setKey(xmlMetadataGroup.getName());
+        metadataGroup.setKey(Vocabulary.intern(xmlMetadataGroup.getName()));
         metadataGroup.getMetadata()
                 .addAll(Stream.concat(
                     xmlMetadataGroup.getMetadata().parallelStream()
@@ -46,7 +46,7 @@ public class MetadataXmlElementAccess extends MetadataXmlElementsAccess {
     MetadataXmlElementAccess(MdSec domain, MetadataType metadataType) {
         this();
         metadataEntry.setDomain(domain);
-        metadataEntry.setKey(metadataType.getName());
+        metadataEntry.setKey(Vocabulary.intern(metadataType.getName()));
         metadataEntry.setValue(metadataType.getValue());
     }
 
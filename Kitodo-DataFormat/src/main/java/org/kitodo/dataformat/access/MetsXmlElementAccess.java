@@ -11,13 +11,17 @@
 
 package org.kitodo.dataformat.access;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -31,23 +35,34 @@ import java.util.stream.Stream;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.validation.Schema;
 
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.ValidationEvent;
+import jakarta.xml.bind.ValidationEventLocator;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.MdSec;
+import org.kitodo.api.Metadata;
+import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.MediaVariant;
 import org.kitodo.api.dataformat.PhysicalDivision;
 import org.kitodo.api.dataformat.ProcessingNote;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.MetsXmlElementAccessInterface;
 import org.kitodo.config.KitodoConfig;
+import org.kitodo.dataformat.access.SavedSections.LogicalSections;
+import org.kitodo.dataformat.access.SavedSections.PhysicalSections;
+import org.kitodo.dataformat.metskitodo.AmdSecType;
 import org.kitodo.dataformat.metskitodo.DivType;
 import org.kitodo.dataformat.metskitodo.FileType;
+import org.kitodo.dataformat.metskitodo.MdSecType;
 import org.kitodo.dataformat.metskitodo.Mets;
 import org.kitodo.dataformat.metskitodo.MetsType;
 import org.kitodo.dataformat.metskitodo.MetsType.FileSec;
@@ -59,6 +74,7 @@ import org.kitodo.dataformat.metskitodo.MetsType.StructLink;
 import org.kitodo.dataformat.metskitodo.StructLinkType.SmLink;
 import org.kitodo.dataformat.metskitodo.StructMapType;
 import org.kitodo.utils.JAXBContextCache;
+import org.xml.sax.SAXException;
 
 /**
  * The administrative structure of the product of an element that passes through
@@ -237,6 +253,53 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
         }
     }
 
+    /**
+     * Reads METS from an InputStream and validates it while parsing. JAXB is
+     * used to parse the XML, the schema validation is attached to the same
+     * parser, so that the file is only read once.
+     *
+     * @param in
+     *            InputStream to read from
+     * @param schema
+     *            schema to validate against, may be {@code null}
+     * @param validationErrors
+     *            receives the messages of the validation errors
+     */
+    @Override
+    public Workpiece read(InputStream in, Schema schema, Collection<String> validationErrors) throws IOException,
+            SAXException {
+        try {
+            JAXBContext jc = JAXBContextCache.getJAXBContext(Mets.class);
+            Unmarshaller unmarshaller = jc.createUnmarshaller();
+            if (Objects.nonNull(schema)) {
+                unmarshaller.setSchema(schema);
+                unmarshaller.setEventHandler(event -> {
+                    if (event.getSeverity() == ValidationEvent.FATAL_ERROR) {
+                        return false;
+                    }
+                    ValidationEventLocator locator = event.getLocator();
+                    String message = String.format("Line: %s, Column: %s: %s", locator.getLineNumber(),
+                        locator.getColumnNumber(), event.getMessage());
+                    if (!validationErrors.contains(message)) {
+                        validationErrors.add(message);
+                    }
+                    return true;
+                });
+            }
+            Mets mets = (Mets) unmarshaller.unmarshal(in);
+            return new MetsXmlElementAccess(mets).workpiece;
+        } catch (JAXBException e) {
+            Throwable cause = Objects.nonNull(e.getLinkedException()) ? e.getLinkedException() : e.getCause();
+            if (cause instanceof SAXException) {
+                throw (SAXException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * Writes the contents of this workpiece as a METS file into an output
      * stream.
@@ -249,10 +312,33 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public void save(Workpiece workpiece, OutputStream out) throws IOException {
         try {
-            JAXBContext context = JAXBContextCache.getJAXBContext(Mets.class);
-            Marshaller marshal = context.createMarshaller();
-            marshal.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshal.marshal(new MetsXmlElementAccess(workpiece).toMets(), out);
+            createMarshaller().marshal(new MetsXmlElementAccess(workpiece).toMets(), out);
+        } catch (JAXBException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes the contents of this workpiece as a METS file into an output
+     * stream, serializing only the sections that have changed since the last
+     * incremental save of the workpiece. The written sections are kept with
+     * the workpiece for the next save.
+     *
+     * @param out
+     *            writable output stream
+     * @throws IOException
+     *             if the output device has an error
+     */
+    @Override
+    public void saveIncrementally(Workpiece workpiece, OutputStream out) throws IOException {
+        Object savedSections = workpiece.getSavedSections();
+        try {
+            workpiece.setSavedSections(new MetsXmlElementAccess(workpiece).saveSections(
+                savedSections instanceof SavedSections ? (SavedSections) savedSections : null, out));
         } catch (JAXBException e) {
             if (e.getCause() instanceof IOException) {
                 throw (IOException) e.getCause();
@@ -262,6 +348,109 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
         }
     }
 
+    private static Marshaller createMarshaller() throws JAXBException {
+        JAXBContext context = JAXBContextCache.getJAXBContext(Mets.class);
+        Marshaller marshal = context.createMarshaller();
+        marshal.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        return marshal;
+    }
+
+    private static byte[] marshal(Mets mets) throws JAXBException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        createMarshaller().marshal(mets, buffer);
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Writes the METS file, copying the sections that have not changed from
+     * the saved sections. The physical sections are serialized on their own,
+     * if the physical structure has changed. The header, the metadata
+     * sections of the changed logical divisions, the logical struct map and
+     * the struct link section are serialized together, and the file is
+     * assembled from them and the unchanged sections.
+     *
+     * @param saved
+     *            sections of the last save, may be {@code null}
+     * @param out
+     *            writable output stream
+     * @return the sections written
+     */
+    private SavedSections saveSections(SavedSections saved, OutputStream out) throws JAXBException, IOException {
+        Workpiece snapshot = workpiece.deepCopy();
+        PhysicalDivision physicalStructure = workpiece.getPhysicalStructure();
+        PhysicalSections physicalSections;
+        Map<PhysicalDivision, String> physicalDivisionIDs;
+        if (Objects.nonNull(saved) && saved.getPhysicalSections().isUnchanged(physicalStructure)) {
+            physicalSections = saved.getPhysicalSections();
+            physicalDivisionIDs = physicalSections.getPhysicalDivisionIDs(physicalStructure);
+        } else {
+            Mets physicalMets = new Mets();
+            physicalDivisionIDs = addPhysicalSections(physicalMets);
+            physicalSections = new PhysicalSections(snapshot.getPhysicalStructure(), physicalMets,
+                    marshal(physicalMets));
+        }
+
+        Mets mets = new Mets();
+        mets.setMetsHdr(generateMetsHdr());
+        Mets logicalMdSecs = new Mets();
+        DivType logicalDiv = addLogicalStructMap(mets, physicalDivisionIDs, logicalMdSecs);
+        Map<Object, AmdSecType> amdSecs = new IdentityHashMap<>();
+        for (AmdSecType amdSec : logicalMdSecs.getAmdSec()) {
+            Stream.of(amdSec.getSourceMD(), amdSec.getDigiprovMD(), amdSec.getRightsMD(), amdSec.getTechMD())
+                    .flatMap(List::stream).forEach(mdSec -> amdSecs.put(mdSec, amdSec));
+        }
+        List<Triple<String, Collection<Metadata>, LogicalSections>> logicalDivisions = new ArrayList<>();
+        addChangedLogicalSectionsRecursive(workpiece.getLogicalStructure(), snapshot.getLogicalStructure(),
+            logicalDiv, saved, amdSecs, mets, logicalDivisions);
+        return SavedSections.write(physicalSections, logicalDivisions, marshal(mets), out);
+    }
+
+    /**
+     * Decides for a logical division and its descendants whether the saved
+     * metadata sections can be used again. If not, the metadata sections are
+     * added to the METS XML structure to be serialized.
+     *
+     * @param logicalDivision
+     *            logical division of the workpiece
+     * @param copy
+     *            the corresponding logical division of the snapshot of the
+     *            workpiece
+     * @param div
+     *            the {@code <div>} created for the logical division
+     * @param saved
+     *            sections of the last save, may be {@code null}
+     * @param amdSecs
+     *            the {@code <amdSec>}s created for the logical divisions, by
+     *            the metadata sections they contain
+     * @param mets
+     *            METS XML structure to be serialized
+     * @param logicalDivisions
+     *            receives for each logical division the ID of its
+     *            {@code <div>}, the copy of its metadata and, if they can be
+     *            used again, its saved metadata sections
+     */
+    private static void addChangedLogicalSectionsRecursive(LogicalDivision logicalDivision, LogicalDivision copy,
+            DivType div, SavedSections saved, Map<Object, AmdSecType> amdSecs, Mets mets,
+            List<Triple<String, Collection<Metadata>, LogicalSections>> logicalDivisions) {
+        LogicalSections logicalSections = Objects.nonNull(saved)
+                ? saved.getLogicalSections(div.getID(), logicalDivision.getMetadata())
+                : null;
+        if (Objects.isNull(logicalSections)) {
+            // only ask for the IDREFs if there are any, JAXB would write an empty attribute otherwise
+            if (DivXmlElementAccess.hasMdSec(copy.getMetadata(), MdSec.DMD_SEC)) {
+                mets.getDmdSec().add((MdSecType) div.getDMDID().get(0));
+            }
+            if (DivXmlElementAccess.hasAmdSec(copy.getMetadata())) {
+                mets.getAmdSec().add(amdSecs.get(div.getADMID().get(0)));
+            }
+        }
+        logicalDivisions.add(Triple.of(div.getID(), copy.getMetadata(), logicalSections));
+        for (int i = 0; i < div.getDiv().size(); i++) {
+            addChangedLogicalSectionsRecursive(logicalDivision.getChildren().get(i), copy.getChildren().get(i),
+                div.getDiv().get(i), saved, amdSecs, mets, logicalDivisions);
+        }
+    }
+
     /**
      * Generates a METS XML structure from this workpiece in the form of Java
      * objects in the main memory.
@@ -271,7 +460,21 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     private Mets toMets() {
         Mets mets = new Mets();
         mets.setMetsHdr(generateMetsHdr());
+        Map<PhysicalDivision, String> physicalDivisionIDs = addPhysicalSections(mets);
+        addLogicalStructMap(mets, physicalDivisionIDs, mets);
+        return mets;
+    }
 
+    /**
+     * Adds the file section, the physical struct map and the metadata
+     * sections of the physical divisions to a METS XML structure.
+     *
+     * @param mets
+     *            the METS structure to add to
+     * @return the assigned identifier for each physical division, so that the
+     *         link pairs of the struct link section can be formed
+     */
+    private Map<PhysicalDivision, String> addPhysicalSections(Mets mets) {
         Map<URI, FileType> mediaFilesToIDFiles = new HashMap<>();
         FileSec fileSec = generateFileSec(mediaFilesToIDFiles);
 
@@ -282,18 +485,35 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
 
         Map<PhysicalDivision, String> physicalDivisionIDs = new HashMap<>();
         mets.getStructMap().add(generatePhysicalStructMap(mediaFilesToIDFiles, physicalDivisionIDs, mets));
+        return physicalDivisionIDs;
+    }
 
+    /**
+     * Adds the logical struct map and the struct link section to a METS XML
+     * structure.
+     *
+     * @param mets
+     *            the METS structure to add to
+     * @param physicalDivisionIDs
+     *            the assigned identifier for each physical division
+     * @param mdSecs
+     *            the METS structure to add the metadata sections of the
+     *            logical divisions to
+     * @return the {@code <div>} of the logical structure
+     */
+    private DivType addLogicalStructMap(Mets mets, Map<PhysicalDivision, String> physicalDivisionIDs, Mets mdSecs) {
         LinkedList<Pair<String, String>> smLinkData = new LinkedList<>();
         StructMapType logical = new StructMapType();
         logical.setTYPE("LOGICAL");
-        logical.setDiv(new DivXmlElementAccess(workpiece.getLogicalStructure()).toDiv(physicalDivisionIDs, smLinkData, mets));
+        logical.setDiv(new DivXmlElementAccess(workpiece.getLogicalStructure()).toDiv(physicalDivisionIDs, smLinkData,
+            mdSecs));
         mets.getStructMap().add(logical);
 
         // Omit empty structLinks as they are not valid in METS
         if (!smLinkData.isEmpty()) {
             mets.setStructLink(createStructLink(smLinkData));
         }
-        return mets;
+        return logical.getDiv();
     }
 
     /**
@@ -12,10 +12,10 @@
 package org.kitodo.dataformat.access;
 
 import java.net.URI;
-import java.util.HashMap;
 import java.util.Map;
 
 import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.utils.CompactMap;
 
 /**
  * A memory brick to preserve the METS IDs of the physical div and the media
@@ -26,7 +26,24 @@ class PhysicalDivisionMetsReferrerStorage extends PhysicalDivision {
     /**
      * Save the METS identifiers for the files.
      */
-    private Map<URI, String> metsFileReferrerIds = new HashMap<>();
+    private final Map<URI, String> metsFileReferrerIds;
+
+    /**
+     * Creates a new physical division.
+     */
+    PhysicalDivisionMetsReferrerStorage() {
+        metsFileReferrerIds = new CompactMap<>();
+    }
+
+    /**
+     * Creates a new physical division for a known number of media files.
+     *
+     * @param numberOfFiles
+     *            number of media files of the physical division
+     */
+    PhysicalDivisionMetsReferrerStorage(int numberOfFiles) {
+        metsFileReferrerIds = new CompactMap<>(numberOfFiles);
+    }
 
     /**
      * Passthrough function for reading the file identifier to the URI.
@@ -0,0 +1,330 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.dataformat.access;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.tuple.Triple;
+import org.kitodo.api.MdSec;
+import org.kitodo.api.Metadata;
+import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.dataformat.metskitodo.DivType;
+import org.kitodo.dataformat.metskitodo.Mets;
+
+/**
+ * The sections of a METS file as they were written by the last incremental
+ * save of a workpiece, together with the state of the workpiece they were
+ * written from. On the next save, the sections whose part of the workpiece
+ * has not changed since are copied from here and are not serialized again.
+ *
+ * <p>
+ * The sections of the physical structure, that are the file section, the
+ * physical struct map and the metadata sections of the physical divisions,
+ * are kept as a whole, because they refer to each other by identifiers which
+ * are partly generated anew on every save. The metadata sections of the
+ * logical divisions are kept per division, identified by the ID of the
+ * division’s {@code <div>}, from which the IDs of the sections are derived.
+ * The header, the logical struct map and the struct link section are always
+ * written anew.
+ */
+class SavedSections {
+
+    /**
+     * The sections of the physical structure.
+     */
+    static class PhysicalSections {
+        /**
+         * Copy of the physical structure, as it was saved.
+         */
+        private final PhysicalDivision physicalStructure;
+
+        /**
+         * The IDs of the {@code <div>}s of the physical structure, in the
+         * order of a depth-first traversal.
+         */
+        private final List<String> divIds;
+
+        /**
+         * The {@code <dmdSec>} elements of the physical divisions.
+         */
+        private final byte[] dmdSecs;
+
+        /**
+         * The {@code <amdSec>} elements of the physical divisions.
+         */
+        private final byte[] amdSecs;
+
+        /**
+         * The {@code <fileSec>} and the physical {@code <structMap>} element.
+         */
+        private final byte[] structMap;
+
+        /**
+         * Creates the physical sections from a METS XML structure that
+         * contains nothing but them.
+         *
+         * @param physicalStructure
+         *            copy of the physical structure that was serialized
+         * @param mets
+         *            METS XML structure of the physical sections
+         * @param document
+         *            the serialized METS XML structure
+         */
+        PhysicalSections(PhysicalDivision physicalStructure, Mets mets, byte[] document) {
+            this.physicalStructure = physicalStructure;
+            this.divIds = new ArrayList<>();
+            addDivIdsRecursive(mets.getStructMap().get(0).getDiv(), divIds);
+            List<byte[]> parts = split(document);
+            int amdSecsStart = 1 + mets.getDmdSec().size();
+            int structMapStart = amdSecsStart + mets.getAmdSec().size();
+            this.dmdSecs = join(parts.subList(1, amdSecsStart));
+            this.amdSecs = join(parts.subList(amdSecsStart, structMapStart));
+            this.structMap = join(parts.subList(structMapStart, parts.size() - 1));
+        }
+
+        private static void addDivIdsRecursive(DivType div, List<String> divIds) {
+            divIds.add(div.getID());
+            for (DivType child : div.getDiv()) {
+                addDivIdsRecursive(child, divIds);
+            }
+        }
+
+        /**
+         * Returns whether the physical structure is unchanged since it was
+         * saved, so that the sections can be used again.
+         *
+         * @param physicalStructure
+         *            current physical structure of the workpiece
+         * @return whether the physical structure is unchanged
+         */
+        boolean isUnchanged(PhysicalDivision physicalStructure) {
+            if (!physicalStructure.equals(this.physicalStructure)) {
+                return false;
+            }
+            Iterator<String> savedDivIds = divIds.iterator();
+            Iterator<PhysicalDivision> physicalDivisions = Workpiece.treeStream(physicalStructure).iterator();
+            while (physicalDivisions.hasNext()) {
+                PhysicalDivision physicalDivision = physicalDivisions.next();
+                String divId = savedDivIds.next();
+                if (physicalDivision instanceof PhysicalDivisionMetsReferrerStorage
+                        && !physicalDivision.getDivId().equals(divId)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the IDs of the {@code <div>}s of the saved physical struct
+         * map for the physical divisions of the current physical structure,
+         * which must be unchanged.
+         *
+         * @param physicalStructure
+         *            current physical structure of the workpiece
+         * @return the IDs of the physical divisions
+         */
+        Map<PhysicalDivision, String> getPhysicalDivisionIDs(PhysicalDivision physicalStructure) {
+            Map<PhysicalDivision, String> physicalDivisionIDs = new HashMap<>();
+            Iterator<String> savedDivIds = divIds.iterator();
+            Workpiece.treeStream(physicalStructure).forEachOrdered(
+                physicalDivision -> physicalDivisionIDs.put(physicalDivision, savedDivIds.next()));
+            return physicalDivisionIDs;
+        }
+    }
+
+    /**
+     * The metadata sections of a logical division.
+     */
+    static class LogicalSections {
+        /**
+         * Copy of the metadata of the division, as they were saved.
+         */
+        private final Collection<Metadata> metadata;
+
+        /**
+         * The {@code <dmdSec>} element, or {@code null} if there is none.
+         */
+        private final byte[] dmdSec;
+
+        /**
+         * The {@code <amdSec>} element, or {@code null} if there is none.
+         */
+        private final byte[] amdSec;
+
+        LogicalSections(Collection<Metadata> metadata, byte[] dmdSec, byte[] amdSec) {
+            this.metadata = metadata;
+            this.dmdSec = dmdSec;
+            this.amdSec = amdSec;
+        }
+    }
+
+    /**
+     * The sections of the physical structure.
+     */
+    private final PhysicalSections physicalSections;
+
+    /**
+     * The metadata sections of the logical divisions by the IDs of their
+     * {@code <div>}s.
+     */
+    private final Map<String, LogicalSections> logicalSections;
+
+    private SavedSections(PhysicalSections physicalSections, Map<String, LogicalSections> logicalSections) {
+        this.physicalSections = physicalSections;
+        this.logicalSections = logicalSections;
+    }
+
+    PhysicalSections getPhysicalSections() {
+        return physicalSections;
+    }
+
+    /**
+     * Returns the saved metadata sections of a logical division, if its
+     * metadata has not changed since.
+     *
+     * @param divId
+     *            ID of the {@code <div>} of the logical division
+     * @param metadata
+     *            current metadata of the logical division
+     * @return the saved metadata sections, or {@code null}
+     */
+    LogicalSections getLogicalSections(String divId, Collection<Metadata> metadata) {
+        LogicalSections sections = logicalSections.get(divId);
+        return Objects.nonNull(sections) && Objects.equals(sections.metadata, metadata) ? sections : null;
+    }
+
+    /**
+     * Writes a METS file. The document contains the header, the metadata
+     * sections of the changed logical divisions in the order of the logical
+     * divisions, the logical struct map and, if any, the struct link section.
+     * The physical sections and the metadata sections of the unchanged
+     * logical divisions are inserted where they belong according to the METS
+     * schema.
+     *
+     * @param physicalSections
+     *            the sections of the physical structure
+     * @param logicalDivisions
+     *            for each logical division in the order of a depth-first
+     *            traversal the ID of its {@code <div>}, the copy of its
+     *            metadata and, if they are unchanged, its saved metadata
+     *            sections
+     * @param document
+     *            the serialized changed sections
+     * @param out
+     *            writable output stream
+     * @return the sections written
+     * @throws IOException
+     *             if the output device has an error
+     */
+    static SavedSections write(PhysicalSections physicalSections,
+            List<Triple<String, Collection<Metadata>, LogicalSections>> logicalDivisions, byte[] document,
+            OutputStream out) throws IOException {
+        Iterator<byte[]> parts = split(document).iterator();
+        List<byte[]> dmdSecs = new ArrayList<>(logicalDivisions.size());
+        out.write(parts.next());
+        out.write(parts.next());
+        for (Triple<String, Collection<Metadata>, LogicalSections> logicalDivision : logicalDivisions) {
+            dmdSecs.add(Objects.nonNull(logicalDivision.getRight()) ? logicalDivision.getRight().dmdSec
+                    : DivXmlElementAccess.hasMdSec(logicalDivision.getMiddle(), MdSec.DMD_SEC) ? parts.next() : null);
+        }
+        List<byte[]> amdSecs = new ArrayList<>(logicalDivisions.size());
+        for (Triple<String, Collection<Metadata>, LogicalSections> logicalDivision : logicalDivisions) {
+            amdSecs.add(Objects.nonNull(logicalDivision.getRight()) ? logicalDivision.getRight().amdSec
+                    : DivXmlElementAccess.hasAmdSec(logicalDivision.getMiddle()) ? parts.next() : null);
+        }
+        out.write(physicalSections.dmdSecs);
+        writeAll(dmdSecs, out);
+        out.write(physicalSections.amdSecs);
+        writeAll(amdSecs, out);
+        out.write(physicalSections.structMap);
+        while (parts.hasNext()) {
+            out.write(parts.next());
+        }
+
+        Map<String, LogicalSections> logicalSections = new HashMap<>();
+        for (int i = 0; i < logicalDivisions.size(); i++) {
+            Triple<String, Collection<Metadata>, LogicalSections> logicalDivision = logicalDivisions.get(i);
+            logicalSections.put(logicalDivision.getLeft(), Objects.nonNull(logicalDivision.getRight())
+                    ? logicalDivision.getRight()
+                    : new LogicalSections(logicalDivision.getMiddle(), dmdSecs.get(i), amdSecs.get(i)));
+        }
+        return new SavedSections(physicalSections, logicalSections);
+    }
+
+    private static void writeAll(List<byte[]> parts, OutputStream out) throws IOException {
+        for (byte[] part : parts) {
+            if (Objects.nonNull(part)) {
+                out.write(part);
+            }
+        }
+    }
+
+    /**
+     * Splits a METS file written by JAXB with formatted output into the XML
+     * declaration with the start tag of the root element, one part for each
+     * child element of the root element, and the end tag of the root element.
+     * JAXB starts each child element of the root element on a line of its
+     * own, indented by four spaces. Since a less-than sign in content is
+     * always escaped, such a line cannot occur anywhere else.
+     *
+     * @param document
+     *            METS file to split
+     * @return the parts of the file
+     */
+    static List<byte[]> split(byte[] document) {
+        List<byte[]> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < document.length - 6; i++) {
+            if (document[i] == '\n' && (isChildStart(document, i + 1) || isEndTag(document, i + 1))) {
+                parts.add(Arrays.copyOfRange(document, start, i + 1));
+                start = i + 1;
+            }
+        }
+        parts.add(Arrays.copyOfRange(document, start, document.length));
+        return parts;
+    }
+
+    private static boolean isChildStart(byte[] document, int line) {
+        return document[line] == ' ' && document[line + 1] == ' ' && document[line + 2] == ' '
+                && document[line + 3] == ' ' && document[line + 4] == '<' && document[line + 5] != '/';
+    }
+
+    private static boolean isEndTag(byte[] document, int line) {
+        return document[line] == '<' && document[line + 1] == '/';
+    }
+
+    /**
+     * Concatenates parts of a METS file.
+     *
+     * @param parts
+     *            parts to concatenate
+     * @return the concatenated parts
+     */
+    static byte[] join(List<byte[]> parts) {
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            joined.writeBytes(part);
+        }
+        return joined.toByteArray();
+    }
+}
@@ -54,7 +54,7 @@ public class UseXmlAttributeAccess {
      */
     UseXmlAttributeAccess(FileGrp fileGrp) {
         this();
-        mediaVariant.setUse(fileGrp.getUSE());
+        mediaVariant.setUse(Vocabulary.intern(fileGrp.getUSE()));
         Set<String> mimeTypes = fileGrp.getFile().parallelStream().map(fileType -> fileType.getMIMETYPE())
                 .filter(Objects::nonNull).collect(Collectors.toSet());
         for (Iterator<String> mimeType = mimeTypes.iterator(); mimeTypes.size() > 1 && mimeType.hasNext();) {
@@ -67,7 +67,7 @@ public class UseXmlAttributeAccess {
                 throw new IllegalArgumentException("Corrupt file: <mets:fileGrp USE=\"" + mediaVariant.getUse()
                         + "\"> does not have any <mets:file> with a MIMETYPE.");
             case 1:
-                mediaVariant.setMimeType(mimeTypes.iterator().next());
+                mediaVariant.setMimeType(Vocabulary.intern(mimeTypes.iterator().next()));
                 break;
             default:
                 throw new IllegalArgumentException("Corrupt file: <mets:fileGrp USE=\"" + mediaVariant.getUse()
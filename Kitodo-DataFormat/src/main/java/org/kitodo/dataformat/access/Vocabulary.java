@@ -0,0 +1,58 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.dataformat.access;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A shared pool for the vocabulary-like values of workpieces: metadata keys,
+ * division types, and uses and MIME types of media variants. When a METS file
+ * is read, each occurrence of such a value is a separate string. Using the
+ * pooled string instead keeps one copy of each value in memory, however many
+ * pages and workpieces are loaded. The pool is bounded; once it is full,
+ * further values are used as they are.
+ */
+final class Vocabulary {
+    /**
+     * Maximum number of different values in the pool.
+     */
+    private static final int MAX_SIZE = 10_000;
+
+    private static final Map<String, String> pool = new ConcurrentHashMap<>();
+
+    private Vocabulary() {
+    }
+
+    /**
+     * Returns the pooled string equal to the value.
+     *
+     * @param value
+     *            value to look up, may be {@code null}
+     * @return the pooled string, or the value itself if it is not pooled
+     */
+    static String intern(String value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        String pooled = pool.get(value);
+        if (Objects.nonNull(pooled)) {
+            return pooled;
+        }
+        if (pool.size() >= MAX_SIZE) {
+            return value;
+        }
+        pooled = pool.putIfAbsent(value, value);
+        return Objects.nonNull(pooled) ? pooled : value;
+    }
+}
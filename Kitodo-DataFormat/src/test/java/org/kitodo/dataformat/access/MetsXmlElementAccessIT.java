@@ -14,8 +14,13 @@ package org.kitodo.dataformat.access;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -23,6 +28,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -35,6 +41,7 @@ import org.apache.commons.configuration2.PropertiesConfiguration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kitodo.api.MdSec;
+import org.kitodo.api.Metadata;
 import org.kitodo.api.MetadataEntry;
 import org.kitodo.api.MetadataGroup;
 import org.kitodo.api.dataformat.LogicalDivision;
@@ -47,6 +54,7 @@ import org.kitodo.config.KitodoConfig;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.xml.sax.SAXException;
 
 @ExtendWith(MockitoExtension.class)
 public class MetsXmlElementAccessIT {
@@ -273,6 +281,93 @@ public class MetsXmlElementAccessIT {
         }
     }
 
+    @Test
+    public void shouldReadWithoutSchema() throws Exception {
+        List<String> validationErrors = new ArrayList<>();
+        try (InputStream fileContent = new FileInputStream("src/test/resources/meta.xml")) {
+            Workpiece workpiece = new MetsXmlElementAccess().read(fileContent, null, validationErrors);
+            assertEquals(183, workpiece.getPhysicalStructure().getChildren().size());
+        }
+        assertTrue(validationErrors.isEmpty());
+    }
+
+    @Test
+    public void shouldDeepCopyReadWorkpiece() throws Exception {
+        try (InputStream fileContent = new FileInputStream("src/test/resources/meta.xml")) {
+            Workpiece workpiece = new MetsXmlElementAccess().read(fileContent, null, new ArrayList<>());
+            assertEquals(workpiece, workpiece.deepCopy());
+        }
+    }
+
+    @Test
+    public void shouldSaveChangedSectionsIncrementally() throws Exception {
+        MetsXmlElementAccess metsXmlElementAccess = new MetsXmlElementAccess();
+        Workpiece workpiece;
+        try (InputStream fileContent = new FileInputStream("src/test/resources/meta.xml")) {
+            workpiece = metsXmlElementAccess.read(fileContent);
+        }
+        // the metadata sections of physical divisions get random IDs on every save
+        workpiece.getPhysicalStructure().getMetadata().clear();
+        assertIncrementalSaveEqualsSave(metsXmlElementAccess, workpiece);
+        SavedSections firstSave = (SavedSections) workpiece.getSavedSections();
+
+        MetadataEntry note = new MetadataEntry();
+        note.setKey("note");
+        note.setDomain(MdSec.DMD_SEC);
+        note.setValue("Chapter <1> & more\n    on the next line");
+        workpiece.getLogicalStructure().getChildren().get(7).getMetadata().add(note);
+        assertIncrementalSaveEqualsSave(metsXmlElementAccess, workpiece);
+        SavedSections secondSave = (SavedSections) workpiece.getSavedSections();
+        assertSame(firstSave.getPhysicalSections(), secondSave.getPhysicalSections());
+
+        workpiece.getPhysicalStructure().getChildren().get(2).setOrderlabel("III");
+        assertIncrementalSaveEqualsSave(metsXmlElementAccess, workpiece);
+        SavedSections thirdSave = (SavedSections) workpiece.getSavedSections();
+        assertNotSame(secondSave.getPhysicalSections(), thirdSave.getPhysicalSections());
+    }
+
+    private static void assertIncrementalSaveEqualsSave(MetsXmlElementAccess metsXmlElementAccess,
+            Workpiece workpiece) throws IOException {
+        ByteArrayOutputStream incrementally = new ByteArrayOutputStream();
+        metsXmlElementAccess.saveIncrementally(workpiece, incrementally);
+        ByteArrayOutputStream completely = new ByteArrayOutputStream();
+        metsXmlElementAccess.save(workpiece, completely);
+        assertEquals(withoutLastModDate(completely), withoutLastModDate(incrementally));
+    }
+
+    private static String withoutLastModDate(ByteArrayOutputStream metsFile) {
+        return metsFile.toString(StandardCharsets.UTF_8).replaceFirst("LASTMODDATE=\"[^\"]*\"", "");
+    }
+
+    @Test
+    public void shouldShareVocabularyOfReadWorkpieces() throws Exception {
+        Workpiece first;
+        Workpiece second;
+        try (InputStream fileContent = new FileInputStream("src/test/resources/meta.xml")) {
+            first = new MetsXmlElementAccess().read(fileContent);
+        }
+        try (InputStream fileContent = new FileInputStream("src/test/resources/meta.xml")) {
+            second = new MetsXmlElementAccess().read(fileContent);
+        }
+        assertSame(first.getLogicalStructure().getType(), second.getLogicalStructure().getType());
+        PhysicalDivision firstPage = first.getAllPhysicalDivisions().get(1);
+        PhysicalDivision secondPage = second.getAllPhysicalDivisions().get(1);
+        assertSame(firstPage.getType(), secondPage.getType());
+        assertSame(firstPage.getMediaFiles().keySet().iterator().next().getUse(),
+            secondPage.getMediaFiles().keySet().iterator().next().getUse());
+        Metadata firstMetadata = first.getLogicalStructure().getMetadata().iterator().next();
+        Metadata secondMetadata = second.getLogicalStructure().getMetadata().stream()
+                .filter(firstMetadata::equals).findAny().orElseThrow();
+        assertSame(firstMetadata.getKey(), secondMetadata.getKey());
+    }
+
+    @Test
+    public void shouldFailToReadMalformedXml() {
+        InputStream malformed = new ByteArrayInputStream("<mets:mets xmlns:mets=\"http://www.loc.gov/METS/\">"
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(SAXException.class, () -> new MetsXmlElementAccess().read(malformed, null, new ArrayList<>()));
+    }
+
     @Test
     public void missingMetsFileForPointer() {
         Exception exception = assertThrows(IllegalArgumentException.class,
@@ -0,0 +1,277 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.beans;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+
+import org.kitodo.data.database.enums.BackgroundJobState;
+
+/**
+ * A long-running task of the task manager, persisted so that it survives a
+ * restart of the application and can be run by any of several application
+ * nodes that share the database.
+ */
+@Entity
+@Table(name = "background_job")
+public class BackgroundJob extends BaseBean {
+    /**
+     * The field type holds the fully qualified class name of the task to run.
+     */
+    @Column(name = "type")
+    private String type;
+
+    /**
+     * The field name holds the name of the task shown in the task manager.
+     */
+    @Column(name = "name")
+    private String name;
+
+    /**
+     * The field parameters holds the parameters required to recreate the task,
+     * in properties format.
+     */
+    @Column(name = "parameters", columnDefinition = "longtext")
+    private String parameters;
+
+    /**
+     * The field checkpoint holds the progress reached by the task, in
+     * properties format. A resumed task continues from there.
+     */
+    @Column(name = "checkpoint", columnDefinition = "longtext")
+    private String checkpoint;
+
+    /**
+     * The field state holds the state of the task.
+     */
+    @Column(name = "state", columnDefinition = "VARCHAR")
+    @Enumerated(EnumType.STRING)
+    private BackgroundJobState state;
+
+    /**
+     * The field progress holds the progress of the task in percent.
+     */
+    @Column(name = "progress")
+    private int progress;
+
+    /**
+     * The field errorMessage holds the error message if the task crashed.
+     */
+    @Column(name = "errorMessage", columnDefinition = "longtext")
+    private String errorMessage;
+
+    /**
+     * The field leaseOwner holds the name of the application node that runs
+     * the task. It is {@code null} if no node has claimed the task.
+     */
+    @Column(name = "leaseOwner")
+    private String leaseOwner;
+
+    /**
+     * The field leaseExpiry holds the time until the task is reserved for the
+     * lease owner. If the lease owner does not renew the lease in time, the
+     * task can be claimed by another node.
+     */
+    @Column(name = "leaseExpiry")
+    private Date leaseExpiry;
+
+    /**
+     * The field creationDate holds the time the task was created.
+     */
+    @Column(name = "creationDate")
+    private Date creationDate;
+
+    /**
+     * Get type.
+     *
+     * @return value of type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Set type.
+     *
+     * @param type as java.lang.String
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Get name.
+     *
+     * @return value of name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Set name.
+     *
+     * @param name as java.lang.String
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get parameters.
+     *
+     * @return value of parameters
+     */
+    public String getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Set parameters.
+     *
+     * @param parameters as java.lang.String
+     */
+    public void setParameters(String parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Get checkpoint.
+     *
+     * @return value of checkpoint
+     */
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Set checkpoint.
+     *
+     * @param checkpoint as java.lang.String
+     */
+    public void setCheckpoint(String checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Get state.
+     *
+     * @return value of state
+     */
+    public BackgroundJobState getState() {
+        return state;
+    }
+
+    /**
+     * Set state.
+     *
+     * @param state as org.kitodo.data.database.enums.BackgroundJobState
+     */
+    public void setState(BackgroundJobState state) {
+        this.state = state;
+    }
+
+    /**
+     * Get progress.
+     *
+     * @return value of progress
+     */
+    public int getProgress() {
+        return progress;
+    }
+
+    /**
+     * Set progress.
+     *
+     * @param progress as int
+     */
+    public void setProgress(int progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Get errorMessage.
+     *
+     * @return value of errorMessage
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Set errorMessage.
+     *
+     * @param errorMessage as java.lang.String
+     */
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Get leaseOwner.
+     *
+     * @return value of leaseOwner
+     */
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    /**
+     * Set leaseOwner.
+     *
+     * @param leaseOwner as java.lang.String
+     */
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    /**
+     * Get leaseExpiry.
+     *
+     * @return value of leaseExpiry
+     */
+    public Date getLeaseExpiry() {
+        return leaseExpiry;
+    }
+
+    /**
+     * Set leaseExpiry.
+     *
+     * @param leaseExpiry as java.util.Date
+     */
+    public void setLeaseExpiry(Date leaseExpiry) {
+        this.leaseExpiry = leaseExpiry;
+    }
+
+    /**
+     * Get creationDate.
+     *
+     * @return value of creationDate
+     */
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    /**
+     * Set creationDate.
+     *
+     * @param creationDate as java.util.Date
+     */
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.beans;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.KitodoConfig;
+
+/**
+ * Stores the metadata keywords of processes on disk, so that they do not have
+ * to be extracted from unchanged metadata files again when a process is
+ * indexed. Each entry is stamped with the path, modification time and size of
+ * the metadata file and the ruleset it was created from. An entry whose stamp
+ * does not match is ignored and overwritten. The entry of a process is removed
+ * by the process service once the deletion of the process has been committed.
+ *
+ * <p>
+ * The cache is only used if a directory is configured for it in
+ * {@code searchindex.keywordCache.directory}. This should be on a local disk.
+ */
+class MetadataKeywordsCache {
+    private static final Logger logger = LogManager.getLogger(MetadataKeywordsCache.class);
+
+    private static final String CACHE_DIRECTORY_PARAMETER = "searchindex.keywordCache.directory";
+    private static final String FILE_EXTENSION = ".keywords";
+    private static final int PROCESSES_PER_DIRECTORY = 1000;
+
+    private MetadataKeywordsCache() {
+    }
+
+    /**
+     * Forms the stamp for an entry. The stamp changes whenever the metadata
+     * file or the ruleset changes.
+     *
+     * @param metadataFile
+     *            path to the metadata file
+     * @param rulesetFile
+     *            path to the ruleset file
+     * @return the stamp
+     * @throws IOException
+     *             if the file attributes of the metadata file cannot be read
+     */
+    static String stamp(Path metadataFile, Path rulesetFile) throws IOException {
+        return metadataFile + "|" + Files.getLastModifiedTime(metadataFile).toMillis() + '|' + Files.size(
+            metadataFile) + '|' + rulesetFile + '|' + rulesetFile.toFile().lastModified();
+    }
+
+    /**
+     * Returns the cached keywords of a process, if the stamp of the entry
+     * matches.
+     *
+     * @param processId
+     *            ID of the process
+     * @param stamp
+     *            expected stamp
+     * @return the keywords, or {@code null} if there is no matching entry
+     */
+    static Set<String> get(int processId, String stamp) {
+        Path file = getFile(processId);
+        if (Objects.isNull(file)) {
+            return null;
+        }
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !lines.getFirst().equals(stamp)) {
+                return null;
+            }
+            return new HashSet<>(lines.subList(1, lines.size()));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            logger.catching(Level.WARN, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the keywords of a process.
+     *
+     * @param processId
+     *            ID of the process
+     * @param stamp
+     *            stamp of the entry
+     * @param keywords
+     *            keywords to store
+     */
+    static void put(int processId, String stamp, Set<String> keywords) {
+        Path file = getFile(processId);
+        if (Objects.isNull(file)) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            List<String> lines = new ArrayList<>(keywords.size() + 1);
+            lines.add(stamp);
+            lines.addAll(keywords);
+            Path temporaryFile = Files.createTempFile(file.getParent(), Integer.toString(processId), null);
+            Files.write(temporaryFile, lines, StandardCharsets.UTF_8);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            logger.catching(Level.WARN, e);
+        }
+    }
+
+    /**
+     * Removes the entry of a process. Must be called when the process is
+     * deleted, as nothing else would remove the entry.
+     *
+     * @param processId
+     *            ID of the process
+     */
+    static void remove(int processId) {
+        Path file = getFile(processId);
+        if (Objects.isNull(file)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException | RuntimeException e) {
+            logger.catching(Level.WARN, e);
+        }
+    }
+
+    private static Path getFile(int processId) {
+        String directory = KitodoConfig.getParameter(CACHE_DIRECTORY_PARAMETER, "");
+        if (StringUtils.isBlank(directory)) {
+            return null;
+        }
+        return Paths.get(directory, Integer.toString(processId / PROCESSES_PER_DIRECTORY), processId
+                + FILE_EXTENSION);
+    }
+}
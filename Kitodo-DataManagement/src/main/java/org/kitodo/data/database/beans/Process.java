@@ -32,6 +32,8 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 
@@ -41,6 +43,7 @@ import org.hibernate.LazyInitializationException;
 import org.hibernate.annotations.BatchSize;
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
 import org.kitodo.data.database.converter.ProcessConverter;
@@ -143,6 +146,10 @@ public class Process extends BaseTemplateBean {
     @Column(name = "ocrd_workflow_id")
     private String ocrdWorkflowId;
 
+    @Column(name = "modificationDate")
+    @GenericField
+    private Date modificationDate;
+
     @Transient
     private User blockedUser;
 
@@ -754,6 +761,29 @@ public class Process extends BaseTemplateBean {
         this.ocrdWorkflowId = ocrdWorkflowId;
     }
 
+    /**
+     * Returns the time the process was last saved to the database. This is
+     * set when saving and used to find processes that have to be reindexed.
+     *
+     * @return the modification date, {@code null} if the process has not been
+     *         saved since the column was introduced
+     */
+    public Date getModificationDate() {
+        return modificationDate;
+    }
+
+    /**
+     * Sets the modification date when the process is saved. Whole seconds are
+     * used, as the database does not store more, so that the value in the
+     * search index matches the one in the database.
+     */
+    @PrePersist
+    @PreUpdate
+    private void updateModificationDate() {
+        this.modificationDate = new Date(TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(System
+                .currentTimeMillis())));
+    }
+
     /**
      * Returns the record number of the parent process, if any. Is {@code 0} if
      * there is no parent process above.
@@ -29,11 +29,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -60,7 +62,8 @@ public class ProcessKeywords {
     private static final Pattern RULESET_LABEL_PATTERN = Pattern.compile("<label[^>]*>([^<]+)", Pattern.DOTALL);
     private static final Pattern OPTION_PATTERN = Pattern.compile("<option [^>]*>.*?</option>", Pattern.DOTALL);
 
-    private static final Map<String, Map<String, Collection<String>>> rulesetCache = new HashMap<>();
+    private static final Map<String, Pair<Long, Map<String, Collection<String>>>> rulesetCache
+            = new ConcurrentHashMap<>();
 
     private final Set<String> defaultKeywords;
     private final Set<String> titleKeywords;
@@ -207,7 +210,9 @@ public class ProcessKeywords {
 
     /**
      * Generates all metadata keywords and pseudowords for metadata of a METS
-     * file KITODO-metadata.
+     * file KITODO-metadata. If the metadata file and the ruleset have not
+     * changed since the keywords were last generated, the keywords are taken
+     * from the keywords cache.
      * 
      * @param process
      *            process of the METS file
@@ -222,31 +227,19 @@ public class ProcessKeywords {
                         : "Missing metadata file for indexing: ") + path);
                 return Collections.emptySet();
             }
+            String rulesetFile = process.getRuleset().getFile();
+            String stamp = MetadataKeywordsCache.stamp(path, Paths.get(KitodoConfig.getParameter(
+                "directory.rulesets"), rulesetFile));
+            Set<String> cached = MetadataKeywordsCache.get(process.getId(), stamp);
+            if (Objects.nonNull(cached)) {
+                logger.debug("Using cached keywords for {} in process {} \"{}\"", path, process.getId(),
+                    process.getTitle());
+                return cached;
+            }
             logger.debug("Indexing {} in process {} \"{}\"", path, process.getId(), process.getTitle());
             String metaXml = FileUtils.readFileToString(path.toFile(), StandardCharsets.UTF_8);
-            if (!metaXml.contains(ANY_METADATA_MARKER)) {
-                return Collections.emptySet();
-            }
-            Set<String> result = new HashSet<>();
-            Map<String, Collection<String>> rulesetLabelMap = getRulesetLabelMap(process.getRuleset().getFile());
-            Matcher metadataSectionsMatcher = METADATA_SECTIONS_PATTERN.matcher(metaXml);
-            while (metadataSectionsMatcher.find()) {
-                Matcher keyMatcher = METADATA_PATTERN.matcher(metadataSectionsMatcher.group(1));
-                while (keyMatcher.find()) {
-                    String key = normalize(keyMatcher.group(1));
-                    String valueString = keyMatcher.group(2);
-                    for (String singleValue : splitValues(valueString)) {
-                        String value = normalize(singleValue);
-                        result.add(value);
-                        result.add(key + VALUE_SEPARATOR + value);
-                        result.add(key);
-                        for (String label : rulesetLabelMap.getOrDefault(key, Collections.emptyList())) {
-                            result.add(label + VALUE_SEPARATOR + value);
-                            result.add(label);
-                        }
-                    }
-                }
-            }
+            Set<String> result = extractMetadataKeywords(metaXml, rulesetFile);
+            MetadataKeywordsCache.put(process.getId(), stamp, result);
             return result;
         } catch (IOException | RuntimeException e) {
             logger.catching(e instanceof FileNotFoundException ? Level.INFO : Level.WARN, e);
@@ -254,26 +247,63 @@ public class ProcessKeywords {
         }
     }
 
+    private static Set<String> extractMetadataKeywords(String metaXml, String rulesetFile) {
+        if (!metaXml.contains(ANY_METADATA_MARKER)) {
+            return new HashSet<>();
+        }
+        Set<String> result = new HashSet<>();
+        Map<String, Collection<String>> rulesetLabelMap = getRulesetLabelMap(rulesetFile);
+        Matcher metadataSectionsMatcher = METADATA_SECTIONS_PATTERN.matcher(metaXml);
+        while (metadataSectionsMatcher.find()) {
+            Matcher keyMatcher = METADATA_PATTERN.matcher(metadataSectionsMatcher.group(1));
+            while (keyMatcher.find()) {
+                String key = normalize(keyMatcher.group(1));
+                String valueString = keyMatcher.group(2);
+                for (String singleValue : splitValues(valueString)) {
+                    String value = normalize(singleValue);
+                    result.add(value);
+                    result.add(key + VALUE_SEPARATOR + value);
+                    result.add(key);
+                    for (String label : rulesetLabelMap.getOrDefault(key, Collections.emptyList())) {
+                        result.add(label + VALUE_SEPARATOR + value);
+                        result.add(label);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns a map for ruleset key translations. A cache is used, but if there
-     * is nothing in cache, the ruleset is parsed and the map is created. Since
+     * is nothing in cache, or the ruleset file has been modified since it was
+     * cached, the ruleset is parsed and the map is created. Since
      * Kitodo-DataEditor is not available here, we have to do this directly, and
-     * it also increases performance massively.
+     * it also increases performance massively. The cache is filled
+     * concurrently by the mass indexer threads, so each ruleset version is
+     * only parsed once.
      * 
      * @param file
      *            indicates a ruleset
      * @return a map
      */
     private static Map<String, Collection<String>> getRulesetLabelMap(String file) {
-        Map<String, Collection<String>> rulesetLabelMap = rulesetCache.get(file);
-        if (Objects.nonNull(rulesetLabelMap)) {
-            return rulesetLabelMap;
-        }
+        File rulesetFile = Paths.get(KitodoConfig.getParameter("directory.rulesets"), file).toFile();
+        long lastModified = rulesetFile.lastModified();
+        Pair<Long, Map<String, Collection<String>>> cached = rulesetCache.compute(file, (key, entry) -> {
+            if (Objects.nonNull(entry) && entry.getKey() == lastModified) {
+                return entry;
+            }
+            return Pair.of(lastModified, readRulesetLabelMap(rulesetFile));
+        });
+        return cached.getValue();
+    }
+
+    private static Map<String, Collection<String>> readRulesetLabelMap(File rulesetFile) {
         try {
-            File rulesetFile = Paths.get(KitodoConfig.getParameter("directory.rulesets"), file).toFile();
             logger.debug("Reading {} ...", rulesetFile);
             String ruleset = FileUtils.readFileToString(rulesetFile, StandardCharsets.UTF_8);
-            rulesetLabelMap = new HashMap<>();
+            Map<String, Collection<String>> rulesetLabelMap = new HashMap<>();
             Matcher keysMatcher = RULESET_KEY_PATTERN.matcher(ruleset);
             while (keysMatcher.find()) {
                 String key = normalize(keysMatcher.group(1));
@@ -284,13 +314,12 @@ public class ProcessKeywords {
                 while (labelMatcher.find()) {
                     labels.add(normalize(labelMatcher.group(1)));
                 }
-                rulesetLabelMap.put(key, labels);
+                rulesetLabelMap.put(key, Collections.unmodifiableSet(labels));
                 if (logger.isTraceEnabled()) {
                     logger.trace("- {} -> {}", key, String.join(", ", labels));
                 }
             }
-            rulesetCache.put(file, rulesetLabelMap);
-            return rulesetLabelMap;
+            return Collections.unmodifiableMap(rulesetLabelMap);
         } catch (IOException | RuntimeException e) {
             logger.catching(Level.WARN, e);
             return Collections.emptyMap();
@@ -421,6 +450,17 @@ public class ProcessKeywords {
         return String.join(" ", batchKeywords);
     }
 
+    /**
+     * Discards the cached metadata keywords of a process. This must be called
+     * after the deletion of the process has been committed.
+     *
+     * @param processId
+     *            ID of the deleted process
+     */
+    public static void discardCachedMetadataKeywords(int processId) {
+        MetadataKeywordsCache.remove(processId);
+    }
+
     private static int initialHashMapSize(Collection<?>... collections) {
         final double hashMapDefaultLoadFactor = 0.75;
         int items = 0;
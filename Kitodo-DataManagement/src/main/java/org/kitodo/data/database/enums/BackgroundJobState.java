@@ -0,0 +1,40 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.enums;
+
+/**
+ * Enum for the state of a background job. The states correspond to those of a
+ * task in the task manager:
+ *
+ * <dl>
+ * <dt>CRASHED</dt>
+ * <dd>the job has terminated abnormally</dd>
+ * <dt>FINISHED</dt>
+ * <dd>the job has finished its work without errors</dd>
+ * <dt>NEW</dt>
+ * <dd>the job has not yet been started</dd>
+ * <dt>STOPPED</dt>
+ * <dd>the job was stopped by a user and can be restarted</dd>
+ * <dt>STOPPING</dt>
+ * <dd>the job has received a request to stop, but did not stop yet</dd>
+ * <dt>WORKING</dt>
+ * <dd>the job is in operation</dd>
+ * </dl>
+ */
+public enum BackgroundJobState {
+    CRASHED,
+    FINISHED,
+    NEW,
+    STOPPED,
+    STOPPING,
+    WORKING
+}
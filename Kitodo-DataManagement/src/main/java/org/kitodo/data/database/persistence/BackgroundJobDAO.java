@@ -0,0 +1,212 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.persistence.PersistenceException;
+
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.exceptions.DAOException;
+
+/**
+ * DAO class for BackgroundJob bean. Background jobs are claimed by an
+ * application node with a lease that has to be renewed regularly. All
+ * modifications of a claimed job are conditional on the lease, so that a node
+ * that has lost its lease cannot overwrite the work of the node that took over.
+ */
+public class BackgroundJobDAO extends BaseDAO<BackgroundJob> {
+
+    /**
+     * States of jobs that still have work to do. Jobs in these states are
+     * resumed if their lease has expired.
+     */
+    private static final List<BackgroundJobState> PENDING_STATES = Arrays.asList(BackgroundJobState.NEW,
+        BackgroundJobState.WORKING, BackgroundJobState.STOPPING, BackgroundJobState.STOPPED);
+
+    @Override
+    public BackgroundJob getById(Integer id) throws DAOException {
+        BackgroundJob backgroundJob = retrieveObject(BackgroundJob.class, id);
+        if (Objects.isNull(backgroundJob)) {
+            throw new DAOException("Object cannot be found in database");
+        }
+        return backgroundJob;
+    }
+
+    @Override
+    public List<BackgroundJob> getAll() throws DAOException {
+        return retrieveAllObjects(BackgroundJob.class);
+    }
+
+    @Override
+    public List<BackgroundJob> getAll(int offset, int size) throws DAOException {
+        return retrieveObjects("FROM BackgroundJob ORDER BY id ASC", offset, size);
+    }
+
+    @Override
+    public List<BackgroundJob> getAllNotIndexed(int offset, int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(Integer backgroundJobId) throws DAOException {
+        removeObject(BackgroundJob.class, backgroundJobId);
+    }
+
+    /**
+     * Returns jobs that still have work to do, but are not run by any node.
+     * These are jobs that have not yet been claimed, and jobs whose lease has
+     * expired because the node running them has gone away.
+     *
+     * @param max
+     *            maximum number of jobs to return
+     * @return jobs that can be claimed, oldest first
+     */
+    public List<BackgroundJob> getClaimable(int max) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("states", PENDING_STATES);
+        parameters.put("now", new Date());
+        return getByQuery("FROM BackgroundJob WHERE state IN (:states)"
+                + " AND (leaseOwner IS NULL OR leaseExpiry < :now) ORDER BY id ASC", parameters, 0, max);
+    }
+
+    /**
+     * Claims a job for a node. The claim succeeds if the job is not held by
+     * any node, or if the lease on it has expired. It does not succeed for a
+     * job the node already holds, so a job cannot be claimed twice, even by
+     * the same node. If several nodes try to claim a job at the same time,
+     * only one of them succeeds.
+     *
+     * @param backgroundJobId
+     *            ID of the job to claim
+     * @param owner
+     *            name of the claiming node
+     * @param leaseExpiry
+     *            time until the job is reserved for the node
+     * @return whether the node got the job
+     * @throws DAOException
+     *             if the database cannot be accessed
+     */
+    public boolean claim(Integer backgroundJobId, String owner, Date leaseExpiry) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", backgroundJobId);
+        parameters.put("owner", owner);
+        parameters.put("leaseExpiry", leaseExpiry);
+        parameters.put("now", new Date());
+        return executeUpdate("UPDATE BackgroundJob SET leaseOwner = :owner, leaseExpiry = :leaseExpiry WHERE id = :id"
+                + " AND (leaseOwner IS NULL OR leaseExpiry < :now)", parameters) == 1;
+    }
+
+    /**
+     * Renews the lease of a node on a job, if the node still holds it.
+     *
+     * @param backgroundJobId
+     *            ID of the job
+     * @param owner
+     *            name of the node
+     * @param leaseExpiry
+     *            new time until the job is reserved for the node
+     * @return whether the node still holds the lease
+     * @throws DAOException
+     *             if the database cannot be accessed
+     */
+    public boolean renewLease(Integer backgroundJobId, String owner, Date leaseExpiry) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", backgroundJobId);
+        parameters.put("owner", owner);
+        parameters.put("leaseExpiry", leaseExpiry);
+        return executeUpdate("UPDATE BackgroundJob SET leaseExpiry = :leaseExpiry WHERE id = :id"
+                + " AND leaseOwner = :owner", parameters) == 1;
+    }
+
+    /**
+     * Renews the leases of a node on all jobs it holds, in one statement.
+     *
+     * @param owner
+     *            name of the node
+     * @param leaseExpiry
+     *            new time until the jobs are reserved for the node
+     * @return the IDs of the jobs the node holds
+     * @throws DAOException
+     *             if the database cannot be accessed
+     */
+    public Set<Integer> renewLeases(String owner, Date leaseExpiry) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("owner", owner);
+        parameters.put("leaseExpiry", leaseExpiry);
+        executeUpdate("UPDATE BackgroundJob SET leaseExpiry = :leaseExpiry WHERE leaseOwner = :owner", parameters);
+        parameters.remove("leaseExpiry");
+        Set<Integer> held = new HashSet<>();
+        try {
+            for (Object[] row : getProjectionByQuery("SELECT id FROM BackgroundJob"
+                    + " WHERE leaseOwner = :owner", parameters)) {
+                held.add((Integer) row[0]);
+            }
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+        return held;
+    }
+
+    /**
+     * Writes the state, progress, checkpoint and error message of a job and
+     * renews the lease, if the node still holds the lease on the job.
+     *
+     * @param backgroundJob
+     *            job to write
+     * @param owner
+     *            name of the node running the job
+     * @param leaseExpiry
+     *            new time until the job is reserved for the node
+     * @return whether the node still holds the lease. If not, another node has
+     *         taken over the job or it has been deleted.
+     * @throws DAOException
+     *             if the database cannot be accessed
+     */
+    public boolean update(BackgroundJob backgroundJob, String owner, Date leaseExpiry) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", backgroundJob.getId());
+        parameters.put("owner", owner);
+        parameters.put("state", backgroundJob.getState());
+        parameters.put("progress", backgroundJob.getProgress());
+        parameters.put("checkpoint", backgroundJob.getCheckpoint());
+        parameters.put("errorMessage", backgroundJob.getErrorMessage());
+        parameters.put("leaseExpiry", leaseExpiry);
+        return executeUpdate("UPDATE BackgroundJob SET state = :state, progress = :progress,"
+                + " checkpoint = :checkpoint, errorMessage = :errorMessage, leaseExpiry = :leaseExpiry"
+                + " WHERE id = :id AND leaseOwner = :owner", parameters) == 1;
+    }
+
+    /**
+     * Releases all jobs held by a node, so that they can be claimed again
+     * immediately. This is used when the node shuts down.
+     *
+     * @param owner
+     *            name of the node
+     * @throws DAOException
+     *             if the database cannot be accessed
+     */
+    public void release(String owner) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("owner", owner);
+        executeUpdate("UPDATE BackgroundJob SET leaseOwner = NULL, leaseExpiry = NULL WHERE leaseOwner = :owner",
+            parameters);
+    }
+}
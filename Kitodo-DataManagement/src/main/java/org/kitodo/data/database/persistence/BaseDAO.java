@@ -34,9 +34,14 @@ import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.hibernate.exception.SQLGrammarException;
+import org.hibernate.query.MutationQuery;
 import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.hibernate.search.util.common.SearchException;
 import org.kitodo.config.ConfigMain;
 import org.kitodo.data.database.beans.BaseBean;
+import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.utils.Stopwatch;
 
@@ -366,6 +371,79 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Executes an HQL update or delete statement in its own transaction. The
+     * database evaluates the conditions of the statement and modifies the rows
+     * in one step, so the statement can be used to change rows only if they
+     * are still in the expected state.
+     *
+     * @param hql
+     *            update or delete statement
+     * @param parameters
+     *            for statement
+     * @return the number of rows modified
+     * @throws DAOException
+     *             if a HibernateException is thrown
+     */
+    int executeUpdate(String hql, Map<String, Object> parameters) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            MutationQuery query = session.createMutationQuery(hql);
+            for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+                query.setParameter(parameter.getKey(), parameter.getValue());
+            }
+            int modified = query.executeUpdate();
+            transaction.commit();
+            return modified;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Returns the IDs of the processes selected by a query.
+     *
+     * @param query
+     *            HQL query selecting the IDs of the processes
+     * @param parameters
+     *            for query
+     * @return the IDs of the processes
+     */
+    List<Integer> getProcessIds(String query, Map<String, Object> parameters) {
+        try (Session session = HibernateUtil.getSession()) {
+            Query<Integer> queryObject = session.createQuery(query, Integer.class);
+            addParameters(queryObject, parameters);
+            return queryObject.list();
+        }
+    }
+
+    /**
+     * Updates the index documents of processes. The index document of a
+     * process contains data of its tasks, comments and batches, but Hibernate
+     * Search does not reindex the process when these change. The DAOs of
+     * these objects must therefore do so after their changes were committed.
+     * If indexing fails, this is logged only, because the change itself has
+     * been saved.
+     *
+     * @param processIds
+     *            IDs of the processes
+     */
+    static void reindexProcesses(Collection<Integer> processIds) {
+        if (processIds.isEmpty()) {
+            return;
+        }
+        try (Session session = HibernateUtil.getSession()) {
+            SearchIndexingPlan indexingPlan = Search.session(session).indexingPlan();
+            for (Process process : session.createQuery("FROM Process WHERE id IN (:ids)", Process.class)
+                    .setParameter("ids", processIds).list()) {
+                indexingPlan.addOrUpdate(process);
+            }
+            indexingPlan.execute();
+        } catch (PersistenceException | SearchException e) {
+            logger.warn("Could not reindex processes {}", processIds, e);
+        }
+    }
+
     /**
      * Removes the object from the database with with specified class type and
      * {@code id}.
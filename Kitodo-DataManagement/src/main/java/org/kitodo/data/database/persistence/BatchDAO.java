@@ -11,7 +11,11 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.exceptions.DAOException;
@@ -24,6 +28,9 @@ import org.kitodo.data.database.exceptions.DAOException;
  */
 public class BatchDAO extends BaseDAO<Batch> {
 
+    private static final String PROCESSES_OF_BATCH = "SELECT process.id FROM Batch AS batch"
+            + " JOIN batch.processes AS process WHERE batch.id = :id";
+
     @Override
     public Batch getById(Integer id) throws DAOException {
         Batch batch = retrieveObject(Batch.class, id);
@@ -49,9 +56,38 @@ public class BatchDAO extends BaseDAO<Batch> {
             size);
     }
 
+    /**
+     * Saves a batch. The processes that were in the batch before and the
+     * processes that are in it now are marked as changed, because the batch
+     * titles are part of their index documents.
+     *
+     * @param batch
+     *            batch to save
+     * @throws DAOException
+     *             if the current session can't be retrieved or an exception is
+     *             thrown while performing the rollback
+     */
+    @Override
+    public void save(Batch batch) throws DAOException {
+        // processes removed from the batch must be reindexed as well
+        Set<Integer> processIds = new HashSet<>(getProcessIds(batch));
+        super.save(batch);
+        processIds.addAll(getProcessIds(batch));
+        reindexProcesses(processIds);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
+        List<Integer> processIds = getProcessIds(PROCESSES_OF_BATCH, Collections.singletonMap("id", id));
         removeObject(Batch.class, id);
+        reindexProcesses(processIds);
+    }
+
+    @Override
+    public void remove(Batch batch) throws DAOException {
+        List<Integer> processIds = getProcessIds(batch);
+        super.remove(batch);
+        reindexProcesses(processIds);
     }
 
     /**
@@ -66,7 +102,12 @@ public class BatchDAO extends BaseDAO<Batch> {
      */
     public void removeAll(Iterable<Integer> ids) throws DAOException {
         for (Integer id : ids) {
-            removeObject(Batch.class, id);
+            remove(id);
         }
     }
+
+    private List<Integer> getProcessIds(Batch batch) {
+        return Objects.nonNull(batch.getId()) ? getProcessIds(PROCESSES_OF_BATCH, Collections.singletonMap("id",
+            batch.getId())) : Collections.emptyList();
+    }
 }
@@ -13,6 +13,7 @@ package org.kitodo.data.database.persistence;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import org.kitodo.data.database.beans.Comment;
 import org.kitodo.data.database.beans.Process;
@@ -21,6 +22,9 @@ import org.kitodo.data.database.exceptions.DAOException;
 
 public class CommentDAO extends BaseDAO<Comment> {
 
+    private static final String PROCESSES_OF_COMMENTS = "SELECT comment.process.id FROM Comment AS comment"
+            + " WHERE comment.id IN (:ids)";
+
     @Override
     public Comment getById(Integer commentId) throws DAOException {
         Comment comment = retrieveObject(Comment.class, commentId);
@@ -45,9 +49,27 @@ public class CommentDAO extends BaseDAO<Comment> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void save(Comment comment) throws DAOException {
+        super.save(comment);
+        reindexProcesses(getProcessIds(PROCESSES_OF_COMMENTS, Collections.singletonMap("ids", List.of(comment
+                .getId()))));
+    }
+
     @Override
     public void remove(Integer commentId) throws DAOException {
+        List<Integer> processIds = getProcessIds(PROCESSES_OF_COMMENTS, Collections.singletonMap("ids", List.of(
+            commentId)));
         removeObject(Comment.class, commentId);
+        reindexProcesses(processIds);
+    }
+
+    @Override
+    public void remove(Comment comment) throws DAOException {
+        List<Integer> processIds = Objects.nonNull(comment.getId()) ? getProcessIds(PROCESSES_OF_COMMENTS,
+            Collections.singletonMap("ids", List.of(comment.getId()))) : Collections.emptyList();
+        super.remove(comment);
+        reindexProcesses(processIds);
     }
 
     public List<Comment> getAllByProcess(Process process) {
@@ -78,5 +100,9 @@ public class CommentDAO extends BaseDAO<Comment> {
      */
     public void saveList(List<Comment> list) throws DAOException {
         storeList(list);
+        if (!list.isEmpty()) {
+            reindexProcesses(getProcessIds(PROCESSES_OF_COMMENTS, Collections.singletonMap("ids", list.stream().map(
+                Comment::getId).toList())));
+        }
     }
 }
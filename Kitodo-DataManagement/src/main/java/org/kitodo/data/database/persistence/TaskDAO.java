@@ -11,6 +11,7 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +32,7 @@ import org.kitodo.utils.Stopwatch;
 public class TaskDAO extends BaseDAO<Task> {
 
     private static final String KEY_PROCESS_ID = "processId";
+    private static final String PROCESS_OF_TASK = "SELECT task.process.id FROM Task AS task WHERE task.id = :id";
 
     @Override
     public Task getById(Integer id) throws DAOException {
@@ -60,9 +62,25 @@ public class TaskDAO extends BaseDAO<Task> {
             size);
     }
 
+    @Override
+    public void save(Task task) throws DAOException {
+        super.save(task);
+        reindexProcesses(getProcessIds(PROCESS_OF_TASK, Collections.singletonMap("id", task.getId())));
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
+        List<Integer> processIds = getProcessIds(PROCESS_OF_TASK, Collections.singletonMap("id", id));
         removeObject(Task.class, id);
+        reindexProcesses(processIds);
+    }
+
+    @Override
+    public void remove(Task task) throws DAOException {
+        List<Integer> processIds = Objects.nonNull(task.getId()) ? getProcessIds(PROCESS_OF_TASK,
+            Collections.singletonMap("id", task.getId())) : Collections.emptyList();
+        super.remove(task);
+        reindexProcesses(processIds);
     }
 
     public void update(Task task) {
@@ -0,0 +1,19 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+-- Add modification date to find processes for incremental indexing
+ALTER TABLE process ADD modificationDate DATETIME DEFAULT NULL;
+CREATE INDEX index_process_modificationdate ON process(modificationDate);
+
+-- The modification date is also stored in the search index now, in whole
+-- seconds. After this migration, the search index has to be rebuilt
+-- completely ("Whole index" on the indexing page). Until then, the index
+-- consistency check reports all processes as outdated.
@@ -0,0 +1,29 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+-- Add table "background_job" to persist the queue of the task manager
+CREATE TABLE IF NOT EXISTS background_job
+(
+    id INT(11) NOT NULL AUTO_INCREMENT,
+    type VARCHAR(255) NOT NULL COMMENT 'class name of the task to run',
+    name VARCHAR(255) DEFAULT NULL COMMENT 'name of the task shown in the task manager',
+    parameters LONGTEXT DEFAULT NULL COMMENT 'parameters to recreate the task, in properties format',
+    checkpoint LONGTEXT DEFAULT NULL COMMENT 'progress reached by the task, in properties format',
+    state VARCHAR(255) NOT NULL COMMENT 'state of the task',
+    progress INT(11) NOT NULL DEFAULT 0 COMMENT 'progress of the task in percent',
+    errorMessage LONGTEXT DEFAULT NULL COMMENT 'error message if the task crashed',
+    leaseOwner VARCHAR(255) DEFAULT NULL COMMENT 'application node running the task',
+    leaseExpiry DATETIME DEFAULT NULL COMMENT 'time until the task is reserved for the lease owner',
+    creationDate DATETIME DEFAULT NULL COMMENT 'time the task was created',
+    PRIMARY KEY(id),
+    KEY index_background_job_state (state)
+) DEFAULT CHARACTER SET = utf8mb4
+  COLLATE utf8mb4_unicode_ci;
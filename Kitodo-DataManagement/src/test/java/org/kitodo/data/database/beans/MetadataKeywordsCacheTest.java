@@ -0,0 +1,87 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.beans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kitodo.config.KitodoConfig;
+
+class MetadataKeywordsCacheTest {
+
+    private static final String CACHE_DIRECTORY_PARAMETER = "searchindex.keywordCache.directory";
+    private static final Set<String> KEYWORDS = Set.of("berlin", "titledocmainqberlin");
+
+    @TempDir
+    Path directory;
+
+    private Path metadataFile;
+    private Path rulesetFile;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        KitodoConfig.getConfig().setProperty(CACHE_DIRECTORY_PARAMETER, directory.resolve("cache").toString());
+        metadataFile = Files.writeString(directory.resolve("meta.xml"), "<mets/>", StandardCharsets.UTF_8);
+        rulesetFile = Files.writeString(directory.resolve("ruleset.xml"), "<ruleset/>", StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        KitodoConfig.getConfig().clearProperty(CACHE_DIRECTORY_PARAMETER);
+    }
+
+    @Test
+    public void shouldReturnKeywordsForMatchingStamp() throws Exception {
+        String stamp = MetadataKeywordsCache.stamp(metadataFile, rulesetFile);
+        MetadataKeywordsCache.put(1, stamp, KEYWORDS);
+        assertEquals(KEYWORDS, MetadataKeywordsCache.get(1, stamp));
+    }
+
+    @Test
+    public void shouldIgnoreEntryWhenMetadataFileChanged() throws Exception {
+        String stamp = MetadataKeywordsCache.stamp(metadataFile, rulesetFile);
+        MetadataKeywordsCache.put(2, stamp, KEYWORDS);
+
+        Files.writeString(metadataFile, "<mets></mets>", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(metadataFile, FileTime.fromMillis(Files.getLastModifiedTime(metadataFile)
+                .toMillis() + 1000));
+        String changedStamp = MetadataKeywordsCache.stamp(metadataFile, rulesetFile);
+        assertNotEquals(stamp, changedStamp);
+        assertNull(MetadataKeywordsCache.get(2, changedStamp));
+    }
+
+    @Test
+    public void shouldRemoveEntryOfDeletedProcess() throws Exception {
+        String stamp = MetadataKeywordsCache.stamp(metadataFile, rulesetFile);
+        MetadataKeywordsCache.put(3, stamp, KEYWORDS);
+        MetadataKeywordsCache.put(4, stamp, KEYWORDS);
+
+        MetadataKeywordsCache.remove(3);
+        assertNull(MetadataKeywordsCache.get(3, stamp));
+        assertEquals(KEYWORDS, MetadataKeywordsCache.get(4, stamp));
+        try (Stream<Path> entries = Files.walk(directory.resolve("cache"))) {
+            assertEquals(1, entries.filter(Files::isRegularFile).count(), "Only one entry should be left");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.MockIndex;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class BackgroundJobDaoIT {
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        MockIndex.startNode();
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        MockIndex.stopNode();
+    }
+
+    @Test
+    public void shouldClaimJobsWithLease() throws DAOException {
+        BackgroundJobDAO backgroundJobDAO = new BackgroundJobDAO();
+        BackgroundJob backgroundJob = new BackgroundJob();
+        backgroundJob.setType("org.kitodo.SampleTask");
+        backgroundJob.setState(BackgroundJobState.NEW);
+        backgroundJobDAO.save(backgroundJob);
+        Integer id = backgroundJob.getId();
+        assertEquals(1, backgroundJobDAO.getClaimable(10).size(), "New job should be claimable");
+
+        Date future = new Date(System.currentTimeMillis() + 60_000);
+        assertTrue(backgroundJobDAO.claim(id, "first", future), "First node should get the job");
+        assertFalse(backgroundJobDAO.claim(id, "second", future), "Second node should not get the job");
+        assertFalse(backgroundJobDAO.claim(id, "first", future), "First node should not claim the job twice");
+        assertTrue(backgroundJobDAO.getClaimable(10).isEmpty(), "Claimed job should not be claimable");
+
+        backgroundJob.setState(BackgroundJobState.WORKING);
+        backgroundJob.setProgress(42);
+        backgroundJob.setCheckpoint("step=7");
+        assertTrue(backgroundJobDAO.update(backgroundJob, "first", future), "Lease owner should update the job");
+        assertFalse(backgroundJobDAO.update(backgroundJob, "second", future), "Other node should not update");
+        assertEquals("step=7", backgroundJobDAO.getById(id).getCheckpoint(), "Checkpoint should be saved");
+
+        Date past = new Date(System.currentTimeMillis() - 1_000);
+        assertTrue(backgroundJobDAO.update(backgroundJob, "first", past), "Lease owner should update the job");
+        assertEquals(1, backgroundJobDAO.getClaimable(10).size(), "Job with expired lease should be claimable");
+        assertTrue(backgroundJobDAO.claim(id, "second", future), "Second node should take over the job");
+        assertFalse(backgroundJobDAO.update(backgroundJob, "first", future), "First node should have lost the job");
+
+        assertFalse(backgroundJobDAO.renewLease(id, "first", future), "First node should not renew the lease");
+        assertTrue(backgroundJobDAO.renewLease(id, "second", future), "Second node should renew the lease");
+
+        backgroundJobDAO.release("second");
+        assertEquals(1, backgroundJobDAO.getClaimable(10).size(), "Released job should be claimable");
+
+        backgroundJobDAO.remove(id);
+        assertTrue(backgroundJobDAO.getAll().isEmpty(), "Job was not removed");
+    }
+
+    @Test
+    public void shouldRenewLeasesOfOwnedJobs() throws DAOException {
+        BackgroundJobDAO backgroundJobDAO = new BackgroundJobDAO();
+        Date past = new Date(System.currentTimeMillis() - 1_000);
+        BackgroundJob ownJob = new BackgroundJob();
+        ownJob.setType("org.kitodo.SampleTask");
+        ownJob.setState(BackgroundJobState.NEW);
+        ownJob.setLeaseOwner("first");
+        ownJob.setLeaseExpiry(past);
+        backgroundJobDAO.save(ownJob);
+        BackgroundJob otherJob = new BackgroundJob();
+        otherJob.setType("org.kitodo.SampleTask");
+        otherJob.setState(BackgroundJobState.NEW);
+        otherJob.setLeaseOwner("second");
+        otherJob.setLeaseExpiry(past);
+        backgroundJobDAO.save(otherJob);
+
+        Date future = new Date(System.currentTimeMillis() + 60_000);
+        assertEquals(Set.of(ownJob.getId()), backgroundJobDAO.renewLeases("first", future),
+            "Only the job of the first node should be held by it");
+        assertEquals(List.of(otherJob.getId()),
+            backgroundJobDAO.getClaimable(10).stream().map(BackgroundJob::getId).collect(Collectors.toList()),
+            "Only the job with the expired lease should be claimable");
+
+        backgroundJobDAO.remove(ownJob.getId());
+        backgroundJobDAO.remove(otherJob.getId());
+    }
+}
@@ -14,6 +14,7 @@ package org.kitodo.docket;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Collection;
 
@@ -33,6 +34,11 @@ public class Docket implements DocketInterface {
         return file;
     }
 
+    @Override
+    public void generateDocket(DocketData docketData, URI xslFileUri, OutputStream outputStream) throws IOException {
+        new ExportDocket(new File(xslFileUri)).startExport(docketData, outputStream);
+    }
+
     @Override
     public File generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri) throws IOException {
         File file = File.createTempFile("docket_multipage.pdf", ".tmp");
@@ -44,6 +50,12 @@ public class Docket implements DocketInterface {
         return file;
     }
 
+    @Override
+    public void generateMultipleDockets(Collection<DocketData> docketData, URI xslFileUri, OutputStream outputStream)
+            throws IOException {
+        new ExportDocket(new File(xslFileUri)).startExport(docketData, outputStream);
+    }
+
     @Override
     public void exportXmlLog(DocketData docketData, String destination) throws IOException {
         File file = new File(destination);
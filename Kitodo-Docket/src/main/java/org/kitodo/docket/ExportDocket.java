@@ -16,33 +16,97 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import javax.xml.transform.Result;
-import javax.xml.transform.Transformer;
+import javax.xml.transform.Templates;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 
 import org.apache.fop.apps.FOPException;
+import org.apache.fop.apps.FOUserAgent;
 import org.apache.fop.apps.Fop;
 import org.apache.fop.apps.FopFactory;
 import org.apache.fop.apps.FopFactoryBuilder;
 import org.apache.fop.apps.MimeConstants;
+import org.apache.fop.render.intermediate.IFContext;
+import org.apache.fop.render.intermediate.IFDocumentHandler;
+import org.apache.fop.render.intermediate.IFException;
+import org.apache.fop.render.intermediate.IFSerializer;
+import org.apache.fop.render.intermediate.IFUtil;
+import org.apache.fop.render.intermediate.util.IFConcatenator;
 import org.kitodo.api.docket.DocketData;
 
 /**
  * This class provides generating a run note based on the generated xml log.
  *
+ * <p>
+ * The FOP factory and the compiled XSLT stylesheets are shared by all
+ * exports. A stylesheet is compiled again only if its file was modified.
+ * Dockets for many processes are rendered in chunks in parallel, and the
+ * chunks are concatenated into one PDF.
+ *
  * @author Steffen Hankiewicz
  */
 public class ExportDocket {
 
+    /**
+     * Number of dockets rendered together in one chunk.
+     */
+    private static final int CHUNK_SIZE = 50;
+
+    private static final FopFactory fopFactory = createFopFactory();
+
+    private static final Map<File, CachedTemplates> templatesCache = new ConcurrentHashMap<>();
+
+    private static ExecutorService renderPool;
+
     File xsltFile;
 
+    /**
+     * A compiled stylesheet and the modification time of its file at the time
+     * it was compiled.
+     */
+    private static class CachedTemplates {
+        private final Templates templates;
+        private final long lastModified;
+
+        CachedTemplates(Templates templates, long lastModified) {
+            this.templates = templates;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * Writes FOP's intermediate format with the transformer of the JDK. The
+     * configured transformer, Saxon, rejects the events FOP generates for
+     * foreign objects such as barcodes.
+     */
+    private static class IntermediateFormatSerializer extends IFSerializer {
+        IntermediateFormatSerializer(IFContext context) {
+            super(context);
+            tFactory = (SAXTransformerFactory) TransformerFactory.newDefaultInstance();
+        }
+    }
+
     /**
      * Makes the class polymorphic.
-     * 
+     *
      * @param xsltFile
      *            XSLT file
      */
@@ -63,16 +127,17 @@ public class ExportDocket {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         new ExportXmlLog(docketData).accept(out);
 
-        byte[] pdfBytes = generatePdfBytes(out);
+        generatePdf(out.toByteArray(), outputStream);
 
-        outputStream.write(pdfBytes);
         outputStream.flush();
         outputStream.close();
     }
 
     /**
      * This method exports the production metadata as run note to a given
-     * stream. the docket.xsl has to be in the config-folder.
+     * stream. the docket.xsl has to be in the config-folder. If there are
+     * more dockets than fit into one chunk, the chunks are rendered in
+     * parallel and concatenated.
      *
      * @param docketDataList
      *            the docketData to export for several processes
@@ -80,36 +145,141 @@ public class ExportDocket {
      *             Throws IOException, when pdfGeneration fails.
      */
     void startExport(Iterable<DocketData> docketDataList, OutputStream os) throws IOException {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        new ExportXmlLog(docketDataList).accept(out);
+        List<DocketData> docketData = StreamSupport.stream(docketDataList.spliterator(), false)
+                .collect(Collectors.toList());
+        if (docketData.size() <= CHUNK_SIZE) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new ExportXmlLog(docketData).accept(out);
+            generatePdf(out.toByteArray(), os);
+        } else {
+            concatenate(renderChunks(docketData), os);
+        }
+    }
+
+    private void generatePdf(byte[] xmlLog, OutputStream outputStream) throws IOException {
+        try {
+            Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, outputStream);
+            transform(xmlLog, new SAXResult(fop.getDefaultHandler()));
+        } catch (FOPException e) {
+            throw new IOException("FOPException occurred", e);
+        }
+    }
 
-        byte[] pdfBytes = generatePdfBytes(out);
+    /**
+     * Renders the dockets in chunks, in parallel, to FOP's intermediate
+     * format.
+     *
+     * @param docketData
+     *            the docketData to export for several processes
+     * @return the rendered chunks, in order
+     * @throws IOException
+     *             if rendering a chunk fails
+     */
+    private List<byte[]> renderChunks(List<DocketData> docketData) throws IOException {
+        List<Future<byte[]>> futures = new ArrayList<>();
+        for (int from = 0; from < docketData.size(); from += CHUNK_SIZE) {
+            List<DocketData> chunk = docketData.subList(from, Math.min(from + CHUNK_SIZE, docketData.size()));
+            futures.add(getRenderPool().submit(() -> renderIntermediate(chunk)));
+        }
+        List<byte[]> chunks = new ArrayList<>(futures.size());
+        try {
+            for (Future<byte[]> future : futures) {
+                chunks.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering dockets", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause()
+                    : new IOException("Rendering dockets failed", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return chunks;
+    }
 
-        os.write(pdfBytes);
+    private byte[] renderIntermediate(List<DocketData> chunk) throws IOException {
+        ByteArrayOutputStream xmlLog = new ByteArrayOutputStream();
+        new ExportXmlLog(chunk).startMultipleExport(xmlLog);
+        ByteArrayOutputStream intermediate = new ByteArrayOutputStream();
+        try {
+            FOUserAgent userAgent = fopFactory.newFOUserAgent();
+            IFSerializer serializer = new IntermediateFormatSerializer(new IFContext(userAgent));
+            serializer.mimicDocumentHandler(createPdfDocumentHandler(userAgent));
+            userAgent.setDocumentHandlerOverride(serializer);
+            Fop fop = fopFactory.newFop(MimeConstants.MIME_FOP_IF, userAgent, intermediate);
+            transform(xmlLog.toByteArray(), new SAXResult(fop.getDefaultHandler()));
+        } catch (FOPException e) {
+            throw new IOException("FOPException occurred", e);
+        }
+        return intermediate.toByteArray();
     }
 
-    private byte[] generatePdfBytes(ByteArrayOutputStream out) throws IOException {
-        // generate pdf file
-        StreamSource source = new StreamSource(new ByteArrayInputStream(out.toByteArray()));
-        StreamSource transformSource = new StreamSource(xsltFile);
-        FopFactoryBuilder builder = new FopFactoryBuilder(new File(".").toURI());
-        builder.setStrictFOValidation(false);
-        FopFactory fopFactory = builder.build();
-        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-        // transform xml
+    private void concatenate(List<byte[]> chunks, OutputStream outputStream) throws IOException {
         try {
-            Transformer xslTransformer = TransformerFactory.newInstance().newTransformer(transformSource);
-            Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, outStream);
-            Result res = new SAXResult(fop.getDefaultHandler());
-            xslTransformer.transform(source, res);
+            IFDocumentHandler documentHandler = createPdfDocumentHandler(fopFactory.newFOUserAgent());
+            IFUtil.setupFonts(documentHandler);
+            documentHandler.setResult(new StreamResult(outputStream));
+            IFConcatenator concatenator = new IFConcatenator(documentHandler, null);
+            for (byte[] chunk : chunks) {
+                concatenator.appendDocument(new StreamSource(new ByteArrayInputStream(chunk)));
+            }
+            concatenator.finish();
         } catch (FOPException e) {
             throw new IOException("FOPException occurred", e);
+        } catch (IFException e) {
+            throw new IOException("IFException occurred", e);
+        } catch (TransformerException e) {
+            throw new IOException("TransformerException occurred", e);
+        }
+    }
+
+    private static IFDocumentHandler createPdfDocumentHandler(FOUserAgent userAgent) throws FOPException {
+        return userAgent.getRendererFactory().createDocumentHandler(userAgent, MimeConstants.MIME_PDF);
+    }
+
+    private void transform(byte[] xmlLog, Result result) throws IOException {
+        try {
+            getTemplates().newTransformer().transform(new StreamSource(new ByteArrayInputStream(xmlLog)), result);
         } catch (TransformerException e) {
             throw new IOException("TransformerException occurred", e);
         }
+    }
+
+    /**
+     * Returns the compiled stylesheet. It is compiled only if it has not been
+     * compiled yet, or if the file has been modified since.
+     *
+     * @return the compiled stylesheet
+     * @throws TransformerException
+     *             if the stylesheet cannot be compiled
+     */
+    private Templates getTemplates() throws TransformerException {
+        long lastModified = xsltFile.lastModified();
+        CachedTemplates cachedTemplates = templatesCache.get(xsltFile);
+        if (Objects.nonNull(cachedTemplates) && cachedTemplates.lastModified == lastModified) {
+            return cachedTemplates.templates;
+        }
+        Templates templates = TransformerFactory.newInstance().newTemplates(new StreamSource(xsltFile));
+        templatesCache.put(xsltFile, new CachedTemplates(templates, lastModified));
+        return templates;
+    }
 
-        // write the content to output stream
-        return outStream.toByteArray();
+    private static FopFactory createFopFactory() {
+        FopFactoryBuilder builder = new FopFactoryBuilder(new File(".").toURI());
+        builder.setStrictFOValidation(false);
+        return builder.build();
     }
 
+    private static synchronized ExecutorService getRenderPool() {
+        if (Objects.isNull(renderPool)) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            renderPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "DocketRenderer-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return renderPool;
+    }
 }
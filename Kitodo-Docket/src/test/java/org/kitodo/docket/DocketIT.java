@@ -16,12 +16,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 
+import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.io.RandomAccessRead;
 import org.apache.pdfbox.io.RandomAccessReadMemoryMappedFile;
 import org.apache.pdfbox.pdfparser.PDFParser;
@@ -89,6 +91,26 @@ public class DocketIT {
         assertEquals(expectedFileStrings, generatedFileStrings, "Compared results are different!");
     }
 
+    @Test
+    public void testExportMultipleDocketsInChunks() throws IOException, URISyntaxException {
+        ArrayList<String> processIds = new ArrayList<>();
+        for (int i = 1; i <= 120; i++) {
+            processIds.add("chunkedProcessId" + i + "x");
+        }
+        URI pathToXslFile = new File("src/test/resources/docket_multipage.xsl").toURI();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new Docket().generateMultipleDockets(docketDataGenerator.createDocketData(processIds), pathToXslFile,
+            outputStream);
+
+        String generatedPdfText = new PDFTextStripper().getText(Loader.loadPDF(outputStream.toByteArray()));
+        for (String processId : processIds) {
+            assertTrue(generatedPdfText.contains(processId), "Docket missing for " + processId);
+        }
+        assertTrue(generatedPdfText.indexOf("chunkedProcessId50x") < generatedPdfText.indexOf("chunkedProcessId51x"),
+            "Dockets are not in order");
+    }
+
     private String getPDFText(File pdfFile) throws IOException {
         try (RandomAccessRead memoryMappedFile = new RandomAccessReadMemoryMappedFile(pdfFile)) {
             return new PDFTextStripper().getText(new PDFParser(memoryMappedFile).parse());
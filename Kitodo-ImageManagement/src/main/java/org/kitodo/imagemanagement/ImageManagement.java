@@ -17,10 +17,13 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.function.Function;
 
 import javax.imageio.ImageIO;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.imagemanagement.ImageFileFormat;
@@ -94,6 +97,36 @@ public class ImageManagement implements ImageManagementInterface {
         return new File(resultUri).exists();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * All derivatives are created with one single ImageMagick call, reading and
+     * decoding the source image only once.
+     *
+     * @see org.kitodo.api.imagemanagement.ImageManagementInterface#createDerivatives(java.net.URI,
+     *      java.util.Map)
+     */
+    @Override
+    public boolean createDerivatives(URI sourceUri, Map<URI, Pair<Double, ImageFileFormat>> derivatives)
+            throws IOException {
+
+        fileExists(sourceUri);
+        if (derivatives.isEmpty()) {
+            return true;
+        }
+
+        ImageConverter imageConverter = new ImageConverter(sourceUri);
+        for (Entry<URI, Pair<Double, ImageFileFormat>> derivative : derivatives.entrySet()) {
+            Guard.isPositive("factor", derivative.getValue().getKey());
+            imageConverter.addResult(derivative.getKey(), derivative.getValue().getValue())
+                    .resize(derivative.getValue().getKey());
+        }
+        logger.info("Creating {} derivatives from {}", derivatives.size(), sourceUri);
+        imageConverter.run();
+        return derivatives.keySet().stream().allMatch(resultUri -> new File(resultUri).exists());
+    }
+
     /**
      * {@inheritDoc}
      *
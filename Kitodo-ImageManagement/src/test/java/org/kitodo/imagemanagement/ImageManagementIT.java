@@ -17,15 +17,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.awt.Image;
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.SystemUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.im4java.core.ConvertCmd;
 import org.im4java.core.IM4JavaException;
 import org.im4java.core.IMOperation;
@@ -70,6 +74,7 @@ public class ImageManagementIT {
     private static final String _00000001_MAX_JPG = RESOURCES + "/00000001_max.jpg";
     private static final String _00000001_MAX_JPG_WITH_WHITESPACE = RESOURCES + "/00000001 whiteSpace_max.jpg";
     private static final String _00000001_MAX_JPG_WITH_SPECIAL_CHARACTER = RESOURCES + "/00000001_ÄÜÖ#_max.jpg";
+    private static final String _00000001_THUMBNAIL_PNG = RESOURCES + "/00000001_thumbnail.png";
 
     /**
      * Creates the input tiff file. The tiff file will contain the “wizard”
@@ -123,6 +128,21 @@ public class ImageManagementIT {
         assertTrue(maxDerivative.exists());
     }
 
+    @Test
+    public void testCreateDerivatives() throws IOException, InfoException {
+        assert new File(_00000001_TIF).exists();
+        File maxDerivative = new File(_00000001_MAX_JPG);
+        File thumbnail = new File(_00000001_THUMBNAIL_PNG);
+        ImageManagementInterface module = new ImageManagement();
+        Map<URI, Pair<Double, ImageFileFormat>> derivatives = new LinkedHashMap<>();
+        derivatives.put(maxDerivative.toURI(), Pair.of(1.0, ImageFileFormat.JPEG));
+        derivatives.put(thumbnail.toURI(), Pair.of(0.25, ImageFileFormat.PNG));
+        assertTrue(module.createDerivatives(new File(_00000001_TIF).toURI(), derivatives));
+        int sourceWidth = new Info(_00000001_TIF, true).getImageWidth();
+        assertEquals(sourceWidth, new Info(_00000001_MAX_JPG, true).getImageWidth());
+        assertEquals(sourceWidth / 4, new Info(_00000001_THUMBNAIL_PNG, true).getImageWidth());
+    }
+
     @Test
     public void testChangeDpi() throws IOException, InfoException {
         assert new File(_00000001_TIF).exists();
@@ -147,7 +167,7 @@ public class ImageManagementIT {
     public static void cleanUp() {
         File resources = new File(RESOURCES);
         for (File file : Objects.requireNonNull(resources.listFiles())) {
-            if (FilenameUtils.isExtension(file.getName(), "tif", "jpg")) {
+            if (FilenameUtils.isExtension(file.getName(), "tif", "jpg", "png")) {
                 file.delete();
             }
         }
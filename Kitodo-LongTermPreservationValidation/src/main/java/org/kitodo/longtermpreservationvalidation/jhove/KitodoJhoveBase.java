@@ -21,10 +21,12 @@ import java.io.File;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -45,6 +47,14 @@ import org.kitodo.longtermpreservationvalidation.conditions.LtpValidationConditi
  * including this jar interfers with the xml processing in Kitodo.Production
  * somehow. Specifically, mods2kitodo schema conversion does not work correctly.
  * </p>
+ *
+ * <p>
+ * JHove modules keep the state of the file being parsed, so they must not be
+ * used by several threads at the same time. Therefore, each thread validating
+ * files gets a JhoveBase instance with modules of its own. The results are
+ * kept in a cache, so that a file that has not changed since it was last
+ * validated against the same conditions is not parsed again.
+ * </p>
  */
 public class KitodoJhoveBase {
 
@@ -65,9 +75,27 @@ public class KitodoJhoveBase {
         "edu.harvard.hul.ois.jhove.module.Jpeg2000Module", "edu.harvard.hul.ois.jhove.module.JpegModule",
         "edu.harvard.hul.ois.jhove.module.PdfModule", "edu.harvard.hul.ois.jhove.module.TiffModule");
 
+    /**
+     * Maximum number of validation results kept in the cache.
+     */
+    private static final int RESULT_CACHE_SIZE = 10000;
+
     private static final App app = App.newAppWithName("JHOVE");
 
-    private static JhoveBase base = null;
+    private static final ThreadLocal<JhoveBase> base = ThreadLocal.withInitial(KitodoJhoveBase::initBase);
+
+    /**
+     * Validation results by file path, size, modification time, file type and
+     * conditions. The least recently used result is dropped when the cache is
+     * full.
+     */
+    private static final Map<String, LtpValidationResult> resultCache = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LtpValidationResult> eldest) {
+                return size() > RESULT_CACHE_SIZE;
+            }
+        });
 
     /**
      * Initializes JHove by loading all defined modules.
@@ -98,15 +126,12 @@ public class KitodoJhoveBase {
     }
 
     /**
-     * Returns the global JHoveBase instance.
+     * Returns the JHoveBase instance of the current thread.
      * 
      * @return the JHoveBase instance.
      */
     private static JhoveBase getJhoveBase() {
-        if (Objects.isNull(base)) {
-            base = initBase();
-        }
-        return base;
+        return base.get();
     }
 
     /**
@@ -134,7 +159,7 @@ public class KitodoJhoveBase {
         RepInfo info = new RepInfo(file.getAbsolutePath());
 
         try {
-            base.processFile(app, module, false, file, info);
+            getJhoveBase().processFile(app, module, false, file, info);
         } catch (Exception e) {
             logger.error("exception while validating with jhove", e);
             return new LtpValidationResult(LtpValidationResultState.ERROR,
@@ -183,7 +208,41 @@ public class KitodoJhoveBase {
                     Collections.singletonList(LtpValidationError.IO_ERROR));
         }
 
+        String cacheKey = getCacheKey(file, fileType, conditions);
+        LtpValidationResult cachedResult = resultCache.get(cacheKey);
+        if (Objects.nonNull(cachedResult)) {
+            logger.debug("using cached validation result for {}", filepath);
+            return cachedResult;
+        }
+
         Module module = getJhoveBase().getModule(MODULE_NAMES_BY_FILE_TYPE.get(fileType));
-        return validateFile(module, file, conditions);
+        LtpValidationResult result = validateFile(module, file, conditions);
+        if (result.getErrors().isEmpty()) {
+            resultCache.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the key under which the validation result of a file is cached.
+     * The key changes if the file is changed, or if it is validated as a
+     * different file type or against different conditions.
+     *
+     * @param file
+     *            the file that is validated
+     * @param fileType
+     *            target file type that the file is supposed to be
+     * @param conditions
+     *            list of validation conditions that are checked
+     * @return the cache key
+     */
+    private static String getCacheKey(File file, FileType fileType,
+            List<? extends LtpValidationConditionInterface> conditions) {
+        String conditionsKey = conditions.stream()
+                .map(condition -> condition.getProperty() + ' ' + condition.getOperation() + ' '
+                        + condition.getValues() + ' ' + condition.getSeverity())
+                .collect(Collectors.joining("\n"));
+        return file.getAbsolutePath() + '\n' + file.length() + '\n' + file.lastModified() + '\n' + fileType + '\n'
+                + conditionsKey;
     }
 }
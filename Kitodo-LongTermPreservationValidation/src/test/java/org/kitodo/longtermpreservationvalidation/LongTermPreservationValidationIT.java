@@ -13,11 +13,15 @@ package org.kitodo.longtermpreservationvalidation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.kitodo.api.validation.longtermpreservation.FileType;
@@ -356,6 +360,31 @@ public class LongTermPreservationValidationIT {
                         List.of(validCondition)).getState());
     }
 
+    /**
+     * Check that files can be validated in parallel, and that the result for
+     * an unchanged file is taken from the cache unless the conditions differ.
+     */
+    @Test
+    public void testParallelValidationAndResultCache() {
+        LongTermPreservationValidationInterface validator = new LongTermPreservationValidation();
+        List<URI> files = List.of(CORRUPTED_TIF_URI, TIF_URI, TIF_URI, CORRUPTED_TIF_URI);
+        List<LtpValidationResultState> states = IntStream.range(0, 20).parallel()
+                .mapToObj(i -> simpleValidateFile(files.get(i % files.size()), FileType.TIFF))
+                .collect(Collectors.toList());
+        for (int i = 0; i < states.size(); i++) {
+            assertEquals(files.get(i % files.size()).equals(TIF_URI) ? LtpValidationResultState.VALID
+                    : LtpValidationResultState.ERROR, states.get(i));
+        }
+
+        LtpValidationCondition condition = new LtpValidationCondition("imageWidth",
+                LtpValidationConditionOperation.LARGER_THAN, List.of("10"), LtpValidationConditionSeverity.ERROR);
+        LtpValidationCondition otherCondition = new LtpValidationCondition("imageWidth",
+                LtpValidationConditionOperation.LARGER_THAN, List.of("20"), LtpValidationConditionSeverity.ERROR);
+        LtpValidationResult result = validator.validate(TIF_URI, FileType.TIFF, List.of(condition));
+        assertSame(result, validator.validate(TIF_URI, FileType.TIFF, List.of(condition)));
+        assertNotSame(result, validator.validate(TIF_URI, FileType.TIFF, List.of(otherCondition)));
+    }
+
     private LtpValidationResultState simpleValidateFile(URI file, FileType fileType) {
         LongTermPreservationValidationInterface validator = new LongTermPreservationValidation();
 
@@ -15,9 +15,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.xml.XMLConstants;
@@ -38,16 +42,33 @@ import org.xml.sax.SAXParseException;
 /**
  * Implementation of the FileStructureValidationInterface. Validates an XML file or string against a given xsd schema.
  * Based on <a href="https://www.baeldung.com/java-validate-xml-xsd"/>
+ *
+ * <p>Compiling a schema is expensive, especially for large schemata such as METS and MODS. Compiled schemata are
+ * therefore cached for each list of schema files and reused until one of the files is modified. Only the validator,
+ * which is cheap to create, is created for each validation.
  */
 public class FileStructureValidation implements FileStructureValidationInterface {
 
     private static final Logger logger = LogManager.getLogger(FileStructureValidation.class);
 
+    private static final Map<List<URI>, CachedSchema> schemaCache = new ConcurrentHashMap<>();
+
+    /**
+     * A compiled schema and the modification times of its schema files at the time it was compiled.
+     */
+    private static class CachedSchema {
+        private final Schema schema;
+        private final List<Long> lastModified;
+
+        CachedSchema(Schema schema, List<Long> lastModified) {
+            this.schema = schema;
+            this.lastModified = lastModified;
+        }
+    }
+
     @Override
     public ValidationResult validate(String xmlContent, URI xsdFileUri) throws SAXException, IOException {
-        Collection<URI> schemaUris = Collections.singletonList(xsdFileUri);
-        Validator xmlValidator = initializeXmlValidator(schemaUris);
-        return validateStreamSource(new StreamSource(new StringReader(xmlContent)), xmlValidator, "N/A", schemaUris);
+        return validate(xmlContent, Collections.singletonList(xsdFileUri));
     }
 
     @Override
@@ -59,11 +80,36 @@ public class FileStructureValidation implements FileStructureValidationInterface
 
     @Override
     public ValidationResult validate(String xmlContent, Collection<URI> xsdFiles) throws IOException, SAXException {
+        return validate(new StreamSource(new StringReader(xmlContent)), xsdFiles);
+    }
+
+    @Override
+    public ValidationResult validate(Source xmlSource, Collection<URI> xsdFiles) throws IOException, SAXException {
         Validator xmlValidator = initializeXmlValidator(xsdFiles);
-        return validateStreamSource(new StreamSource(new StringReader(xmlContent)), xmlValidator, "N/A", xsdFiles);
+        String xmlPath = Objects.nonNull(xmlSource.getSystemId()) ? xmlSource.getSystemId() : "N/A";
+        return validateStreamSource(xmlSource, xmlValidator, xmlPath, xsdFiles);
     }
 
-    private ValidationResult validateStreamSource(StreamSource source, Validator validator, String xmlPath, Collection<URI> xsdPaths)
+    @Override
+    public Schema getSchema(Collection<URI> xsdFiles) throws SAXException {
+        List<URI> key = List.copyOf(xsdFiles);
+        List<Long> lastModified = key.stream().map(uri -> new File(uri).lastModified()).collect(Collectors.toList());
+        CachedSchema cachedSchema = schemaCache.get(key);
+        if (Objects.nonNull(cachedSchema) && cachedSchema.lastModified.equals(lastModified)) {
+            return cachedSchema.schema;
+        }
+        logger.debug("Compiling schemata {}", key);
+        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        List<Source> sources = new ArrayList<>(key.size());
+        for (URI xsdFile : key) {
+            sources.add(new StreamSource(new File(xsdFile)));
+        }
+        Schema schema = schemaFactory.newSchema(sources.toArray(new Source[0]));
+        schemaCache.put(key, new CachedSchema(schema, lastModified));
+        return schema;
+    }
+
+    private ValidationResult validateStreamSource(Source source, Validator validator, String xmlPath, Collection<URI> xsdPaths)
             throws IOException {
         try {
             validator.validate(source);
@@ -87,13 +133,7 @@ public class FileStructureValidation implements FileStructureValidationInterface
 
     private Validator initializeXmlValidator(Collection<URI> xsdFilePaths) throws SAXException {
         FileStructureValidationErrorHandler xmlValidationErrorHandler = new FileStructureValidationErrorHandler();
-        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Source[] sources = new Source[xsdFilePaths.size()];
-        for (int i = 0; i < xsdFilePaths.size(); i++) {
-            sources[i] = new StreamSource(new File(xsdFilePaths.toArray(new URI[0])[i]));
-        }
-        Schema schema = schemaFactory.newSchema(sources);
-        Validator xmlValidator = schema.newValidator();
+        Validator xmlValidator = getSchema(xsdFilePaths).newValidator();
         xmlValidator.setErrorHandler(xmlValidationErrorHandler);
         return xmlValidator;
     }
@@ -18,10 +18,14 @@ import java.io.UncheckedIOException;
 import java.net.URI;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale.LanguageRange;
@@ -29,8 +33,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentHashMap.KeySetView;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -45,6 +53,7 @@ import org.kitodo.api.dataeditor.rulesetmanagement.MetadataViewWithValuesInterfa
 import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
 import org.kitodo.api.dataeditor.rulesetmanagement.SimpleMetadataViewInterface;
 import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
+import org.kitodo.api.dataformat.Division;
 import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.PhysicalDivision;
 import org.kitodo.api.dataformat.View;
@@ -53,6 +62,7 @@ import org.kitodo.api.dataformat.mets.MetsXmlElementAccessInterface;
 import org.kitodo.api.filemanagement.FileManagementInterface;
 import org.kitodo.api.validation.State;
 import org.kitodo.api.validation.ValidationResult;
+import org.kitodo.api.validation.metadata.MetadataValidationCache;
 import org.kitodo.api.validation.metadata.MetadataValidationInterface;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 
@@ -94,6 +104,13 @@ public class MetadataValidation implements MetadataValidationInterface {
      */
     private static final String MESSAGE_VALUE_TOO_RARE = "metadataNotEnoughElements";
 
+    /**
+     * Number of divisions checked together in one chunk.
+     */
+    private static final int CHUNK_SIZE = 100;
+
+    private static ExecutorService workerPool;
+
     @Override
     public ValidationResult validate(URI metsFileUri, URI rulesetFileUri, List<LanguageRange> metadataLanguage,
             Map<String, String> translations) {
@@ -115,6 +132,13 @@ public class MetadataValidation implements MetadataValidationInterface {
     @Override
     public ValidationResult validate(Workpiece workpiece, RulesetManagementInterface ruleset,
             List<LanguageRange> metadataLanguage, Map<String, String> translations, boolean checkMedia) {
+        return validate(workpiece, ruleset, metadataLanguage, translations, checkMedia, null);
+    }
+
+    @Override
+    public ValidationResult validate(Workpiece workpiece, RulesetManagementInterface ruleset,
+            List<LanguageRange> metadataLanguage, Map<String, String> translations, boolean checkMedia,
+            MetadataValidationCache cache) {
 
         Collection<ValidationResult> results = new ArrayList<>();
 
@@ -123,21 +147,60 @@ public class MetadataValidation implements MetadataValidationInterface {
             results.add(checkForUnlinkedMedia(workpiece, translations));
         }
 
-        for (LogicalDivision logicalDivision : workpiece.getAllLogicalDivisions()) {
-            if (Objects.isNull(logicalDivision.getLink())) {
-                results.addAll(checkMetadataRules(logicalDivision.toString(), logicalDivision.getType(),
-                        getMetadata(logicalDivision), ruleset, metadataLanguage, translations));
+        List<Division<?>> divisions = getDivisionsToValidate(workpiece);
+        List<Collection<Metadata>> metadata = new ArrayList<>(divisions.size());
+        List<Object> fingerprints = new ArrayList<>(divisions.size());
+        List<Collection<ValidationResult>> divisionResults = new ArrayList<>(divisions.size());
+        List<Integer> divisionsToCheck = new ArrayList<>();
+        for (Division<?> division : divisions) {
+            Collection<Metadata> divisionMetadata = getMetadata(division);
+            Optional<Collection<ValidationResult>> cachedResults = Optional.empty();
+            if (Objects.nonNull(cache)) {
+                Object fingerprint = fingerprint(division, divisionMetadata, ruleset, metadataLanguage, translations);
+                fingerprints.add(fingerprint);
+                cachedResults = cache.getResults(division, fingerprint);
+            }
+            if (cachedResults.isEmpty()) {
+                divisionsToCheck.add(divisionResults.size());
             }
+            metadata.add(divisionMetadata);
+            divisionResults.add(cachedResults.orElse(null));
         }
-
-        for (PhysicalDivision physicalDivision : workpiece.getAllPhysicalDivisions()) {
-            results.addAll(checkMetadataRules(physicalDivision.toString(), physicalDivision.getType(), getMetadata(physicalDivision),
-                    ruleset, metadataLanguage, translations));
+        checkMetadataRules(divisions, metadata, divisionsToCheck, divisionResults, ruleset, metadataLanguage,
+            translations);
+        if (Objects.nonNull(cache)) {
+            cache.setResults(divisions, fingerprints, divisionResults);
         }
 
+        divisionResults.forEach(results::addAll);
         return merge(results);
     }
 
+    /**
+     * Returns the divisions whose metadata is validated: the logical divisions
+     * that are not links to other workpieces, followed by the physical
+     * divisions.
+     *
+     * @param workpiece
+     *            workpiece to be examined
+     * @return the divisions to validate
+     */
+    private static List<Division<?>> getDivisionsToValidate(Workpiece workpiece) {
+        List<Division<?>> divisions = new ArrayList<>();
+        for (LogicalDivision logicalDivision : workpiece.getAllLogicalDivisions()) {
+            if (Objects.isNull(logicalDivision.getLink())) {
+                divisions.add(logicalDivision);
+            }
+        }
+        divisions.addAll(workpiece.getAllPhysicalDivisions());
+        return divisions;
+    }
+
+    private static Collection<Metadata> getMetadata(Division<?> division) {
+        return division instanceof LogicalDivision ? getMetadata((LogicalDivision) division)
+                : getMetadata((PhysicalDivision) division);
+    }
+
     private static Collection<Metadata> getMetadata(LogicalDivision logicalDivision) {
         Collection<Metadata> metadata = new ArrayList<>(logicalDivision.getMetadata());
         if (Objects.nonNull(logicalDivision.getLabel())) {
@@ -166,7 +229,58 @@ public class MetadataValidation implements MetadataValidationInterface {
         return metadata;
     }
 
-    private Collection<ValidationResult> checkMetadataRules(String elementString,
+    /**
+     * Checks the metadata rules for the divisions to check. The divisions are
+     * independent of each other, so they are checked in chunks in parallel.
+     * The results are stored at the position of their division.
+     *
+     * @param divisions
+     *            divisions of the workpiece
+     * @param metadata
+     *            metadata of the divisions, in the same order
+     * @param divisionsToCheck
+     *            indexes of the divisions to check
+     * @param divisionResults
+     *            list in which the results are stored
+     */
+    private static void checkMetadataRules(List<Division<?>> divisions, List<Collection<Metadata>> metadata,
+            List<Integer> divisionsToCheck, List<Collection<ValidationResult>> divisionResults,
+            RulesetManagementInterface ruleset, List<LanguageRange> metadataLanguage,
+            Map<String, String> translations) {
+        if (divisionsToCheck.size() <= CHUNK_SIZE) {
+            Iterator<Integer> indexes = divisionsToCheck.iterator();
+            for (Collection<ValidationResult> results : checkChunk(divisionsToCheck, divisions, metadata, ruleset,
+                metadataLanguage, translations)) {
+                divisionResults.set(indexes.next(), results);
+            }
+            return;
+        }
+        List<Future<List<Collection<ValidationResult>>>> futures = new ArrayList<>();
+        for (int from = 0; from < divisionsToCheck.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = divisionsToCheck.subList(from, Math.min(from + CHUNK_SIZE,
+                divisionsToCheck.size()));
+            futures.add(getWorkerPool().submit(() -> checkChunk(chunk, divisions, metadata, ruleset,
+                metadataLanguage, translations)));
+        }
+        try {
+            Iterator<Integer> indexes = divisionsToCheck.iterator();
+            for (Future<List<Collection<ValidationResult>>> future : futures) {
+                for (Collection<ValidationResult> results : future.get()) {
+                    divisionResults.set(indexes.next(), results);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while validating metadata", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                    : new IllegalStateException("Validating metadata failed", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static Collection<ValidationResult> checkMetadataRules(String elementString,
                                                             String type,
                                                             Collection<Metadata> metadata,
                                                             RulesetManagementInterface ruleset,
@@ -182,6 +296,18 @@ public class MetadataValidation implements MetadataValidationInterface {
         return results;
     }
 
+    private static List<Collection<ValidationResult>> checkChunk(List<Integer> chunk, List<Division<?>> divisions,
+            List<Collection<Metadata>> metadata, RulesetManagementInterface ruleset,
+            List<LanguageRange> metadataLanguage, Map<String, String> translations) {
+        List<Collection<ValidationResult>> chunkResults = new ArrayList<>(chunk.size());
+        for (int index : chunk) {
+            Division<?> division = divisions.get(index);
+            chunkResults.add(checkMetadataRules(division.toString(), division.getType(), metadata.get(index),
+                ruleset, metadataLanguage, translations));
+        }
+        return chunkResults;
+    }
+
     /**
      * Reports structures that have no assigned physical divisions. These structures
      * are undesirable because you cannot look at them. It is also checked if
@@ -209,9 +335,11 @@ public class MetadataValidation implements MetadataValidationInterface {
             warning = true;
         }
 
+        Set<PhysicalDivision> physicalDivisions = Collections.newSetFromMap(new IdentityHashMap<>());
+        physicalDivisions.addAll(workpiece.getAllPhysicalDivisions());
         if (!Workpiece.treeStream(workpiece.getLogicalStructure())
                 .flatMap(structure -> structure.getViews().stream()).map(View::getPhysicalDivision)
-                .allMatch(workpiece.getAllPhysicalDivisions()::contains)) {
+                .allMatch(physicalDivisions::contains)) {
             messages.add(translations.get(MESSAGE_MEDIA_MISSING));
             error = true;
         }
@@ -232,7 +360,7 @@ public class MetadataValidation implements MetadataValidationInterface {
         boolean warning = false;
         Collection<String> messages = new HashSet<>();
 
-        KeySetView<PhysicalDivision, ?> unassignedPhysicalDivisions = ConcurrentHashMap.newKeySet();
+        Set<PhysicalDivision> unassignedPhysicalDivisions = Collections.newSetFromMap(new IdentityHashMap<>());
         unassignedPhysicalDivisions.addAll(Workpiece.treeStream(workpiece.getPhysicalStructure())
                 .filter(physicalDivision -> !physicalDivision.getMediaFiles().isEmpty()).collect(Collectors.toList()));
         Workpiece.treeStream(workpiece.getLogicalStructure()).flatMap(structure -> structure.getViews().stream())
@@ -442,6 +570,54 @@ public class MetadataValidation implements MetadataValidationInterface {
         return squashed;
     }
 
+    /**
+     * Creates a fingerprint of everything the validation of a division depends
+     * on. The metadata is represented by its values, because the metadata
+     * objects can be changed after the validation.
+     *
+     * @param division
+     *            division to validate
+     * @param metadata
+     *            metadata of the division
+     * @return the fingerprint
+     */
+    private static List<Object> fingerprint(Division<?> division, Collection<Metadata> metadata,
+            RulesetManagementInterface ruleset, List<LanguageRange> metadataLanguage,
+            Map<String, String> translations) {
+        List<Object> metadataFingerprint = new ArrayList<>(metadata.size());
+        for (Metadata metadataItem : metadata) {
+            metadataFingerprint.add(fingerprint(metadataItem));
+        }
+        return Arrays.asList(ruleset, metadataLanguage, translations, division.getType(), division.toString(),
+            metadataFingerprint);
+    }
+
+    private static List<Object> fingerprint(Metadata metadata) {
+        Object value = null;
+        if (metadata instanceof MetadataEntry) {
+            value = ((MetadataEntry) metadata).getValue();
+        } else if (metadata instanceof MetadataGroup) {
+            Set<Object> members = new HashSet<>();
+            for (Metadata member : ((MetadataGroup) metadata).getMetadata()) {
+                members.add(fingerprint(member));
+            }
+            value = members;
+        }
+        return Arrays.asList(metadata.getClass(), metadata.getDomain(), metadata.getKey(), value);
+    }
+
+    private static synchronized ExecutorService getWorkerPool() {
+        if (Objects.isNull(workerPool)) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            workerPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "MetadataValidation-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workerPool;
+    }
+
     /**
      * Merges several individual validation results into one validation result.
      *
@@ -452,7 +628,7 @@ public class MetadataValidation implements MetadataValidationInterface {
     private static ValidationResult merge(Collection<ValidationResult> results) {
         boolean error = false;
         boolean warning = false;
-        Collection<String> messages = new HashSet<>();
+        Collection<String> messages = new LinkedHashSet<>();
 
         for (ValidationResult result : results) {
             if (result.getState().equals(State.ERROR)) {
@@ -17,11 +17,16 @@ import org.kitodo.api.validation.ValidationResult;
 import org.xml.sax.SAXException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collections;
+
+import javax.xml.transform.stream.StreamSource;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileStructureValidationTest {
@@ -75,4 +80,20 @@ public class FileStructureValidationTest {
         assertFalse(validationResult.getResultMessages().isEmpty(), "Validation should fail with malformed XML content string");
     }
 
+    @Test
+    public void shouldSucceedToValidateValidXmlStream() throws IOException, SAXException {
+        try (InputStream inputStream = Files.newInputStream(Paths.get(VALID_MODS_FILE))) {
+            ValidationResult validationResult = xmlValidation.validate(new StreamSource(inputStream),
+                    Collections.singletonList(modsSchema));
+            assertTrue(validationResult.getResultMessages().isEmpty(), "Validation should succeed with valid MODS XML stream");
+        }
+    }
+
+    @Test
+    public void shouldReuseCompiledSchema() throws SAXException {
+        assertSame(xmlValidation.getSchema(Collections.singletonList(modsSchema)),
+                xmlValidation.getSchema(Collections.singletonList(modsSchema)),
+                "Schema should be compiled only once while the schema file is unchanged");
+    }
+
 }
@@ -17,19 +17,27 @@ import java.io.InvalidClassException;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UnknownFormatConversionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
+import javax.xml.transform.Result;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 
 import net.sf.saxon.TransformerFactoryImpl;
 
 import org.apache.commons.io.ByteOrderMark;
+import org.apache.commons.lang3.tuple.Pair;
 import org.kitodo.api.schemaconverter.DataRecord;
 import org.kitodo.api.schemaconverter.FileFormat;
 import org.kitodo.api.schemaconverter.MetadataFormat;
@@ -40,6 +48,14 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
     private static final FileFormat supportedSourceFileFormat = FileFormat.XML;
     private static final FileFormat supportedTargetFileFormat = FileFormat.XML;
 
+    /**
+     * Compiled stylesheets by file path, along with the modification time of
+     * the file when it was compiled. Compiled stylesheets are thread-safe and
+     * can be used for any number of transformations.
+     */
+    private static final Map<String, Pair<Long, Templates>> templatesCache = new ConcurrentHashMap<>();
+    private static final SAXTransformerFactory transformerFactory = createTransformerFactory();
+
     /**
      * Converts a given DataRecord to the given MetadataFormat 'targetMetadataFormat' and FileFormat 'targetFileFormat'.
      *
@@ -63,9 +79,7 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
             if (mappingFiles.isEmpty()) {
                 throw new ConfigException("No mapping files found!");
             } else {
-                for (File mappingFile : mappingFiles) {
-                    xmlString = transformXmlByXslt(xmlString, mappingFile);
-                }
+                xmlString = transformXmlByXslt(xmlString, mappingFiles);
             }
             conversionResult = xmlString;
 
@@ -80,6 +94,18 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
         }
     }
 
+    private static SAXTransformerFactory createTransformerFactory() {
+        SAXTransformerFactory transformerFactory = new TransformerFactoryImpl();
+        try {
+            transformerFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        } catch (TransformerConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+        transformerFactory.setURIResolver((href, base) -> new StreamSource(href.replace("http:", "https:")));
+        System.setProperty("http.agent", "Chrome");
+        return transformerFactory;
+    }
+
     @Override
     public boolean supportsTargetFileFormat(FileFormat format) {
         return supportedTargetFileFormat.equals(format);
@@ -90,23 +116,50 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
         return supportedSourceFileFormat.equals(format);
     }
 
-    private String transformXmlByXslt(String xmlString, File stylesheetFile) {
+    /**
+     * Transforms the XML string by the stylesheets one after another. The
+     * result of a stylesheet is passed on to the next one as SAX events,
+     * without serializing it in between.
+     */
+    private String transformXmlByXslt(String xmlString, List<File> stylesheetFiles) {
         try (StringWriter writer = new StringWriter()) {
-            StreamSource xsltSource = new StreamSource(stylesheetFile);
-            xsltSource.setSystemId(stylesheetFile.toURI().toString());
-            TransformerFactory transformerFactory = new TransformerFactoryImpl();
-            transformerFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            transformerFactory.setURIResolver((href, base) -> new StreamSource(href.replace("http:", "https:")));
-            System.setProperty("http.agent", "Chrome");
-            Transformer transformer = transformerFactory.newTransformer(xsltSource);
+            Result result = new StreamResult(writer);
+            for (int i = stylesheetFiles.size() - 1; i > 0; i--) {
+                TransformerHandler handler = transformerFactory.newTransformerHandler(getTemplates(stylesheetFiles
+                        .get(i)));
+                handler.setResult(result);
+                result = new SAXResult(handler);
+            }
+            Transformer transformer = getTemplates(stylesheetFiles.getFirst()).newTransformer();
             xmlString = removeBom(xmlString);
-            transformer.transform(new StreamSource(new StringReader(xmlString)), new StreamResult(writer));
+            transformer.transform(new StreamSource(new StringReader(xmlString)), result);
             return writer.toString();
         } catch (TransformerException | IOException e) {
             throw new ConfigException("Error in transforming the response to internal format: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Returns the compiled stylesheet. The stylesheet is only compiled again
+     * if the file has been modified since.
+     */
+    private static Templates getTemplates(File stylesheetFile) {
+        long lastModified = stylesheetFile.lastModified();
+        return templatesCache.compute(stylesheetFile.getAbsolutePath(), (path, cached) -> {
+            if (Objects.nonNull(cached) && cached.getKey() == lastModified) {
+                return cached;
+            }
+            StreamSource xsltSource = new StreamSource(stylesheetFile);
+            xsltSource.setSystemId(stylesheetFile.toURI().toString());
+            try {
+                return Pair.of(lastModified, transformerFactory.newTemplates(xsltSource));
+            } catch (TransformerConfigurationException e) {
+                throw new ConfigException("Error in compiling mapping file " + stylesheetFile + ": "
+                        + e.getMessage(), e);
+            }
+        }).getValue();
+    }
+
     /**
      * Remove potential BOM character because XML parser do not handle it properly.
      * @param xmlStringWithBom String with potential BOM character
@@ -217,6 +217,13 @@ public enum ParameterCore implements ParameterInterface {
      */
     DONE_DIRECTORY_NAME(new Parameter<>("image.doneDirectoryName", "fertig/")),
 
+    /**
+     * Number of images generated at the same time. The limit applies to all
+     * image generation tasks of the application together. Integer, defaults
+     * to 4.
+     */
+    IMAGE_GENERATION_THREADS(new Parameter<>("image.generationThreads", 4)),
+
     /*
      * VISUAL APPEARANCE
      *
@@ -431,6 +438,43 @@ public enum ParameterCore implements ParameterInterface {
      */
     TASK_MANAGER_AUTORUN_LIMIT(new Parameter<UndefinedParameter>("taskManager.autoRunLimit")),
 
+    /**
+     * Limits the number of tasks generating images run in parallel. Integer,
+     * defaults to the overall limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_IMAGE_GENERATION(
+            new Parameter<UndefinedParameter>("taskManager.autoRunLimit.imageGeneration")),
+
+    /**
+     * Limits the number of tasks importing or creating processes run in
+     * parallel. Integer, defaults to the overall limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_IMPORT(new Parameter<UndefinedParameter>("taskManager.autoRunLimit.import")),
+
+    /**
+     * Limits the number of other tasks run in parallel. Integer, defaults to
+     * the overall limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_GENERAL(new Parameter<UndefinedParameter>("taskManager.autoRunLimit.general")),
+
+    /**
+     * Limits the number of export tasks run in parallel. Integer, defaults to
+     * the overall limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_EXPORT(new Parameter<UndefinedParameter>("taskManager.autoRunLimit.export")),
+
+    /**
+     * Limits the number of tasks updating the internal meta information of
+     * processes run in parallel. Integer, defaults to the overall limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_INDEXING(new Parameter<UndefinedParameter>("taskManager.autoRunLimit.indexing")),
+
+    /**
+     * Limits the number of migration tasks run in parallel. Integer, defaults
+     * to the overall limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_MIGRATION(new Parameter<UndefinedParameter>("taskManager.autoRunLimit.migration")),
+
     /**
      * Sets the time interval between two inspections of the task list. Long,
      * defaults to 2000 ms.
@@ -472,6 +516,19 @@ public enum ParameterCore implements ParameterInterface {
     TASK_MANAGER_KEEP_SUCCESSFUL_MINS(new Parameter<>("taskManager.keepThreads.successful.minutes",
             TimeUnit.MINUTES.convert(20, TimeUnit.MINUTES))),
 
+    /**
+     * Sets whether tasks that can be resumed are written to the database, to
+     * be resumed after a restart or by another application node. Boolean,
+     * defaults to {@code true}.
+     */
+    TASK_MANAGER_PERSISTENT_QUEUE(new Parameter<>("taskManager.persistentQueue", true)),
+
+    /**
+     * Sets how long a task written to the database remains reserved for the
+     * node running it without being renewed. Integer, defaults to 60 seconds.
+     */
+    TASK_MANAGER_LEASE_SECONDS(new Parameter<>("taskManager.leaseSeconds", 60)),
+
     /**
      * Sets whether or not to show an option to "add a sample task" in the task
      * manager. This is if for anything at all—useful for debugging or demonstration
@@ -641,6 +698,13 @@ public enum ParameterCore implements ParameterInterface {
 
     ACTIVE_MQ_USER(new Parameter<UndefinedParameter>("activeMQ.user")),
 
+    /**
+     * Number of threads processing the messages of each queue. Messages
+     * concerning the same process are always processed one after the other.
+     * Integer, defaults to 1.
+     */
+    ACTIVE_MQ_CONSUMERS(new Parameter<>("activeMQ.consumers", 1)),
+
     ACTIVE_MQ_RESULTS_TOPIC(new Parameter<UndefinedParameter>("activeMQ.results.topic")),
 
     /**
@@ -649,6 +713,73 @@ public enum ParameterCore implements ParameterInterface {
     ACTIVE_MQ_RESULTS_TTL(new Parameter<>("activeMQ.results.timeToLive",
             TimeUnit.MILLISECONDS.convert(7, TimeUnit.DAYS))),
 
+    /*
+     * Search index
+     */
+
+    /**
+     * Maximum number of index search results that are cached to be reused by
+     * repeated requests for the same filter, e.g. when paging the process
+     * list. Set to 0 to disable the cache. Integer, defaults to 100.
+     */
+    SEARCHINDEX_RESULT_CACHE_SIZE(new Parameter<>("searchindex.resultCache.size", 100)),
+
+    /**
+     * Time after which a cached index search result expires. Changes to the
+     * index discard the cached results immediately. Long, defaults to 60
+     * seconds.
+     */
+    SEARCHINDEX_RESULT_CACHE_SECONDS(new Parameter<>("searchindex.resultCache.seconds",
+            TimeUnit.SECONDS.convert(1, TimeUnit.MINUTES))),
+
+    /**
+     * How the search index is rebuilt. "rebuild" drops the index first, so
+     * that the search is incomplete until indexing is finished. "swap" builds a
+     * new index in the background and switches to it when it is complete.
+     * String, defaults to "rebuild".
+     */
+    SEARCHINDEX_INDEXING_STRATEGY(new Parameter<>("searchindex.indexing.strategy", "rebuild", Arrays.asList(
+        "rebuild", "swap"))),
+
+    /**
+     * Number of threads loading objects from the database for indexing.
+     * Integer, defaults to 6.
+     */
+    SEARCHINDEX_INDEXING_THREADS(new Parameter<>("searchindex.indexing.threadsToLoadObjects", 6)),
+
+    /**
+     * Number of objects loaded from the database in one batch for indexing.
+     * Integer, defaults to 1000.
+     */
+    SEARCHINDEX_INDEXING_BATCH_SIZE(new Parameter<>("searchindex.indexing.batchSizeToLoadObjects", 1000)),
+
+    /**
+     * Fetch size used when loading the IDs of the objects to index. The
+     * default, Integer.MIN_VALUE, makes the MySQL driver stream the IDs.
+     * Integer, databases other than MySQL need a positive value.
+     */
+    SEARCHINDEX_INDEXING_ID_FETCH_SIZE(new Parameter<>("searchindex.indexing.idFetchSize", Integer.MIN_VALUE)),
+
+    /**
+     * Number of IDs indexed in one section. After each section, the progress
+     * is recorded, so that an interrupted indexing can be resumed. Integer,
+     * defaults to 100,000.
+     */
+    SEARCHINDEX_INDEXING_SECTION_SIZE(new Parameter<>("searchindex.indexing.sectionSize", 100_000)),
+
+    /**
+     * Number of process IDs compared as one range by the index consistency
+     * check. Integer, defaults to 10,000.
+     */
+    SEARCHINDEX_CONSISTENCY_RANGE_SIZE(new Parameter<>("searchindex.consistencyCheck.rangeSize", 10_000)),
+
+    /**
+     * Time for which the result of the index consistency check is reused
+     * when checking whether the index is corrupted. Long, defaults to 10
+     * minutes.
+     */
+    SEARCHINDEX_CONSISTENCY_MINUTES(new Parameter<>("searchindex.consistencyCheck.minutes", 10L)),
+
     /*
      * Security properties
      */
@@ -694,7 +825,14 @@ public enum ParameterCore implements ParameterInterface {
      * Optional parameter that determines how many folders with warning or
      * errors are listed in the LTP validation report.
      */
-    LTP_VALIDATION_MAX_REPORTED_FOLDERS(new Parameter<>("LongTermPreservationValidation.maxReportedFolders", 3));
+    LTP_VALIDATION_MAX_REPORTED_FOLDERS(new Parameter<>("LongTermPreservationValidation.maxReportedFolders", 3)),
+
+    /**
+     * Number of files validated at the same time when the images of a folder
+     * are validated. The limit applies to the whole application. Integer,
+     * defaults to 4.
+     */
+    LTP_VALIDATION_THREADS(new Parameter<>("LongTermPreservationValidation.threads", 4));
 
     private final Parameter<?> parameter;
 
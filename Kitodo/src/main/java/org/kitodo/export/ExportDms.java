@@ -359,6 +359,26 @@ public class ExportDms extends ExportMets {
         return optimisticExportFlagSet;
     }
 
+    /**
+     * Sets whether the optimistic export flag is set. This is used to restore
+     * the state of an export that is resumed.
+     *
+     * @param optimisticExportFlagSet
+     *            whether the process was optimistically marked as exported
+     */
+    public void setOptimisticExportFlagSet(boolean optimisticExportFlagSet) {
+        this.optimisticExportFlagSet = optimisticExportFlagSet;
+    }
+
+    /**
+     * Returns whether images are exported.
+     *
+     * @return whether images are exported
+     */
+    public boolean isExportWithImages() {
+        return exportWithImages;
+    }
+
     /**
      * Set workflowTask.
      *
@@ -60,6 +60,7 @@ public class KitodoProduction implements ServletContextListener, HttpSessionList
         manifest.ifPresent(version::setupFromManifest);
         instance.complete(this);
         startActiveMQ();
+        TaskManager.startUp();
     }
 
     private static final Optional<Manifest> retrieveManifestFileAsStream(ServletContext context) {
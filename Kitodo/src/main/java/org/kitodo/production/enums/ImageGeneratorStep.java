@@ -16,10 +16,8 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.logging.log4j.LogManager;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.model.Subfolder;
-import org.kitodo.production.services.image.ContentToBeGenerated;
 import org.kitodo.production.services.image.ImageGenerator;
 
 /**
@@ -73,17 +71,14 @@ public enum ImageGeneratorStep implements Consumer<ImageGenerator> {
     },
 
     /**
-     * Third step, generate whatever needs to be generated.
+     * Third step, generate whatever needs to be generated. The images are
+     * generated in parallel.
      */
     GENERATE_IMAGES {
         @Override
         public void accept(ImageGenerator imageGenerator) {
-            ContentToBeGenerated instructuon = imageGenerator.getFromContentToBeGeneratedByPosition();
-            imageGenerator.letTheSupervisorDo(emptyTask -> emptyTask.setWorkDetail(
-                Helper.getTranslation("generateImages", instructuon.getCanonical())));
-            LogManager.getLogger(ImageGeneratorStep.class).info("Generating ".concat(instructuon.toString()));
-            imageGenerator.createDerivatives(instructuon);
-            if (imageGenerator.getPosition() == imageGenerator.getContentToBeGenerated().size() - 1) {
+            imageGenerator.generateImages();
+            if (imageGenerator.getPosition() == imageGenerator.getContentToBeGenerated().size()) {
                 imageGenerator.letTheSupervisorDo(emptyTask -> emptyTask.setProgress(100));
             }
         }
@@ -16,6 +16,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javax.json.Json;
 import javax.json.JsonArray;
@@ -27,6 +28,7 @@ import jakarta.faces.push.PushContext;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.data.database.exceptions.DAOException;
@@ -51,6 +53,7 @@ public class IndexingForm {
     @Push(channel = POLLING_CHANNEL_NAME)
     private PushContext pollingChannel;
     private boolean progressPolling;
+    private boolean consistencyCheckPolling;
 
     static {
         indexingRows = new EnumMap<>(ObjectType.class);
@@ -168,6 +171,64 @@ public class IndexingForm {
         progressPolling = true;
     }
 
+    /**
+     * Index the processes that have been changed since the last indexing.
+     */
+    public void callIncrementalIndexing() {
+        indexingRows.get(ObjectType.PROCESS).callIndexing(indexingService::startIncrementalIndexing);
+        pollingChannel.send("indexing_started");
+        progressPolling = true;
+    }
+
+    /**
+     * Starts comparing the processes in the database with the search index.
+     * The page is polled until the check has finished.
+     */
+    public void checkIndexConsistency() {
+        indexingService.startIndexConsistencyCheck();
+        pollingChannel.send("indexing_started");
+        consistencyCheckPolling = true;
+    }
+
+    /**
+     * Returns whether a consistency check is running.
+     *
+     * @return whether a consistency check is running
+     */
+    public boolean isIndexConsistencyCheckRunning() {
+        return indexingService.isIndexConsistencyCheckRunning();
+    }
+
+    /**
+     * Returns the ranges of process IDs where the search index differs from
+     * the database, as found by the last consistency check. Stops polling
+     * when the check has finished.
+     *
+     * @return the ranges as text, empty if there are none
+     */
+    public String getDriftedRanges() {
+        if (consistencyCheckPolling && !indexingService.isIndexConsistencyCheckRunning()) {
+            consistencyCheckPolling = false;
+            if (!progressPolling) {
+                pollingChannel.send("indexing_finished");
+            }
+        }
+        return indexingService.getDriftedRanges().stream().map(range -> range.getKey() + "\u2012" + range
+                .getValue()).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Reindexes the processes in the ranges of IDs found to differ by the last
+     * consistency check.
+     */
+    public void reindexDriftedRanges() {
+        List<Pair<Integer, Integer>> ranges = indexingService.getDriftedRanges();
+        indexingRows.get(ObjectType.PROCESS).callIndexing(monitor -> indexingService.startReindexing(ranges,
+            monitor));
+        pollingChannel.send("indexing_started");
+        progressPolling = true;
+    }
+
     /**
      * Starts the process of indexing all objects to the ElasticSearch index.
      */
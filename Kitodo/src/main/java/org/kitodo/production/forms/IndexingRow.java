@@ -12,7 +12,9 @@
 package org.kitodo.production.forms;
 
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -52,6 +54,16 @@ public class IndexingRow implements MassIndexingMonitor {
      * Starts indexing.
      */
     void callIndexing() {
+        callIndexing(monitor -> indexingService.startIndexing(type, monitor));
+    }
+
+    /**
+     * Starts an indexing run reporting its progress to this row.
+     *
+     * @param indexing
+     *            starts the indexing run with the given monitor
+     */
+    void callIndexing(Function<MassIndexingMonitor, CompletionStage<?>> indexing) {
         long count = totalCount.get();
         if (count > 0) {
             numberOfObjects = count;
@@ -61,7 +73,7 @@ public class IndexingRow implements MassIndexingMonitor {
         documentsBuilt.set(0);
         documentsAdded.set(0);
         totalCount.set(0);
-        indexingService.startIndexing(type, this).whenComplete((unused, throwable) -> {
+        indexing.apply(this).whenComplete((unused, throwable) -> {
             if (Objects.isNull(throwable)) {
                 objectIndexState = IndexStates.INDEXING_SUCCESSFUL;
                 logger.info("Indexing complete for {}", type.getSimpleName());
@@ -115,7 +115,6 @@ public class ProcessForm extends TemplateBaseForm {
      */
     public ProcessForm() {
         super();
-        ProcessService.emptyCache();
     }
 
     /**
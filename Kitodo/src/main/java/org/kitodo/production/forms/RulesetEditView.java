@@ -81,6 +81,7 @@ public class RulesetEditView extends ValidatableForm {
                 try {
                     ServiceManager.getFileStructureValidationService().validateRuleset(this.ruleset);
                     ServiceManager.getRulesetService().save(this.ruleset);
+                    ServiceManager.getRulesetManagementService().invalidateLoadedRulesets();
                     return RulesetListView.VIEW_PATH +  "&" + getReferrerListOptions();
                 } catch (FileStructureValidationException e) {
                     setValidationErrorTitle(Helper.getTranslation("validation.invalidRuleset"));
@@ -18,6 +18,7 @@ import jakarta.inject.Named;
 
 import org.kitodo.production.helper.tasks.EmptyTask;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
+import org.kitodo.production.helper.tasks.TaskLaneMetrics;
 import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.helper.tasks.TaskSitter;
 
@@ -45,6 +46,15 @@ public class TaskManagerForm {
         return TaskManager.getTaskList();
     }
 
+    /**
+     * Returns the figures of the lanes of the task manager.
+     *
+     * @return the figures of the lanes
+     */
+    public List<TaskLaneMetrics> getLaneMetrics() {
+        return TaskManager.getLaneMetrics();
+    }
+
     public void executeTask() {
         task.start();
     }
@@ -15,7 +15,6 @@ import static org.kitodo.constants.StringConstants.EDIT;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -56,6 +55,7 @@ import org.kitodo.api.dataformat.View;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.validation.State;
 import org.kitodo.api.validation.ValidationResult;
+import org.kitodo.api.validation.metadata.MetadataValidationCache;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.data.database.beans.DataEditorSetting;
 import org.kitodo.data.database.beans.Process;
@@ -183,6 +183,12 @@ public class DataEditorForm extends ValidatableForm implements MetadataTreeTable
      */
     private Workpiece workpieceOriginalState;
 
+    /**
+     * Validation results of the divisions of the workpiece, so that a repeated
+     * validation only validates the divisions changed since.
+     */
+    private final MetadataValidationCache validationCache = new MetadataValidationCache();
+
     /**
      * This List of Pairs stores all selected physical elements and the logical elements in which the physical element was selected.
      * It is necessary to store the logical elements as well, because a physical element can be assigned to multiple logical elements.
@@ -410,7 +416,8 @@ public class DataEditorForm extends ValidatableForm implements MetadataTreeTable
             FileStructureValidationException {
         mainFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
         workpiece = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
-        workpieceOriginalState = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
+        workpieceOriginalState = workpiece.deepCopy();
+        validationCache.clear();
         if (Objects.isNull(workpiece.getId())) {
             logger.warn("Workpiece has no ID. Cannot verify workpiece ID. Setting workpiece ID.");
             workpiece.setId(process.getId().toString());
@@ -470,6 +477,7 @@ public class DataEditorForm extends ValidatableForm implements MetadataTreeTable
         structurePanel.clear();
         workpiece = null;
         workpieceOriginalState = null;
+        validationCache.clear();
         mainFileUri = null;
         ruleset = null;
         currentChildren.clear();
@@ -537,7 +545,7 @@ public class DataEditorForm extends ValidatableForm implements MetadataTreeTable
     public boolean validate() {
         try {
             ValidationResult validationResult = ServiceManager.getMetadataValidationService().validate(workpiece,
-                ruleset);
+                ruleset, true, validationCache);
             State state = validationResult.getState();
             switch (state) {
                 case ERROR:
@@ -576,12 +584,22 @@ public class DataEditorForm extends ValidatableForm implements MetadataTreeTable
         try {
             metadataPanel.preserve();
             structurePanel.preserve();
+            boolean metsFileChanged = hasChangesToMetsFile();
             // reset "image filename renaming map" so nothing is reverted after saving!
             filenameMapping = new DualHashBidiMap<>();
             ServiceManager.getProcessService().updateChildrenFromLogicalStructure(process, workpiece.getLogicalStructure());
-            ServiceManager.getFileService().createBackupFile(process);
-            try (OutputStream out = ServiceManager.getFileService().write(mainFileUri)) {
-                ServiceManager.getMetsService().save(workpiece, out);
+            try {
+                if (metsFileChanged) {
+                    ServiceManager.getFileService().createBackupFile(process);
+                    if (close) {
+                        ServiceManager.getMetsService().saveWorkpiece(workpiece, mainFileUri);
+                    } else {
+                        // the editor stays open, so keep the written sections for the next save
+                        ServiceManager.getMetsService().saveWorkpieceIncrementally(workpiece, mainFileUri);
+                    }
+                } else {
+                    logger.debug("Workpiece of process {} is unchanged, not writing METS file", process.getId());
+                }
                 // Force reload of the process to ensure consistency
                 process = ServiceManager.getProcessService().getById(process.getId());
                 ServiceManager.getProcessService().updateAmountOfInternalMetaInformation(process, true);
@@ -592,7 +610,7 @@ public class DataEditorForm extends ValidatableForm implements MetadataTreeTable
                 } else {
                     PrimeFaces.current().executeScript("PF('notifications').renderMessage({'summary':'"
                             + Helper.getTranslation("metadataSaved") + "','severity':'info'})");
-                    workpieceOriginalState = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
+                    workpieceOriginalState = workpiece.deepCopy();
                     PrimeFaces.current().executeScript("setUnsavedChanges(false);");
                 }
             } catch (IOException e) {
@@ -606,6 +624,16 @@ public class DataEditorForm extends ValidatableForm implements MetadataTreeTable
         return null;
     }
 
+    /**
+     * Returns whether the METS file must be written. This is the case if the
+     * workpiece differs from its state when it was loaded or last saved, or if
+     * media files have been uploaded, deleted or renamed since.
+     */
+    private boolean hasChangesToMetsFile() {
+        return !workpiece.equals(workpieceOriginalState) || !filenameMapping.isEmpty()
+                || !unsavedUploadedMedia.isEmpty() || !unsavedDeletedMedia.isEmpty();
+    }
+
     /**
      * Save the structure and metadata.
      *
@@ -52,7 +52,11 @@ import org.kitodo.production.interfaces.activemq.WebServiceResult;
 
 public class Helper {
 
-    private static Map<String, String> activeMQReporting = null;
+    /**
+     * Messages are reported to Active MQ for the message being processed by
+     * the current thread, if any.
+     */
+    private static final ThreadLocal<Map<String, String>> activeMQReporting = new ThreadLocal<>();
     private static final Logger logger = LogManager.getLogger(Helper.class);
     private static Map<Locale, ResourceBundle> commonMessages = null;
     private static Map<Locale, ResourceBundle> errorMessages = null;
@@ -316,8 +320,9 @@ public class Helper {
             }
             detail = null;
         }
-        if (Objects.nonNull(activeMQReporting)) {
-            new WebServiceResult(activeMQReporting.get("queueName"), activeMQReporting.get("id"),
+        Map<String, String> reporting = activeMQReporting.get();
+        if (Objects.nonNull(reporting)) {
+            new WebServiceResult(reporting.get("queueName"), reporting.get("id"),
                     MessageLevel.ERROR.equals(level) ? ReportLevel.ERROR :
                             MessageLevel.WARN.equals(level) ? ReportLevel.WARN : ReportLevel.INFO, compoundMessage).send();
         }
@@ -526,13 +531,17 @@ public class Helper {
     }
 
     /**
-     * Set activeMQReporting.
+     * Set activeMQReporting for the current thread.
      *
      * @param activeMQReporting
-     *            as Map of Strings
+     *            as Map of Strings, or null to turn reporting off
      */
     public static void setActiveMQReporting(Map<String, String> activeMQReporting) {
-        Helper.activeMQReporting = activeMQReporting;
+        if (Objects.isNull(activeMQReporting)) {
+            Helper.activeMQReporting.remove();
+        } else {
+            Helper.activeMQReporting.set(activeMQReporting);
+        }
     }
 
     /**
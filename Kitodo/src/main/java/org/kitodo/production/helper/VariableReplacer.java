@@ -11,15 +11,20 @@
 
 package org.kitodo.production.helper;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.StringJoiner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.commons.configuration2.PropertiesConfiguration;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -75,22 +80,136 @@ public class VariableReplacer {
                     + "(?:(meta|process|product|template)\\.(?:(firstchild|topstruct)\\.)?([^)]+)|"
                     + "(?:(filename|basename|relativepath))))\\)");
     /**
-     * The map is filled with replacement instructions that are required for
-     * backwards compatibility with version 2.
+     * Maximum number of strings whose parsed form is kept. The strings used
+     * least recently are discarded first.
      */
-    private static Map<String, String> legacyVariablesMap;
+    private static final int MAX_CACHED_TEMPLATES = 1000;
 
     /**
-     * The program builds a regular expression to search for outdated
-     * replacement instructions and to replace them with the new instructions in
-     * a first step.
+     * The parsed strings and the replacement instructions for backwards
+     * compatibility, for the configuration currently loaded.
      */
-    private static Pattern legacyVariablesPattern;
+    private static volatile CompiledTemplates compiledTemplates;
 
+    private final CompiledTemplates templates;
     private Workpiece workpiece;
     private Process process;
     private Task task;
 
+    /**
+     * A placeholder found in a string, broken down into its parts.
+     */
+    private static class Variable {
+        private final String text;
+        private final String dollarSign;
+        private final String internalValue;
+        private final String metadataSource;
+        private final String metadataLevel;
+        private final String metadataKey;
+        private final String filePlaceholder;
+
+        Variable(Matcher variableFinder) {
+            text = variableFinder.group();
+            dollarSign = variableFinder.group(1);
+            internalValue = variableFinder.group(2);
+            metadataSource = variableFinder.group(3);
+            metadataLevel = variableFinder.group(4);
+            metadataKey = variableFinder.group(5);
+            filePlaceholder = variableFinder.group(6);
+        }
+    }
+
+    /**
+     * A string with placeholders, parsed once. It consists of the
+     * placeholders and the literal text before, between and after them.
+     */
+    private static class Template {
+        private final List<String> literals = new ArrayList<>();
+        private final List<Variable> variables = new ArrayList<>();
+
+        Template(String stringWithVariables) {
+            Matcher variableFinder = VARIABLE_FINDER_REGEX.matcher(stringWithVariables);
+            int end = 0;
+            while (variableFinder.find()) {
+                literals.add(stringWithVariables.substring(end, variableFinder.start()));
+                variables.add(new Variable(variableFinder));
+                end = variableFinder.end();
+            }
+            literals.add(stringWithVariables.substring(end));
+        }
+    }
+
+    /**
+     * The replacement instructions required for backwards compatibility with
+     * version 2, which are read from the configuration file, and the strings
+     * parsed with them.
+     */
+    private static class CompiledTemplates {
+        private final PropertiesConfiguration configuration;
+        private final Map<String, String> legacyVariablesMap = new HashMap<>();
+        private final Pattern legacyVariablesPattern;
+        private final Map<String, Template> templates = Collections.synchronizedMap(new LinkedHashMap<>(16,
+                0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+                return size() > MAX_CACHED_TEMPLATES;
+            }
+        });
+
+        CompiledTemplates(PropertiesConfiguration configuration) {
+            this.configuration = configuration;
+            StringJoiner regexBuilder = new StringJoiner("|", "\\((", ")\\)");
+            for (Iterator<String> iterator = configuration.getKeys(); iterator.hasNext();) {
+                String key = iterator.next();
+                if (key.startsWith("variable.")) {
+                    String variableName = key.substring(9);
+                    regexBuilder.add(Pattern.quote(variableName));
+                    legacyVariablesMap.put(variableName, ConfigCore.getParameter(key));
+                }
+            }
+            legacyVariablesPattern = legacyVariablesMap.isEmpty() ? null : Pattern.compile(regexBuilder.toString());
+        }
+
+        /**
+         * Returns the parsed form of a string. Outdated replacement patterns
+         * are replaced with the appropriate ones before.
+         *
+         * @param stringWithVariables
+         *            a string maybe holding variables
+         * @return the parsed string
+         */
+        Template getTemplate(String stringWithVariables) {
+            Template template = templates.get(stringWithVariables);
+            if (Objects.isNull(template)) {
+                template = new Template(invokeLegacyVariableReplacer(stringWithVariables));
+                templates.put(stringWithVariables, template);
+            }
+            return template;
+        }
+
+        /**
+         * Replaces outdated replacement patterns with appropriate ones.
+         *
+         * @param stringToReplace
+         *            string (perhaps) containing obsolete replacement patterns
+         * @return string in which obsolete replacement patterns have been
+         *         replaced by appropriate ones
+         */
+        private String invokeLegacyVariableReplacer(String stringToReplace) {
+            if (Objects.isNull(legacyVariablesPattern)) {
+                return stringToReplace;
+            }
+            Matcher legacyVariablesMatcher = legacyVariablesPattern.matcher(stringToReplace);
+            StringBuilder replacedLegacyVariablesBuilder = new StringBuilder();
+            while (legacyVariablesMatcher.find()) {
+                legacyVariablesMatcher.appendReplacement(replacedLegacyVariablesBuilder,
+                    Matcher.quoteReplacement(legacyVariablesMap.get(legacyVariablesMatcher.group(1))));
+            }
+            legacyVariablesMatcher.appendTail(replacedLegacyVariablesBuilder);
+            return replacedLegacyVariablesBuilder.toString();
+        }
+    }
+
     /**
      * Creates a new Variable Replacer.
      *
@@ -102,39 +221,27 @@ public class VariableReplacer {
      *            Task to read values from
      */
     public VariableReplacer(Workpiece workpiece, Process process, Task task) {
-        initializeLegacyVariablesPreprocessor();
+        this.templates = getCompiledTemplates();
         this.workpiece = workpiece;
         this.process = process;
         this.task = task;
     }
 
     /**
-     * The method is called by the constructor of the class to load conversion
-     * instructions for obsolete replacement patterns from the configuration
-     * file.
+     * Returns the parsed strings for the configuration currently loaded. The
+     * replacement instructions for backwards compatibility are read from the
+     * configuration file again only if the configuration was loaded again.
+     *
+     * @return the parsed strings
      */
-    private final void initializeLegacyVariablesPreprocessor() {
-        StringBuilder regexBuilder = null;
-        boolean useLegacyVariablesPreprocessor = false;
-        for (Iterator<String> iterator = ConfigCore.getConfig().getKeys(); iterator.hasNext();) {
-            String key = iterator.next();
-            if (key.startsWith("variable.")) {
-                String variableName = key.substring(9);
-                if (useLegacyVariablesPreprocessor) {
-                    regexBuilder.append('|');
-                } else {
-                    regexBuilder = new StringBuilder("\\((");
-                    legacyVariablesMap = new HashMap<>();
-                    useLegacyVariablesPreprocessor = true;
-                }
-                regexBuilder.append(Pattern.quote(variableName));
-                legacyVariablesMap.put(variableName, ConfigCore.getParameter(key));
-            }
-        }
-        if (useLegacyVariablesPreprocessor) {
-            regexBuilder.append(")\\)");
-            legacyVariablesPattern = Pattern.compile(regexBuilder.toString());
-        }
+    private static CompiledTemplates getCompiledTemplates() {
+        PropertiesConfiguration configuration = ConfigCore.getConfig();
+        CompiledTemplates current = compiledTemplates;
+        if (Objects.isNull(current) || current.configuration != configuration) {
+            current = new CompiledTemplates(configuration);
+            compiledTemplates = current;
+        }
+        return current;
     }
 
     /**
@@ -165,199 +272,169 @@ public class VariableReplacer {
             return "";
         }
 
-        stringWithVariables = invokeLegacyVariableReplacer(stringWithVariables);
-
-        Matcher variableFinder = VARIABLE_FINDER_REGEX.matcher(stringWithVariables);
-        boolean stringChanged = false;
-        StringBuffer replacedStringBuffer = null;
-        while (variableFinder.find()) {
-            if (!stringChanged) {
-                replacedStringBuffer = new StringBuffer();
-                stringChanged = true;
-            }
-            variableFinder.appendReplacement(replacedStringBuffer, determineReplacement(variableFinder, filename));
+        Template template = templates.getTemplate(stringWithVariables);
+        if (template.variables.isEmpty()) {
+            return template.literals.getFirst();
         }
-        if (stringChanged) {
-            variableFinder.appendTail(replacedStringBuffer);
-            return replacedStringBuffer.toString();
-        } else {
-            return stringWithVariables;
+        StringBuilder replacedStringBuilder = new StringBuilder(template.literals.getFirst());
+        for (int i = 0; i < template.variables.size(); i++) {
+            replacedStringBuilder.append(determineReplacement(template.variables.get(i), filename));
+            replacedStringBuilder.append(template.literals.get(i + 1));
         }
-    }
-
-    /**
-     * Replaces outdated replacement patterns with appropriate ones.
-     *
-     * @param stringToReplace
-     *            string (perhaps) containing obsolete replacement patterns
-     * @return string in which obsolete replacement patterns have been replaced
-     *         by appropriate ones
-     */
-    private String invokeLegacyVariableReplacer(String stringToReplace) {
-        if (Objects.isNull(legacyVariablesPattern)) {
-            return stringToReplace;
-        }
-        Matcher legacyVariablesMatcher = legacyVariablesPattern.matcher(stringToReplace);
-        StringBuffer replacedLegaycVariablesBuffer = new StringBuffer();
-        while (legacyVariablesMatcher.find()) {
-            legacyVariablesMatcher.appendReplacement(replacedLegaycVariablesBuffer,
-                legacyVariablesMap.get(legacyVariablesMatcher.group(1)));
-        }
-        legacyVariablesMatcher.appendTail(replacedLegaycVariablesBuffer);
-        return replacedLegaycVariablesBuffer.toString();
+        return replacedStringBuilder.toString();
     }
 
     /**
      * This method is called in the replacement loop to determine the
      * replacement value for a revealed variable.
      */
-    private String determineReplacement(Matcher variableFinder, String filename) {
-        if (Objects.nonNull(variableFinder.group(2))) {
-            return determineReplacementForInternalValue(variableFinder);
+    private String determineReplacement(Variable variable, String filename) {
+        if (Objects.nonNull(variable.internalValue)) {
+            return determineReplacementForInternalValue(variable);
         }
-        if (Objects.nonNull(variableFinder.group(3))) {
-            return determineReplacementForMetadata(variableFinder);
+        if (Objects.nonNull(variable.metadataSource)) {
+            return determineReplacementForMetadata(variable);
         }
-        if (Objects.nonNull(variableFinder.group(6)) && Objects.nonNull(filename)) {
-            return determineReplacementForFilePlaceholder(variableFinder, filename);
+        if (Objects.nonNull(variable.filePlaceholder) && Objects.nonNull(filename)) {
+            return determineReplacementForFilePlaceholder(variable, filename);
         }
-        return variableFinder.group();
+        return variable.text;
     }
 
     /**
      * If an internal value is to be determined, it is determined here.
      */
-    private String determineReplacementForInternalValue(Matcher variableFinder) {
-        switch (variableFinder.group(2)) {
+    private String determineReplacementForInternalValue(Variable variable) {
+        switch (variable.internalValue) {
             case "prefs":
-                return determineReplacementForPrefs(variableFinder);
+                return determineReplacementForPrefs(variable);
             case "processid":
-                return determineReplacementForProcessid(variableFinder);
+                return determineReplacementForProcessid(variable);
             case "processtitle":
-                return determineReplacementForProcesstitle(variableFinder);
+                return determineReplacementForProcesstitle(variable);
             case "projectid":
-                return determineReplacementForProjectid(variableFinder);
+                return determineReplacementForProjectid(variable);
             case "stepid":
-                return determineReplacementForStepid(variableFinder);
+                return determineReplacementForStepid(variable);
             case "stepname":
-                return determineReplacementForStepname(variableFinder);
+                return determineReplacementForStepname(variable);
             case "generatorsource" :
             case "generatorsourcepath":
-                return determineReplacementForGeneratorSource(variableFinder, variableFinder.group(2));
+                return determineReplacementForGeneratorSource(variable, variable.internalValue);
             case "ocrdworkflowid":
-                return determineReplacementForOcrdWorkflowId(variableFinder);
+                return determineReplacementForOcrdWorkflowId(variable);
             default:
-                logger.warn("Cannot replace \"{}\": no such case defined in switch", variableFinder.group());
-                return variableFinder.group();
+                logger.warn("Cannot replace \"{}\": no such case defined in switch", variable.text);
+                return variable.text;
         }
     }
 
-    private String determineReplacementForPrefs(Matcher variableFinder) {
+    private String determineReplacementForPrefs(Variable variable) {
         String rulesetsDirectory;
         try {
             rulesetsDirectory = ConfigCore.getParameter(ParameterCore.DIR_RULESETS);
         } catch (NoSuchElementException e) {
             logger.warn("Cannot replace \"(prefs)\": Missing configuration entry: directory.rulesets");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
         if (Objects.isNull(process)) {
             logger.warn("Cannot replace \"(prefs)\": no process given");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
         if (Objects.isNull(process.getRuleset())) {
             logger.warn("Cannot replace \"(prefs)\": process has no ruleset assigned");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
         if (Objects.isNull(process.getRuleset().getFile())) {
             logger.warn("Cannot replace \"(prefs)\": process's ruleset has no file");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
-        return variableFinder.group(1) + rulesetsDirectory + process.getRuleset().getFile();
+        return variable.dollarSign + rulesetsDirectory + process.getRuleset().getFile();
     }
 
-    private String determineReplacementForProcessid(Matcher variableFinder) {
+    private String determineReplacementForProcessid(Variable variable) {
         if (Objects.isNull(process)) {
             logger.warn("Cannot replace \"(processid)\": no process given");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
-        return variableFinder.group(1) + process.getId().toString();
+        return variable.dollarSign + process.getId().toString();
     }
 
-    private String determineReplacementForOcrdWorkflowId(Matcher variableFinder) {
+    private String determineReplacementForOcrdWorkflowId(Variable variable) {
         if (Objects.isNull(process)) {
             logger.warn("Cannot replace \"(ocrdworkflowid)\": no process given");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
 
         if (StringUtils.isNotBlank(process.getOcrdWorkflowId())) {
-            return variableFinder.group(1) + process.getOcrdWorkflowId();
+            return variable.dollarSign + process.getOcrdWorkflowId();
         }
 
         if (Objects.isNull(process.getTemplate())) {
             logger.warn("Cannot replace \"(ocrdworkflowid)\": process has no template assigned");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
 
         if (StringUtils.isEmpty(process.getTemplate().getOcrdWorkflowId())) {
             logger.warn("Cannot replace \"(ocrdworkflowid)\": template has no OCR-D workflow assigned");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
-        return variableFinder.group(1) + process.getTemplate().getOcrdWorkflowId();
+        return variable.dollarSign + process.getTemplate().getOcrdWorkflowId();
     }
 
-    private String determineReplacementForProcesstitle(Matcher variableFinder) {
+    private String determineReplacementForProcesstitle(Variable variable) {
         if (Objects.isNull(process)) {
             logger.warn("Cannot replace \"(processtitle)\": no process given");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
-        return variableFinder.group(1) + process.getTitle();
+        return variable.dollarSign + process.getTitle();
     }
 
-    private String determineReplacementForProjectid(Matcher variableFinder) {
+    private String determineReplacementForProjectid(Variable variable) {
         if (Objects.isNull(process)) {
             logger.warn("Cannot replace \"(projectid)\": no process given");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
         if (Objects.isNull(process.getProject())) {
             logger.warn("Cannot replace \"(projectid)\": process has no project assigned");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
-        return variableFinder.group(1) + process.getProject().getId();
+        return variable.dollarSign + process.getProject().getId();
     }
 
-    private String determineReplacementForStepid(Matcher variableFinder) {
+    private String determineReplacementForStepid(Variable variable) {
         if (Objects.isNull(task)) {
             logger.warn("Cannot replace \"(stepid)\": no task given");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
-        return variableFinder.group(1) + task.getId();
+        return variable.dollarSign + task.getId();
     }
 
-    private String determineReplacementForStepname(Matcher variableFinder) {
+    private String determineReplacementForStepname(Variable variable) {
         if (Objects.isNull(task)) {
             logger.warn("Cannot replace \"(stepname)\": no task given");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
-        return variableFinder.group(1) + task.getTitle();
+        return variable.dollarSign + task.getTitle();
     }
 
-    private String determineReplacementForGeneratorSource(Matcher variableFinder, String match) {
+    private String determineReplacementForGeneratorSource(Variable variable, String match) {
         if (Objects.isNull(process)) {
             logger.warn("Cannot replace \"(" + match + ")\": no process given");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
         if (Objects.isNull(process.getProject())) {
             logger.warn("Cannot replace \"(" + match + ")\": process has no project assigned");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
         if (Objects.isNull(process.getProject().getGeneratorSource())) {
             logger.warn("Cannot replace \"(" + match + ")\": process has no generator source assigned");
-            return variableFinder.group(1);
+            return variable.dollarSign;
         }
 
         //Since image paths may contain variables themselves, use recursion
         String generatorSource = replace(String.valueOf(process.getProject().getGeneratorSource().getPath()));
-        String replacedString = variableFinder.group(1);
+        String replacedString = variable.dollarSign;
         if (match.equals("generatorsource")) {
             replacedString += generatorSource;    
         }
@@ -370,29 +447,29 @@ public class VariableReplacer {
     /**
      * If a value is to be determined from the metadata, it is determined here.
      */
-    private String determineReplacementForMetadata(Matcher variableFinder) {
-        String dollarSignIfToKeep = variableFinder.group(1);
+    private String determineReplacementForMetadata(Variable variable) {
+        String dollarSignIfToKeep = variable.dollarSign;
         MetadataLevel metadataLevel;
-        if (variableFinder.group(3).equals("meta")) {
+        if (variable.metadataSource.equals("meta")) {
             if (dollarSignIfToKeep.isEmpty()) {
-                return variableFinder.group();
+                return variable.text;
             } else {
                 dollarSignIfToKeep = "";
             }
-            metadataLevel = Objects.isNull(variableFinder.group(4)) ? MetadataLevel.ALL
-                    : MetadataLevel.valueOf(variableFinder.group(4).toUpperCase());
+            metadataLevel = Objects.isNull(variable.metadataLevel) ? MetadataLevel.ALL
+                    : MetadataLevel.valueOf(variable.metadataLevel.toUpperCase());
         } else {
             metadataLevel = MetadataLevel.TOPSTRUCT;
         }
 
         if (Objects.isNull(workpiece)) {
-            logger.warn("Cannot replace \"{}\": no workpiece given", variableFinder.group());
+            logger.warn("Cannot replace \"{}\": no workpiece given", variable.text);
             return dollarSignIfToKeep;
         }
 
         switch (metadataLevel) {
             case ALL:
-                String allFirstchildValue = determinateReplacementForAll(variableFinder, dollarSignIfToKeep);
+                String allFirstchildValue = determinateReplacementForAll(variable, dollarSignIfToKeep);
 
                 if (Objects.nonNull(allFirstchildValue)) {
                     return allFirstchildValue;
@@ -400,53 +477,53 @@ public class VariableReplacer {
                 // else fall through
 
             case TOPSTRUCT:
-                return determineReplacementForTopstruct(variableFinder, dollarSignIfToKeep);
+                return determineReplacementForTopstruct(variable, dollarSignIfToKeep);
 
             case FIRSTCHILD:
-                return determineReplacementForFirstchild(variableFinder, dollarSignIfToKeep);
+                return determineReplacementForFirstchild(variable, dollarSignIfToKeep);
 
             default:
                 throw new IllegalStateException("complete switch");
         }
     }
 
-    private String determinateReplacementForAll(Matcher variableFinder, String dollarSignIfToKeep) {
+    private String determinateReplacementForAll(Variable variable, String dollarSignIfToKeep) {
         List<LogicalDivision> allChildren = workpiece.getLogicalStructure().getChildren();
         String allFirstchildValue = null;
         if (!allChildren.isEmpty()) {
-            allFirstchildValue = MetadataEditor.getMetadataValue(allChildren.getFirst(), variableFinder.group(5));
+            allFirstchildValue = MetadataEditor.getMetadataValue(allChildren.getFirst(), variable.metadataKey);
             if (Objects.isNull(allFirstchildValue)) {
-                allFirstchildValue = determineReplacementForTopstruct(variableFinder, dollarSignIfToKeep);
+                allFirstchildValue = determineReplacementForTopstruct(variable, dollarSignIfToKeep);
             }
             if (StringUtils.isEmpty(allFirstchildValue)) {
                 List<LogicalDivision> firstChildChildren = allChildren.getFirst().getChildren();
                 if (!firstChildChildren.isEmpty()) {
-                    allFirstchildValue = MetadataEditor.getMetadataValue(firstChildChildren.getFirst(), variableFinder.group(5));
+                    allFirstchildValue = MetadataEditor.getMetadataValue(firstChildChildren.getFirst(), variable.metadataKey);
                 }
             }
         }
         return allFirstchildValue;
     }
 
-    private String determineReplacementForTopstruct(Matcher variableFinder, String failureResult) {
-        String value = MetadataEditor.getMetadataValue(workpiece.getLogicalStructure(), variableFinder.group(5));
+    private String determineReplacementForTopstruct(Variable variable, String failureResult) {
+        String value = MetadataEditor.getMetadataValue(workpiece.getLogicalStructure(), variable.metadataKey);
         if (Objects.isNull(value)) {
-            logger.warn("Cannot replace \"{}\": No such metadata entry in the root element", variableFinder.group());
+            logger.warn("Cannot replace \"{}\": No such metadata entry in the root element", variable.text);
             return failureResult;
         }
         return value;
     }
 
-    private String determineReplacementForFirstchild(Matcher variableFinder, String failureResult) {
+    private String determineReplacementForFirstchild(Variable variable, String failureResult) {
         List<LogicalDivision> firstchildChildren = workpiece.getLogicalStructure().getChildren();
         if (firstchildChildren.isEmpty()) {
             logger.warn("Cannot replace \"{}\": Workpiece doesn't have subordinate logical divisions",
-                variableFinder.group());
+                variable.text);
             return failureResult;
         }
-        String value = MetadataEditor.getMetadataValue(firstchildChildren.getFirst(), variableFinder.group(5));
+        String value = MetadataEditor.getMetadataValue(firstchildChildren.getFirst(), variable.metadataKey);
         if (Objects.isNull(value)) {
-            logger.warn("Cannot replace \"{}\": No such metadata entry in the first division", variableFinder.group());
+            logger.warn("Cannot replace \"{}\": No such metadata entry in the first division", variable.text);
             return failureResult;
         }
         return value;
@@ -470,17 +547,17 @@ public class VariableReplacer {
     /**
      * If a filename is to be determined, it is determined here.
      */
-    private String determineReplacementForFilePlaceholder(Matcher variableFinder, String filename) {
-        switch (variableFinder.group(6)) {
+    private String determineReplacementForFilePlaceholder(Variable variable, String filename) {
+        switch (variable.filePlaceholder) {
             case "filename":
-                return variableFinder.group(1) + FilenameUtils.getName(filename);
+                return variable.dollarSign + FilenameUtils.getName(filename);
             case "basename":
-                return variableFinder.group(1) + FilenameUtils.getBaseName(filename);
+                return variable.dollarSign + FilenameUtils.getBaseName(filename);
             case "relativepath":
-                return variableFinder.group(1) + filename;
+                return variable.dollarSign + filename;
             default:
-                logger.warn("Cannot replace \"{}\": no such case defined in switch", variableFinder.group());
-                return variableFinder.group();
+                logger.warn("Cannot replace \"{}\": no such case defined in switch", variable.text);
+                return variable.text;
         }
     }
 }
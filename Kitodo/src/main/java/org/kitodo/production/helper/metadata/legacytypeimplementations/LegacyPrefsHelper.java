@@ -126,9 +126,6 @@ public class LegacyPrefsHelper {
      */
     @Deprecated
     public void loadPrefs(String fileName) throws IOException {
-        File rulesetFile = new File(fileName);
-        RulesetManagementInterface loadRuleset = rulesetManagementService.getRulesetManagement();
-        loadRuleset.load(rulesetFile);
-        this.ruleset = loadRuleset;
+        this.ruleset = rulesetManagementService.getRulesetManagement(new File(fileName));
     }
 }
@@ -108,6 +108,24 @@ public class EmptyTask extends Thread {
      */
     private int progress = 0;
 
+    /**
+     * The field backgroundJobId holds the database record number of the task
+     * if it has been written to the database to be resumable.
+     */
+    private Integer backgroundJobId = null;
+
+    /**
+     * The field queuedSince holds a time stamp of when the task was queued, to
+     * measure how long it waited to be started.
+     */
+    private final long queuedSince = System.nanoTime();
+
+    /**
+     * The field startedAt will be initialised with a time stamp as the thread
+     * is started to measure its run time.
+     */
+    private Long startedAt = null;
+
     /**
      * Default constructor. Creates an empty thread.
      *
@@ -134,6 +152,7 @@ public class EmptyTask extends Thread {
         this.exception = master.exception;
         this.passedAway = master.passedAway;
         this.progress = master.progress;
+        this.backgroundJobId = master.backgroundJobId;
     }
 
     /**
@@ -175,6 +194,26 @@ public class EmptyTask extends Thread {
         return behaviour;
     }
 
+    /**
+     * Returns the database record number of the task, if it has been written
+     * to the database to be resumable.
+     *
+     * @return the record number, or null if the task is not in the database
+     */
+    Integer getBackgroundJobId() {
+        return backgroundJobId;
+    }
+
+    /**
+     * Returns the lane in which the task is queued. Subclasses belonging to a
+     * specific lane must override this method.
+     *
+     * @return the lane of the task
+     */
+    public TaskLane getLane() {
+        return TaskLane.GENERAL;
+    }
+
     /**
      * Returns the display name of the task to show to the user.
      */
@@ -219,6 +258,19 @@ public class EmptyTask extends Thread {
         return progress;
     }
 
+    /**
+     * Returns the time the task has run from being started until its time of
+     * death has been recorded. If either has not happened, null is returned.
+     *
+     * @return the run time in nanoseconds
+     */
+    Long getRunNanos() {
+        if (Objects.isNull(startedAt) || Objects.isNull(passedAway)) {
+            return null;
+        }
+        return passedAway - startedAt;
+    }
+
     /**
      * Returns a text string representing the
      * state of the current task as read-only property "stateDescription".
@@ -408,6 +460,16 @@ public class EmptyTask extends Thread {
         // We’re done. There is nothing more to do.
     }
 
+    /**
+     * Sets the database record number of the task.
+     *
+     * @param backgroundJobId
+     *            the record number, may be null
+     */
+    void setBackgroundJobId(Integer backgroundJobId) {
+        this.backgroundJobId = backgroundJobId;
+    }
+
     /**
      * The procedure setException can be used to save an exception that occurred
      * and show it in the front end. It will only record the first exception
@@ -511,14 +573,24 @@ public class EmptyTask extends Thread {
      * which returns from the call to the start method, and the other thread
      * which executes its run method. In addition, this method override ensures
      * that the thread is properly registered in the task manager and that its
-     * uncaught exception handler has been properly set.
+     * uncaught exception handler has been properly set. The thread runs with
+     * the priority of the lane of the task. If the task has
+     * already been claimed by another application node, it is not started,
+     * but removed from the task manager.
      *
      * @see java.lang.Thread#start()
      */
     @Override
     public void start() {
         TaskManager.addTaskIfMissing(this);
+        if (!TaskManager.claim(this)) {
+            interrupt(Behaviour.DELETE_IMMEDIATELY);
+            return;
+        }
         setUncaughtExceptionHandler(CATCH_ALL);
+        setPriority(getLane().getThreadPriority());
+        startedAt = System.nanoTime();
+        TaskManager.recordStart(this, startedAt - queuedSince);
         super.start();
     }
 }
@@ -13,6 +13,7 @@ package org.kitodo.production.helper.tasks;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Properties;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,12 +30,18 @@ import org.xml.sax.SAXException;
  * The class ExportDmsTask accepts an {@link org.kitodo.export.ExportDms} for a
  * process and provides the ability to run the export in the background this
  * way. This is especially valuable if the export has a big load of images to
- * copy.
+ * copy. An export that is resumed after a restart starts over.
  */
-public class ExportDmsTask extends EmptyTask {
+public class ExportDmsTask extends EmptyTask implements ResumableTask {
 
     private static final Logger logger = LogManager.getLogger(ExportDmsTask.class);
 
+    // parameter keys
+    private static final String PROCESS_ID = "processId";
+    private static final String EXPORT_WITH_IMAGES = "exportWithImages";
+    private static final String WORKFLOW_TASK_ID = "workflowTaskId";
+    private static final String OPTIMISTIC_EXPORT_FLAG_SET = "optimisticExportFlagSet";
+
     private final ExportDms exportDms;
     private final Process process;
 
@@ -52,6 +59,32 @@ public class ExportDmsTask extends EmptyTask {
         this.process = process;
     }
 
+    /**
+     * Resume constructor. Creates the export again from its parameters.
+     *
+     * @param parameters
+     *            parameters of the task
+     * @param checkpoint
+     *            unused, the export starts over
+     * @throws DAOException
+     *             if the process or the workflow task cannot be loaded
+     */
+    public ExportDmsTask(Properties parameters, Properties checkpoint) throws DAOException {
+        this(createExportDms(parameters), ServiceManager.getProcessService().getById(
+            Integer.valueOf(parameters.getProperty(PROCESS_ID))));
+    }
+
+    private static ExportDms createExportDms(Properties parameters) throws DAOException {
+        ExportDms exportDms = new ExportDms(Boolean.parseBoolean(parameters.getProperty(EXPORT_WITH_IMAGES)));
+        exportDms.setOptimisticExportFlagSet(Boolean.parseBoolean(parameters.getProperty(
+            OPTIMISTIC_EXPORT_FLAG_SET)));
+        String workflowTaskId = parameters.getProperty(WORKFLOW_TASK_ID);
+        if (Objects.nonNull(workflowTaskId)) {
+            exportDms.setWorkflowTask(ServiceManager.getTaskService().getById(Integer.valueOf(workflowTaskId)));
+        }
+        return exportDms;
+    }
+
     /**
      * Clone constructor. Provides the ability to restart an export that was
      * previously interrupted by the user.
@@ -65,6 +98,29 @@ public class ExportDmsTask extends EmptyTask {
         this.process = source.process;
     }
 
+    @Override
+    public Properties getParameters() {
+        Properties parameters = new Properties();
+        parameters.setProperty(PROCESS_ID, process.getId().toString());
+        parameters.setProperty(EXPORT_WITH_IMAGES, Boolean.toString(exportDms.isExportWithImages()));
+        parameters.setProperty(OPTIMISTIC_EXPORT_FLAG_SET, Boolean.toString(exportDms.isOptimisticExportFlagSet()));
+        Task workflowTask = exportDms.getWorkflowTask();
+        if (Objects.nonNull(workflowTask) && Objects.nonNull(workflowTask.getId())) {
+            parameters.setProperty(WORKFLOW_TASK_ID, workflowTask.getId().toString());
+        }
+        return parameters;
+    }
+
+    @Override
+    public Properties getCheckpoint() {
+        return new Properties();
+    }
+
+    @Override
+    public TaskLane getLane() {
+        return TaskLane.EXPORT;
+    }
+
     /**
      * If the task is started, it will execute this run() method which will
      * start the export on the ExportDms. This task instance is passed in
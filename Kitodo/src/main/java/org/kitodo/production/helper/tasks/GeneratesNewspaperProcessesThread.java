@@ -59,6 +59,11 @@ public class GeneratesNewspaperProcessesThread extends EmptyTask {
         this.generator = source.generator;
     }
 
+    @Override
+    public TaskLane getLane() {
+        return TaskLane.IMPORT;
+    }
+
     /**
      * Creates a new thread based on this thread to be able to restart the
      * interrupted process.
@@ -71,6 +71,11 @@ public class MigrationTask extends EmptyTask {
         this.processes = sourceMigrationTask.processes;
     }
 
+    @Override
+    public TaskLane getLane() {
+        return TaskLane.MIGRATION;
+    }
+
     /**
      * The method to work the thread.
      */
@@ -0,0 +1,45 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.util.Properties;
+
+/**
+ * A task that can be written to the database and resumed later, after a
+ * restart of the application or on another application node. Tasks
+ * implementing this interface must extend {@link EmptyTask} and provide a
+ * public constructor taking two {@link Properties} arguments: the parameters
+ * returned by {@link #getParameters()}, and the last checkpoint returned by
+ * {@link #getCheckpoint()}, which is empty if the task has not made any
+ * progress yet. The constructor must create the task so that it continues its
+ * work from the checkpoint.
+ */
+public interface ResumableTask {
+
+    /**
+     * Returns the parameters required to create the task again. They are
+     * retrieved once, when the task is added to the task manager.
+     *
+     * @return the parameters of the task
+     */
+    Properties getParameters();
+
+    /**
+     * Returns the progress the task has reached. It is retrieved regularly
+     * from a different thread while the task is running, so it must return a
+     * consistent state. Work done after the checkpoint may be repeated when
+     * the task is resumed.
+     *
+     * @return the checkpoint, may be empty
+     */
+    Properties getCheckpoint();
+}
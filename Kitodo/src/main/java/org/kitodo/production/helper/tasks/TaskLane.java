@@ -0,0 +1,98 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+
+/**
+ * The lanes in which the tasks of the task manager are queued. Each class of
+ * task belongs to one lane. The lanes are listed in order of priority: When a
+ * task may be started, the TaskSitter starts waiting tasks of the earlier lanes
+ * first, so that short interactive tasks are not kept waiting by a long queue
+ * of bulk tasks. The threads of the tasks also run with the priority of their
+ * lane. Furthermore, the number of tasks run in parallel can be limited for
+ * each lane.
+ */
+public enum TaskLane {
+    /**
+     * Generating images, usually requested interactively by a user.
+     */
+    IMAGE_GENERATION("taskLane.imageGeneration", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_IMAGE_GENERATION,
+            Thread.NORM_PRIORITY + 1),
+
+    /**
+     * Importing and creating processes.
+     */
+    IMPORT("taskLane.import", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_IMPORT, Thread.NORM_PRIORITY),
+
+    /**
+     * All tasks not belonging to another lane.
+     */
+    GENERAL("taskLane.general", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_GENERAL, Thread.NORM_PRIORITY),
+
+    /**
+     * Exporting processes.
+     */
+    EXPORT("taskLane.export", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_EXPORT, Thread.NORM_PRIORITY - 1),
+
+    /**
+     * Updating the information derived from the processes, for example for
+     * searching.
+     */
+    INDEXING("taskLane.indexing", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_INDEXING, Thread.NORM_PRIORITY - 2),
+
+    /**
+     * Migrating processes from older versions.
+     */
+    MIGRATION("taskLane.migration", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_MIGRATION, Thread.MIN_PRIORITY);
+
+    private final String messageKey;
+    private final ParameterCore limitParameter;
+    private final int threadPriority;
+
+    TaskLane(String messageKey, ParameterCore limitParameter, int threadPriority) {
+        this.messageKey = messageKey;
+        this.limitParameter = limitParameter;
+        this.threadPriority = threadPriority;
+    }
+
+    /**
+     * Returns the key of the message naming the lane.
+     *
+     * @return the message key
+     */
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    /**
+     * Returns the number of tasks of this lane that may run in parallel. If
+     * the lane is not configured, this is the overall limit.
+     *
+     * @param autoRunLimit
+     *            overall limit of tasks run in parallel
+     * @return the limit of the lane, at most the overall limit
+     */
+    int getLimit(int autoRunLimit) {
+        return Math.min(ConfigCore.getIntParameter(limitParameter, autoRunLimit), autoRunLimit);
+    }
+
+    /**
+     * Returns the priority of the threads of the tasks of this lane.
+     *
+     * @return the thread priority
+     */
+    int getThreadPriority() {
+        return threadPriority;
+    }
+}
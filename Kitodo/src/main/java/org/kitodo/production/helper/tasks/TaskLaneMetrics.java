@@ -0,0 +1,123 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Figures of a lane of the task manager, shown in the task manager. The
+ * numbers of working and waiting tasks are those found by the last inspection
+ * of the task list. The wait time is measured from queueing a task until it is
+ * started, the run time from starting a task until the TaskSitter finds it has
+ * terminated. Stopped and deleted tasks are not included in the run times.
+ */
+public class TaskLaneMetrics {
+    private final TaskLane lane;
+    private volatile int limit;
+    private volatile int queueDepth;
+    private volatile int working;
+    private final LongAdder started = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+
+    TaskLaneMetrics(TaskLane lane) {
+        this.lane = lane;
+    }
+
+    /**
+     * Returns the lane.
+     *
+     * @return the lane
+     */
+    public TaskLane getLane() {
+        return lane;
+    }
+
+    /**
+     * Returns the number of tasks of the lane that may run in parallel.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of tasks of the lane waiting to be started.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Returns the number of tasks of the lane currently working.
+     *
+     * @return the number of working tasks
+     */
+    public int getWorking() {
+        return working;
+    }
+
+    /**
+     * Returns the number of tasks of the lane that have completed.
+     *
+     * @return the number of completed tasks
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Returns the average time the tasks of the lane have waited to be
+     * started.
+     *
+     * @return the average wait time in seconds
+     */
+    public long getAverageWaitSeconds() {
+        return average(totalWaitNanos, started);
+    }
+
+    /**
+     * Returns the average time the tasks of the lane have run until they
+     * completed.
+     *
+     * @return the average run time in seconds
+     */
+    public long getAverageRunSeconds() {
+        return average(totalRunNanos, completed);
+    }
+
+    void setInspectionResult(int limit, int queueDepth, int working) {
+        this.limit = limit;
+        this.queueDepth = queueDepth;
+        this.working = working;
+    }
+
+    void recordStart(long waitNanos) {
+        started.increment();
+        totalWaitNanos.add(waitNanos);
+    }
+
+    void recordCompletion(long runNanos) {
+        completed.increment();
+        totalRunNanos.add(runNanos);
+    }
+
+    private static long average(LongAdder totalNanos, LongAdder count) {
+        long divisor = count.sum();
+        return divisor == 0 ? 0 : TimeUnit.NANOSECONDS.toSeconds(totalNanos.sum() / divisor);
+    }
+}
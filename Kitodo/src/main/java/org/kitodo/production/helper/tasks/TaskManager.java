@@ -14,9 +14,11 @@ package org.kitodo.production.helper.tasks;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -57,24 +59,39 @@ public class TaskManager {
      */
     final LinkedList<EmptyTask> taskList = new LinkedList<>();
 
+    /**
+     * The field taskStore writes resumable tasks to the database.
+     */
+    final TaskStore taskStore = new TaskStore();
+
+    /**
+     * The field laneMetrics holds the figures of the lanes of the task manager.
+     */
+    final Map<TaskLane, TaskLaneMetrics> laneMetrics = new EnumMap<>(TaskLane.class);
+
     /**
      * TaskManager is a singleton so its constructor is private. It will be
      * called once and just once by the synchronized function singleton() and
      * set up a housekeeping thread.
      */
     private TaskManager() {
+        for (TaskLane lane : TaskLane.values()) {
+            laneMetrics.put(lane, new TaskLaneMetrics(lane));
+        }
         taskSitter = Executors.newSingleThreadScheduledExecutor();
         long delay = ConfigCore.getLongParameterOrDefaultValue(ParameterCore.TASK_MANAGER_INSPECTION_INTERVAL_MILLIS);
         taskSitter.scheduleWithFixedDelay(new TaskSitter(), delay, delay, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Adds a task thread to the task list.
+     * Adds a task thread to the task list. If the task is resumable, it is
+     * also written to the database.
      *
      * @param task
      *            task to add
      */
     public static void addTask(EmptyTask task) {
+        singleton().taskStore.add(task);
         LinkedList<EmptyTask> tasks = singleton().taskList;
         synchronized (tasks) {
             tasks.addLast(task);
@@ -110,6 +127,50 @@ public class TaskManager {
         }
     }
 
+    /**
+     * Claims a task before it is started. This prevents a task written to the
+     * database from being run by several application nodes.
+     *
+     * @param task
+     *            task to claim
+     * @return whether the task may be started on this node
+     */
+    static boolean claim(EmptyTask task) {
+        return singleton().taskStore.claim(task);
+    }
+
+    /**
+     * Records that a task is started, for the figures of its lane.
+     *
+     * @param task
+     *            task started
+     * @param waitNanos
+     *            time the task has waited to be started
+     */
+    static void recordStart(EmptyTask task, long waitNanos) {
+        singleton().laneMetrics.get(task.getLane()).recordStart(waitNanos);
+    }
+
+    /**
+     * Returns the figures of the lanes of the task manager, in order of
+     * priority.
+     *
+     * @return the figures of the lanes
+     */
+    public static List<TaskLaneMetrics> getLaneMetrics() {
+        return new ArrayList<>(singleton().laneMetrics.values());
+    }
+
+    /**
+     * Starts the task manager, if it is not yet running. This resumes tasks
+     * left in the database by a previous run of the application, or by an
+     * application node that has gone away, even before a task is added on
+     * this node.
+     */
+    public static void startUp() {
+        singleton();
+    }
+
     /**
      * Returns a copy of the task list usable for
      * displaying. The result object cannot be used to modify the list. Use
@@ -162,7 +223,14 @@ public class TaskManager {
             try {
                 LinkedList<EmptyTask> tasks = singleton().taskList;
                 synchronized (tasks) {
-                    tasks.removeIf(emptyTask -> emptyTask.getState().equals(Thread.State.TERMINATED));
+                    Iterator<EmptyTask> inspector = tasks.iterator();
+                    while (inspector.hasNext()) {
+                        EmptyTask task = inspector.next();
+                        if (task.getState().equals(Thread.State.TERMINATED)) {
+                            inspector.remove();
+                            singleton().taskStore.remove(task);
+                        }
+                    }
                 }
             } catch (ConcurrentModificationException listModifiedByAnotherThreadWhileIterating) {
                 logger.catching(listModifiedByAnotherThreadWhileIterating);
@@ -221,11 +289,16 @@ public class TaskManager {
     /**
      * The function will be called by the TaskSitter to gracefully
      * exit the task manager as well as its managed threads during container
-     * shutdown.
+     * shutdown. Tasks written to the database remain there, with their last
+     * checkpoint, to be resumed after restart or by another application node.
      */
     public static void shutdownNow() {
-        stopAndDeleteAllTasks();
-        singleton().taskSitter.shutdownNow();
+        TaskManager taskManager = singleton();
+        taskManager.taskSitter.shutdownNow();
+        synchronized (taskManager.taskList) {
+            taskManager.taskStore.releaseAll(taskManager.taskList);
+        }
+        stopAllTasks(false);
     }
 
     /**
@@ -234,6 +307,10 @@ public class TaskManager {
      * the same time remove all threads that aren’t alive anyhow.
      */
     public static void stopAndDeleteAllTasks() {
+        stopAllTasks(true);
+    }
+
+    private static void stopAllTasks(boolean deleteFromDatabase) {
         boolean redo;
         do {
             redo = false;
@@ -247,6 +324,9 @@ public class TaskManager {
                             task.interrupt(Behaviour.DELETE_IMMEDIATELY);
                         } else {
                             inspector.remove();
+                            if (deleteFromDatabase) {
+                                singleton().taskStore.remove(task);
+                            }
                         }
                     }
                 }
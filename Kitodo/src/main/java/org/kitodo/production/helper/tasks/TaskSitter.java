@@ -13,11 +13,18 @@ package org.kitodo.production.helper.tasks;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.EnumMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Objects;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
@@ -38,6 +45,8 @@ import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
  * instantiation to the servlet container.
  */
 public class TaskSitter implements Runnable {
+    private static final Logger logger = LogManager.getLogger(TaskSitter.class);
+
     /**
      * The field autoRunLimit holds the number of threads which at most are
      * allowed to be started automatically. It is by default initialised by the
@@ -87,8 +96,7 @@ public class TaskSitter implements Runnable {
      * {@link java.util.ListIterator} here.
      *
      * <p>
-     * Running tasks reduce the clearance to run new tasks. (However, the
-     * clearance must not become negative.) New tasks will be added to the
+     * Running tasks are counted per lane. New tasks will be added to the
      * launch list, except if they have already been marked for removal, of
      * course. If a task has terminated, it is handled as specified by its
      * behavior variable: All tasks that are marked DELETE_IMMEDIATELY will
@@ -109,23 +117,36 @@ public class TaskSitter implements Runnable {
      * number of expired threads as configured. (Since new threads will be added
      * to the bottom of the list and we therefore want to remove older ones
      * top-down we cannot do this before we know their count, thus we cannot do
-     * this while iterating.) Last, new threads will be started up to the
-     * remaining available clearance.
+     * this while iterating.) Last, new threads will be started in order of
+     * the priority of their lanes, and within a lane in the order of the task
+     * list, as long as neither the limit of their lane nor the overall limit
+     * has been reached by the running threads.
+     *
+     * <p>
+     * After the task list has been released, the leases on the tasks in the
+     * database are renewed in one go and changed states are written. If there
+     * is clearance left and no task of this node is waiting, tasks that no
+     * node runs are claimed from the database. They are added to the task
+     * list and launched through their lanes with the next inspection.
      *
      * @see java.lang.Runnable#run()
      */
     @Override
     public void run() {
-        LinkedList<EmptyTask> taskList = TaskManager.singleton().taskList;
+        TaskManager taskManager = TaskManager.singleton();
+        LinkedList<EmptyTask> taskList = taskManager.taskList;
+        TaskStore taskStore = taskManager.taskStore;
+        List<EmptyTask> tasks;
+        int availableClearance;
         synchronized (taskList) {
-            if (taskList.isEmpty()) {
+            if (taskList.isEmpty() && !taskStore.isEnabled()) {
                 return;
             }
     
             LinkedList<EmptyTask> launchableThreads = new LinkedList<>();
             LinkedList<EmptyTask> finishedThreads = new LinkedList<>();
             LinkedList<EmptyTask> failedThreads = new LinkedList<>();
-            int availableClearance = autoRunLimit;
+            Map<TaskLane, Integer> workingThreads = new EnumMap<>(TaskLane.class);
     
             int successfulMaxCount = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_KEEP_SUCCESSFUL);
             int failedMaxCount = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_KEEP_FAILED);
@@ -135,81 +156,154 @@ public class TaskSitter implements Runnable {
                     ChronoUnit.MINUTES);
 
             ListIterator<EmptyTask> position = taskList.listIterator();
-            EmptyTask task;
             try {
                 while (position.hasNext()) {
-                    availableClearance = handleTaskModification(launchableThreads, finishedThreads, failedThreads,
-                            availableClearance, successfulMaxAge, failedMaxAge, position);
+                    handleTaskModification(launchableThreads, finishedThreads, failedThreads, workingThreads,
+                        successfulMaxAge, failedMaxAge, position);
                 }
             } catch (ConcurrentModificationException e) {
                 return;
             }
 
-            while (finishedThreads.size() > successfulMaxCount && (task = finishedThreads.pollFirst()) != null) {
-                taskList.remove(task);
-            }
+            removeSurplus(finishedThreads, successfulMaxCount, taskList, taskStore);
+            removeSurplus(failedThreads, failedMaxCount, taskList, taskStore);
 
-            while (failedThreads.size() > failedMaxCount && (task = failedThreads.pollFirst()) != null) {
-                taskList.remove(task);
-            }
+            availableClearance = launch(launchableThreads, workingThreads, taskManager.laneMetrics);
+            tasks = new ArrayList<>(taskList);
+        }
+        synchronizeWithDatabase(tasks, availableClearance, taskList, taskStore);
+    }
 
-            while (launchableThreads.size() > availableClearance) {
-                launchableThreads.removeLast();
+    private static void synchronizeWithDatabase(List<EmptyTask> tasks, int availableClearance,
+                                                LinkedList<EmptyTask> taskList, TaskStore taskStore) {
+        for (EmptyTask lostTask : taskStore.updateAll(tasks)) {
+            if (lostTask.isAlive()) {
+                logger.warn("Task \"{}\" has been taken over by another node and is stopped here",
+                    lostTask.getName());
+                lostTask.interrupt(Behaviour.DELETE_IMMEDIATELY);
+            }
+        }
+        List<EmptyTask> resumedTasks = taskStore.claimPending(availableClearance);
+        if (!resumedTasks.isEmpty()) {
+            // resumed tasks are launched through their lanes with the next inspection
+            synchronized (taskList) {
+                taskList.addAll(resumedTasks);
             }
-            while ((task = launchableThreads.pollFirst()) != null) {
+        }
+    }
+
+    private static void removeSurplus(LinkedList<EmptyTask> terminatedThreads, int maxCount,
+                                      LinkedList<EmptyTask> taskList, TaskStore taskStore) {
+        EmptyTask task;
+        while (terminatedThreads.size() > maxCount && (task = terminatedThreads.pollFirst()) != null) {
+            taskList.remove(task);
+            taskStore.remove(task);
+        }
+    }
+
+    /**
+     * Starts the launchable threads in order of the priority of their lanes,
+     * as far as the limits allow, and updates the figures of the lanes.
+     *
+     * @return the remaining overall clearance, or 0 if any launchable thread
+     *         has to wait, so that no tasks are claimed from the database
+     *         while tasks of this node are queued
+     */
+    private static int launch(LinkedList<EmptyTask> launchableThreads, Map<TaskLane, Integer> workingThreads,
+                              Map<TaskLane, TaskLaneMetrics> laneMetrics) {
+        int availableClearance = autoRunLimit;
+        for (int working : workingThreads.values()) {
+            availableClearance -= working;
+        }
+        Map<TaskLane, Integer> limits = new EnumMap<>(TaskLane.class);
+        for (TaskLane lane : TaskLane.values()) {
+            limits.put(lane, lane.getLimit(autoRunLimit));
+        }
+        Map<TaskLane, Integer> queuedThreads = new EnumMap<>(TaskLane.class);
+        // the sort is stable, so the order of the task list is kept within a lane
+        launchableThreads.sort(Comparator.comparing(EmptyTask::getLane));
+        for (EmptyTask task : launchableThreads) {
+            TaskLane lane = task.getLane();
+            int working = workingThreads.getOrDefault(lane, 0);
+            if (availableClearance > 0 && working < limits.get(lane)) {
                 task.start();
+                workingThreads.put(lane, working + 1);
+                availableClearance--;
+            } else {
+                queuedThreads.merge(lane, 1, Integer::sum);
             }
         }
+        for (TaskLaneMetrics metrics : laneMetrics.values()) {
+            TaskLane lane = metrics.getLane();
+            metrics.setInspectionResult(limits.get(lane), queuedThreads.getOrDefault(lane, 0),
+                workingThreads.getOrDefault(lane, 0));
+        }
+        return queuedThreads.isEmpty() ? Math.max(availableClearance, 0) : 0;
     }
 
-    private int handleTaskModification(LinkedList<EmptyTask> launchableThreads, LinkedList<EmptyTask> finishedThreads,
-                                       LinkedList<EmptyTask> failedThreads, int availableClearance,
-                                       Duration successfulMaxAge, Duration failedMaxAge,
-                                       ListIterator<EmptyTask> position) {
+    private void handleTaskModification(LinkedList<EmptyTask> launchableThreads, LinkedList<EmptyTask> finishedThreads,
+                                        LinkedList<EmptyTask> failedThreads, Map<TaskLane, Integer> workingThreads,
+                                        Duration successfulMaxAge, Duration failedMaxAge,
+                                        ListIterator<EmptyTask> position) {
+        TaskStore taskStore = TaskManager.singleton().taskStore;
         EmptyTask task;
         task = position.next();
         switch (task.getTaskState()) {
             case WORKING:
             case STOPPING:
-                availableClearance = Math.max(availableClearance - 1, 0);
+                workingThreads.merge(task.getLane(), 1, Integer::sum);
                 break;
             case NEW:
                 if (Behaviour.DELETE_IMMEDIATELY.equals(task.getBehaviour())) {
                     position.remove();
+                    taskStore.remove(task);
                 } else {
                     launchableThreads.addLast(task);
                 }
                 break;
             default: // cases STOPPED, FINISHED, CRASHED
-                switch (task.getBehaviour()) {
-                    case DELETE_IMMEDIATELY:
-                        position.remove();
-                        break;
-                    case PREPARE_FOR_RESTART:
-                        EmptyTask replacement = task.replace();
-                        if (Objects.nonNull(replacement)) {
-                            position.set(replacement);
-                            launchableThreads.addLast(replacement);
-                        }
-                        break;
-                    default: // case KEEP_FOR_A_WHILE
-                        boolean taskFinishedSuccessfully = Objects.isNull(task.getException());
-                        Duration durationDead = task.getDurationDead();
-                        if (Objects.isNull(durationDead)) {
-                            task.setTimeOfDeath();
-                        } else if (durationDead.compareTo(taskFinishedSuccessfully ? successfulMaxAge : failedMaxAge) > 0) {
-                            position.remove();
-                            break;
-                        }
-                        if (taskFinishedSuccessfully) {
-                            finishedThreads.add(task);
-                        } else {
-                            failedThreads.add(task);
-                        }
-                        break;
+                handleTerminatedTask(launchableThreads, finishedThreads, failedThreads, successfulMaxAge,
+                    failedMaxAge, position, task);
+        }
+    }
+
+    private void handleTerminatedTask(LinkedList<EmptyTask> launchableThreads, LinkedList<EmptyTask> finishedThreads,
+                                      LinkedList<EmptyTask> failedThreads, Duration successfulMaxAge,
+                                      Duration failedMaxAge, ListIterator<EmptyTask> position, EmptyTask task) {
+        TaskStore taskStore = TaskManager.singleton().taskStore;
+        switch (task.getBehaviour()) {
+            case DELETE_IMMEDIATELY:
+                position.remove();
+                taskStore.remove(task);
+                break;
+            case PREPARE_FOR_RESTART:
+                EmptyTask replacement = task.replace();
+                if (Objects.nonNull(replacement)) {
+                    position.set(replacement);
+                    launchableThreads.addLast(replacement);
+                }
+                break;
+            default: // case KEEP_FOR_A_WHILE
+                boolean taskFinishedSuccessfully = Objects.isNull(task.getException());
+                Duration durationDead = task.getDurationDead();
+                if (Objects.isNull(durationDead)) {
+                    task.setTimeOfDeath();
+                    Long runNanos = task.getRunNanos();
+                    if (Objects.nonNull(runNanos)) {
+                        TaskManager.singleton().laneMetrics.get(task.getLane()).recordCompletion(runNanos);
+                    }
+                } else if (durationDead.compareTo(taskFinishedSuccessfully ? successfulMaxAge : failedMaxAge) > 0) {
+                    position.remove();
+                    taskStore.remove(task);
+                    break;
+                }
+                if (taskFinishedSuccessfully) {
+                    finishedThreads.add(task);
+                } else {
+                    failedThreads.add(task);
                 }
+                break;
         }
-        return availableClearance;
     }
 
     /**
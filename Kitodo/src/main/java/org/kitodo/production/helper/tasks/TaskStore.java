@@ -0,0 +1,383 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.database.persistence.BackgroundJobDAO;
+
+/**
+ * Writes the tasks of the task manager that implement {@link ResumableTask}
+ * to the database, so that they survive a restart of the application and can
+ * be run by any application node sharing the database. A node claims a task
+ * with a lease before running it, and the TaskSitter renews the lease with
+ * each inspection of the task list. If a node goes away, its lease expires and
+ * another node resumes the task from its last checkpoint.
+ *
+ * <p>
+ * Database errors never stop the task manager. They are logged, and the task
+ * keeps running locally.
+ */
+class TaskStore {
+    private static final Logger logger = LogManager.getLogger(TaskStore.class);
+
+    private final BackgroundJobDAO backgroundJobDAO = new BackgroundJobDAO();
+
+    /**
+     * The name of this application node, as lease owner. The runtime name is
+     * {@code pid@host}, which a restarted container may get again, so a
+     * random part makes sure that a new instance does not take over the
+     * leases of the jobs of a crashed one.
+     */
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + '/' + UUID.randomUUID();
+
+    /**
+     * Record numbers of the tasks this node holds, each with the state last
+     * written. Only for these, the state is written and the lease is renewed.
+     */
+    private final Map<Integer, String> claimed = new ConcurrentHashMap<>();
+
+    /**
+     * Returns whether resumable tasks are written to the database.
+     *
+     * @return whether the persistent queue is enabled
+     */
+    boolean isEnabled() {
+        return ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.TASK_MANAGER_PERSISTENT_QUEUE);
+    }
+
+    /**
+     * Writes a new task to the database, if it is resumable. The task is
+     * written already held by this node, so no other node can take it while it
+     * is waiting to be started here.
+     *
+     * @param task
+     *            task to write
+     */
+    void add(EmptyTask task) {
+        if (!(task instanceof ResumableTask) || Objects.nonNull(task.getBackgroundJobId()) || !isEnabled()) {
+            return;
+        }
+        BackgroundJob backgroundJob = new BackgroundJob();
+        backgroundJob.setType(task.getClass().getName());
+        backgroundJob.setName(task.getName());
+        backgroundJob.setParameters(toString(((ResumableTask) task).getParameters()));
+        backgroundJob.setState(BackgroundJobState.NEW);
+        backgroundJob.setCreationDate(new Date());
+        backgroundJob.setLeaseOwner(owner);
+        backgroundJob.setLeaseExpiry(getLeaseExpiry());
+        try {
+            backgroundJobDAO.save(backgroundJob);
+            claimed.put(backgroundJob.getId(), "");
+            task.setBackgroundJobId(backgroundJob.getId());
+        } catch (DAOException | RuntimeException e) {
+            logger.warn("Task \"{}\" cannot be written to the database and will not be resumable: {}",
+                task.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Claims a task before it is started on this node. If the task is in the
+     * database and this node does not hold it, or no longer holds it, it must
+     * not be started here. It is then detached from its database record, so
+     * that removing it on this node does not affect the other node.
+     *
+     * @param task
+     *            task to claim
+     * @return whether the task may be started on this node
+     */
+    boolean claim(EmptyTask task) {
+        Integer backgroundJobId = task.getBackgroundJobId();
+        if (Objects.isNull(backgroundJobId)) {
+            return true;
+        }
+        try {
+            boolean held = claimed.containsKey(backgroundJobId)
+                    ? backgroundJobDAO.renewLease(backgroundJobId, owner, getLeaseExpiry())
+                    : backgroundJobDAO.claim(backgroundJobId, owner, getLeaseExpiry());
+            if (!held) {
+                claimed.remove(backgroundJobId);
+                task.setBackgroundJobId(null);
+                return false;
+            }
+            claimed.putIfAbsent(backgroundJobId, "");
+        } catch (DAOException | RuntimeException e) {
+            logger.warn("Task \"{}\" cannot be claimed: {}", task.getName(), e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Writes the state, progress and checkpoint of a task held by this node
+     * to the database, if they have changed since they were last written.
+     * Tasks not held by this node are skipped.
+     *
+     * @param task
+     *            task to write
+     * @return false, if this node has lost the task to another node. The
+     *         task is then detached from its database record.
+     */
+    boolean update(EmptyTask task) {
+        Integer backgroundJobId = task.getBackgroundJobId();
+        String written = Objects.isNull(backgroundJobId) ? null : claimed.get(backgroundJobId);
+        if (Objects.isNull(written)) {
+            return true;
+        }
+        BackgroundJob backgroundJob = new BackgroundJob();
+        backgroundJob.setId(backgroundJobId);
+        backgroundJob.setState(BackgroundJobState.valueOf(task.getTaskState().name()));
+        backgroundJob.setProgress(task.getProgress());
+        backgroundJob.setCheckpoint(toString(((ResumableTask) task).getCheckpoint()));
+        if (Objects.nonNull(task.getException())) {
+            backgroundJob.setErrorMessage(ExceptionUtils.getRootCauseMessage(task.getException()));
+        }
+        String state = backgroundJob.getState() + "|" + backgroundJob.getProgress() + "|"
+                + backgroundJob.getCheckpoint() + "|" + backgroundJob.getErrorMessage();
+        if (state.equals(written)) {
+            return true;
+        }
+        try {
+            if (backgroundJobDAO.update(backgroundJob, owner, getLeaseExpiry())) {
+                claimed.replace(backgroundJobId, state);
+                return true;
+            }
+            claimed.remove(backgroundJobId);
+            task.setBackgroundJobId(null);
+            return false;
+        } catch (DAOException | RuntimeException e) {
+            logger.warn("State of task \"{}\" cannot be written to the database: {}", task.getName(),
+                e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Renews the leases on all tasks held by this node in one statement, and
+     * writes the state of the given tasks where it has changed. This is done
+     * with each inspection of the task list.
+     *
+     * <p>
+     * Tasks this node has lost to another node are returned. Those already
+     * started are detached from their database record. Those not yet started
+     * keep it, so that claiming them fails when they are started.
+     *
+     * @param tasks
+     *            tasks of this node
+     * @return the tasks lost to another node
+     */
+    List<EmptyTask> updateAll(Collection<EmptyTask> tasks) {
+        if (claimed.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<Integer> expected = new HashSet<>(claimed.keySet());
+        Set<Integer> held;
+        try {
+            held = backgroundJobDAO.renewLeases(owner, getLeaseExpiry());
+        } catch (DAOException | RuntimeException e) {
+            logger.warn("Leases on tasks cannot be renewed: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+        List<EmptyTask> lost = new ArrayList<>();
+        for (EmptyTask task : tasks) {
+            Integer backgroundJobId = task.getBackgroundJobId();
+            if (Objects.isNull(backgroundJobId) || !expected.contains(backgroundJobId)) {
+                continue;
+            }
+            if (held.contains(backgroundJobId)) {
+                if (!update(task)) {
+                    lost.add(task);
+                }
+            } else {
+                claimed.remove(backgroundJobId);
+                if (!TaskState.NEW.equals(task.getTaskState())) {
+                    task.setBackgroundJobId(null);
+                }
+                lost.add(task);
+            }
+        }
+        return lost;
+    }
+
+    /**
+     * Deletes a task from the database, if this node holds it. A task held by
+     * another node is only detached from its database record.
+     *
+     * @param task
+     *            task to delete
+     */
+    void remove(EmptyTask task) {
+        Integer backgroundJobId = task.getBackgroundJobId();
+        if (Objects.isNull(backgroundJobId)) {
+            return;
+        }
+        if (!claimed.containsKey(backgroundJobId)) {
+            task.setBackgroundJobId(null);
+            return;
+        }
+        try {
+            backgroundJobDAO.remove(backgroundJobId);
+            claimed.remove(backgroundJobId);
+            task.setBackgroundJobId(null);
+        } catch (DAOException | RuntimeException e) {
+            logger.warn("Task \"{}\" cannot be deleted from the database: {}", task.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the current state of the given tasks to the database and
+     * releases all tasks held by this node, so that they can be resumed
+     * immediately after a restart or by another node.
+     *
+     * @param tasks
+     *            tasks of this node
+     */
+    void releaseAll(Collection<EmptyTask> tasks) {
+        if (!isEnabled()) {
+            return;
+        }
+        for (EmptyTask task : tasks) {
+            update(task);
+        }
+        try {
+            backgroundJobDAO.release(owner);
+            claimed.clear();
+        } catch (DAOException | RuntimeException e) {
+            logger.warn("Tasks cannot be released: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Claims tasks from the database that are not run by any node, and
+     * creates them to be started on this node. This includes tasks whose node
+     * has gone away; they resume from their last checkpoint.
+     *
+     * <p>
+     * Tasks of this node are held by it from the moment they are written, and
+     * a task held by a node cannot be claimed, so none of them is claimed
+     * twice. Tasks of this node whose lease has lapsed are skipped, too.
+     *
+     * @param max
+     *            maximum number of tasks to claim
+     * @return the claimed tasks, not yet started
+     */
+    List<EmptyTask> claimPending(int max) {
+        if (max <= 0 || !isEnabled()) {
+            return Collections.emptyList();
+        }
+        List<EmptyTask> resumed = new ArrayList<>();
+        try {
+            for (BackgroundJob backgroundJob : backgroundJobDAO.getClaimable(max)) {
+                if (claimed.containsKey(backgroundJob.getId())
+                        || !backgroundJobDAO.claim(backgroundJob.getId(), owner, getLeaseExpiry())) {
+                    continue;
+                }
+                claimed.put(backgroundJob.getId(), "");
+                EmptyTask task = resume(backgroundJob);
+                if (Objects.nonNull(task)) {
+                    logger.info("Resuming task \"{}\"", task.getName());
+                    resumed.add(task);
+                }
+            }
+        } catch (DAOException | RuntimeException e) {
+            logger.warn("Tasks cannot be read from the database: {}", e.getMessage());
+        }
+        return resumed;
+    }
+
+    /**
+     * Creates a task from its database record. If this fails, the task is
+     * marked as crashed in the database, so that it is not tried again.
+     *
+     * @param backgroundJob
+     *            database record of the task
+     * @return the task, or null if it cannot be created
+     */
+    private EmptyTask resume(BackgroundJob backgroundJob) throws DAOException {
+        try {
+            Class<?> type = Class.forName(backgroundJob.getType());
+            if (!EmptyTask.class.isAssignableFrom(type) || !ResumableTask.class.isAssignableFrom(type)) {
+                throw new ClassCastException(type.getName() + " is not a resumable task");
+            }
+            EmptyTask task = (EmptyTask) type.getConstructor(Properties.class, Properties.class).newInstance(
+                toProperties(backgroundJob.getParameters()), toProperties(backgroundJob.getCheckpoint()));
+            task.setBackgroundJobId(backgroundJob.getId());
+            return task;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+            logger.error("Task \"{}\" cannot be resumed", backgroundJob.getName(), cause);
+            backgroundJob.setState(BackgroundJobState.CRASHED);
+            backgroundJob.setErrorMessage(ExceptionUtils.getRootCauseMessage(cause));
+            backgroundJobDAO.update(backgroundJob, owner, getLeaseExpiry());
+            claimed.remove(backgroundJob.getId());
+            return null;
+        }
+    }
+
+    private Date getLeaseExpiry() {
+        long leaseSeconds = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_LEASE_SECONDS);
+        return new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(leaseSeconds));
+    }
+
+    private static String toString(Properties properties) {
+        if (Objects.isNull(properties) || properties.isEmpty()) {
+            return null;
+        }
+        StringWriter writer = new StringWriter();
+        try {
+            properties.store(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // without the date comment and sorted, so that equal properties give equal strings
+        return writer.toString().lines().filter(line -> !line.startsWith("#")).sorted()
+                .collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    private static Properties toProperties(String string) {
+        Properties properties = new Properties();
+        if (Objects.nonNull(string)) {
+            try {
+                properties.load(new StringReader(string));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return properties;
+    }
+}
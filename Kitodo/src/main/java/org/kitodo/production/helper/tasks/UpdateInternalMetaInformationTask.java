@@ -57,6 +57,11 @@ public class UpdateInternalMetaInformationTask extends EmptyTask {
         return Helper.getTranslation("taskUpdateInternalMetaInformation");
     }
 
+    @Override
+    public TaskLane getLane() {
+        return TaskLane.INDEXING;
+    }
+
     @Override
     public UpdateInternalMetaInformationTask replace() {
         return new UpdateInternalMetaInformationTask(this);
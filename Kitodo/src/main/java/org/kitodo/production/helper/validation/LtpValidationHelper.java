@@ -12,15 +12,23 @@
 package org.kitodo.production.helper.validation;
 
 import java.io.File;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -36,7 +44,9 @@ import org.kitodo.api.validation.longtermpreservation.LtpValidationConditionSeve
 import org.kitodo.api.validation.longtermpreservation.LtpValidationError;
 import org.kitodo.api.validation.longtermpreservation.LtpValidationResult;
 import org.kitodo.api.validation.longtermpreservation.LtpValidationResultState;
+import org.kitodo.config.ConfigCore;
 import org.kitodo.config.KitodoConfig;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.LtpValidationCondition;
 import org.kitodo.data.database.beans.Process;
@@ -55,9 +65,12 @@ public class LtpValidationHelper {
 
     private static final Logger logger = LogManager.getLogger(LtpValidationHelper.class);
 
-    private static final LongTermPreservationValidationService ltpService = new LongTermPreservationValidationService();
+    private static final LongTermPreservationValidationService ltpService = ServiceManager
+            .getLongTermPreservationValidationService();
     private static final FileService fileService = ServiceManager.getFileService();
 
+    private static ExecutorService workerPool;
+
     /**
      * Return the absolute URI for a folder in a specific process.
      *
@@ -288,7 +301,9 @@ public class LtpValidationHelper {
     }
 
     /**
-     * Validate all images of a single folder for a task.
+     * Validate all images of a single folder for a task. The files are
+     * validated in parallel. If the thread is interrupted, the files that
+     * have not been validated yet are reported with an error.
      * 
      * @param task
      *            the task
@@ -302,18 +317,58 @@ public class LtpValidationHelper {
         Subfolder subfolder = new Subfolder(task.getProcess(), folder);
         Optional<FileType> fileType = subfolder.getFileFormat().getFileType();
         List<LtpValidationCondition> conditions = folder.getLtpValidationConfiguration().getValidationConditions();
-        Map<URI, LtpValidationResult> resultsByFile = new TreeMap<>();
         URI absoluteFolderUri = getAbsoluteFolderUri(folder, task.getProcess());
 
+        Map<URI, Future<LtpValidationResult>> futures = new LinkedHashMap<>();
         for (URI relativeFileURI : fileService.getSubUris(absoluteFolderUri)) {
             URI absoluteFileURI = getAbsoluteFileUri(relativeFileURI);
-            LtpValidationResult result = ltpService.validate(absoluteFileURI, fileType.orElse(null), conditions);
-            resultsByFile.put(relativeFileURI, result);
+            futures.put(relativeFileURI, getWorkerPool().submit(
+                () -> ltpService.validate(absoluteFileURI, fileType.orElse(null), conditions)));
         }
 
+        Map<URI, LtpValidationResult> resultsByFile = new TreeMap<>();
+        try {
+            for (Map.Entry<URI, Future<LtpValidationResult>> entry : futures.entrySet()) {
+                resultsByFile.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Validation of images in folder {} was interrupted", folder.getRelativePath());
+            // files that were not validated must not pass as valid
+            for (URI relativeFileURI : futures.keySet()) {
+                resultsByFile.putIfAbsent(relativeFileURI, new LtpValidationResult(LtpValidationResultState.ERROR,
+                        List.of(LtpValidationError.UNKNOWN_ERROR), Collections.emptyList(), List.of(
+                            "Validation was interrupted")));
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                    : new UndeclaredThrowableException(e.getCause());
+        } finally {
+            futures.values().forEach(future -> future.cancel(false));
+        }
         return resultsByFile;
     }
 
+    /**
+     * Returns the worker pool that validates the files. The pool is shared by
+     * all users, so that the number of files validated at the same time is
+     * limited for the whole application.
+     *
+     * @return the worker pool
+     */
+    private static synchronized ExecutorService getWorkerPool() {
+        if (Objects.isNull(workerPool)) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            workerPool = Executors.newFixedThreadPool(ConfigCore.getIntParameterOrDefaultValue(
+                ParameterCore.LTP_VALIDATION_THREADS), runnable -> {
+                    Thread thread = new Thread(runnable, "LtpValidation-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        }
+        return workerPool;
+    }
+
     /**
      * Validate all images of all folders for a given task.
      * 
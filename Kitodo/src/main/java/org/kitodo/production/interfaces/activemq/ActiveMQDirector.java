@@ -11,6 +11,7 @@
 
 package org.kitodo.production.interfaces.activemq;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
@@ -35,7 +36,8 @@ import org.kitodo.config.enums.ParameterCore;
  * The class ActiveMQDirector is the head of all Active MQ processors. It
  * implements the ServletContextListener interface and is called automatically
  * upon server startup. Its job is to connect to the Active MQ server and
- * register the listeners configured.
+ * register the listeners configured. The messages of each queue are processed
+ * by a number of worker threads, configured by {@code activeMQ.consumers}.
  *
  * <p>
  * The Active MQ services are intended to be run in case that
@@ -56,6 +58,7 @@ public class ActiveMQDirector implements Runnable {
     private static Connection connection = null;
     private static Session session = null;
     private static MessageProducer resultsTopic;
+    private static final Collection<MessageDispatcher> dispatchers = new ArrayList<>();
 
     @Override
     public void run() {
@@ -132,18 +135,17 @@ public class ActiveMQDirector implements Runnable {
      * <p>
      * If a queue name was configured for a service, a MessageConsumer is set up
      * to listen on that queue and, in case of incoming messages, make the
-     * service process the message. The message checker is saved inside the
-     * service to be able to shut it down later.
+     * service process the message on one of its worker threads. The message
+     * checker is saved inside the service to be able to shut it down later.
      */
     private void registerListeners(Collection<? extends ActiveMQProcessor> processors) {
+        int consumers = Math.max(ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ACTIVE_MQ_CONSUMERS), 1);
         for (ActiveMQProcessor processor : processors) {
             if (Objects.nonNull(processor.getQueueName())) {
-                MessageConsumer messageConsumer;
                 try {
-                    Destination queue = session.createQueue(processor.getQueueName());
-                    messageConsumer = session.createConsumer(queue);
-                    messageConsumer.setMessageListener(processor);
-                    processor.setMessageConsumer(messageConsumer);
+                    MessageDispatcher dispatcher = new MessageDispatcher(processor, consumers);
+                    dispatchers.add(dispatcher);
+                    processor.setMessageConsumer(dispatcher.start(connection));
                 } catch (JMSException | RuntimeException e) {
                     logger.fatal("Error setting up monitoring for \"{}\": Giving up.", processor.getQueueName(), e);
                 }
@@ -202,7 +204,8 @@ public class ActiveMQDirector implements Runnable {
 
     /**
      * The method contextDestroyed is called by the web container on shutdown.
-     * It shuts down all listeners, the session and last, the connection.
+     * It shuts down all listeners, waits for the messages being processed,
+     * and shuts down the sessions and last, the connection.
      */
     public void shutDown() {
         // Shut down all message consumers on any queues
@@ -217,6 +220,12 @@ public class ActiveMQDirector implements Runnable {
             }
         }
 
+        // finish processing and quit the sessions of the consumers
+        for (MessageDispatcher dispatcher : dispatchers) {
+            dispatcher.shutDown();
+        }
+        dispatchers.clear();
+
         // quit session
         try {
             if (Objects.nonNull(session)) {
@@ -47,6 +47,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
  * shut it down later.
  */
 public abstract class ActiveMQProcessor implements MessageListener {
+    private static final String KEY_PROCESS_ID = "processId";
+
     /**
      * The name of the queue from which this processor is processing messages.
      */
@@ -67,6 +69,69 @@ public abstract class ActiveMQProcessor implements MessageListener {
      */
     protected abstract void process(MapMessageObjectReader ticket) throws ProcessorException, JMSException;
 
+    /**
+     * Returns the key by which the order of the messages is kept. Messages
+     * with equal keys are processed one after the other in the order of their
+     * arrival, messages with different keys may be processed in parallel.
+     * Processors whose messages concern a process should return the ID of the
+     * process. By default, messages are kept in order by their ticket ID only.
+     *
+     * @param ticket
+     *            an object providing access to the fields of the received map
+     *            message
+     * @return the ordering key
+     */
+    protected Object getOrderingKey(MapMessageObjectReader ticket) throws ProcessorException, JMSException {
+        return ticket.getMandatoryString("id");
+    }
+
+    /**
+     * Returns the ordering key of a message. If it cannot be determined, null
+     * is returned. The message is then nevertheless processed, which will
+     * report the error.
+     *
+     * @param message
+     *            the received message
+     * @return the ordering key, or null
+     */
+    Object getOrderingKey(Message message) {
+        try {
+            return getOrderingKey(getMessageFromObjectReader(message));
+        } catch (ProcessorException | JMSException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the ID of the process of a task, to be used as ordering key by
+     * processors receiving task IDs. If the sender includes the process ID in
+     * the optional field {@code processId}, it is used. Otherwise, the task is
+     * looked up in the database.
+     *
+     * @param ticket
+     *            an object providing access to the fields of the received map
+     *            message
+     * @param taskIdField
+     *            name of the field containing the ID of the task
+     * @return the ID of the process of the task
+     * @throws ProcessorException
+     *             if the task cannot be loaded
+     * @throws JMSException
+     *             if a field of the message cannot be read
+     */
+    protected static Integer getProcessIdOfTask(MapMessageObjectReader ticket, String taskIdField)
+            throws ProcessorException, JMSException {
+        if (ticket.hasField(KEY_PROCESS_ID)) {
+            return ticket.getMandatoryInteger(KEY_PROCESS_ID);
+        }
+        try {
+            return ServiceManager.getTaskService().getById(ticket.getMandatoryInteger(taskIdField)).getProcess()
+                    .getId();
+        } catch (DAOException e) {
+            throw new ProcessorException(e);
+        }
+    }
+
     /**
      * Instantiating the class ActiveMQProcessor always requires to pass the
      * name of the queue it should be attached to. That means, your constructor
@@ -102,6 +167,18 @@ public abstract class ActiveMQProcessor implements MessageListener {
      */
     @Override
     public void onMessage(Message arg) {
+        processMessage(arg);
+    }
+
+    /**
+     * Processes a message and reports the result, as {@link #onMessage(Message)}
+     * does, and returns whether processing was successful.
+     *
+     * @param arg
+     *            the received message
+     * @return whether the message was processed successfully
+     */
+    boolean processMessage(Message arg) {
         MapMessageObjectReader message;
         String ticketID = null;
 
@@ -136,9 +213,11 @@ public abstract class ActiveMQProcessor implements MessageListener {
 
             // if everything ‘s fine, report success
             new WebServiceResult(queueName, ticketID, ReportLevel.SUCCESS).send();
+            return true;
         } catch (Exception e) {
             // report any errors
             new WebServiceResult(queueName, ticketID, ReportLevel.FATAL, e.getMessage()).send();
+            return false;
         }
     }
 
@@ -78,8 +78,6 @@ public class CreateNewProcessesProcessor extends ActiveMQProcessor {
     private final RulesetService rulesetService = ServiceManager.getRulesetService();
     private final TaskService taskService = ServiceManager.getTaskService();
 
-    private RulesetManagementInterface rulesetManagement;
-
     /**
      * The default constructor looks up the queue name to use in
      * kitodo_config.properties. If that is not configured and “null” is passed
@@ -90,16 +88,28 @@ public class CreateNewProcessesProcessor extends ActiveMQProcessor {
         super(ConfigCore.getOptionalString(ParameterCore.ACTIVE_MQ_CREATE_NEW_PROCESSES_QUEUE).orElse(null));
     }
 
+    /**
+     * Processes all messages one after the other. The import service keeps
+     * state of the process currently being imported, such as the exemplar
+     * records and the parent process, and must therefore not be used by
+     * several messages at the same time.
+     */
+    @Override
+    protected Object getOrderingKey(MapMessageObjectReader ticket) {
+        return ImportService.class;
+    }
+
     /* The main routine processing incoming tickets. The function has been
      * divided into three parts so that it is not too long. */
     @Override
     protected void process(MapMessageObjectReader ticket) throws ProcessorException, JMSException {
         try {
             CreateNewProcessOrder order = new CreateNewProcessOrder(ticket);
-            rulesetManagement = rulesetService.openRuleset(order.getTemplate().getRuleset());
-            TempProcess tempProcess = obtainTempProcess(order);
+            RulesetManagementInterface rulesetManagement = rulesetService.openRuleset(order.getTemplate()
+                    .getRuleset());
+            TempProcess tempProcess = obtainTempProcess(order, rulesetManagement);
             Process process = tempProcess.getProcess();
-            Process parentProcess = formProcessTitle(order, tempProcess, process);
+            Process parentProcess = formProcessTitle(order, tempProcess, process, rulesetManagement);
             createProcess(tempProcess, process, parentProcess);
 
         } catch (CommandException | DAOException | InvalidMetadataValueException | IOException
@@ -113,8 +123,8 @@ public class CreateNewProcessesProcessor extends ActiveMQProcessor {
     /* In the first part of the processing routine, the process is either
      * created without import, or it is imported. The existing data is then
      * added. */
-    private TempProcess obtainTempProcess(CreateNewProcessOrder order) throws DAOException,
-            InvalidMetadataValueException,
+    private TempProcess obtainTempProcess(CreateNewProcessOrder order, RulesetManagementInterface rulesetManagement)
+            throws DAOException, InvalidMetadataValueException,
             IOException, NoRecordFoundException, NoSuchMetadataFieldException, ParserConfigurationException,
             ProcessGenerationException, ProcessorException, SAXException, TransformerException,
             UnsupportedFormatException, URISyntaxException, XPathExpressionException, FileStructureValidationException {
@@ -127,11 +137,11 @@ public class CreateNewProcessesProcessor extends ActiveMQProcessor {
             tempProcess.verifyDocType();
             return tempProcess;
         } else {
-            TempProcess tempProcess = importProcess(order, 0);
+            TempProcess tempProcess = importProcess(order, 0, rulesetManagement);
             tempProcess.getWorkpiece().getLogicalStructure().getMetadata().addAll(order.getMetadata());
             tempProcess.verifyDocType();
             for (int which = 1; which < order.getImports().size(); which++) {
-                TempProcess repeatedImport = importProcess(order, which);
+                TempProcess repeatedImport = importProcess(order, which, rulesetManagement);
                 Set<Metadata> metadata = repeatedImport.getWorkpiece().getLogicalStructure().getMetadata();
                 rulesetManagement.updateMetadata(tempProcess.getWorkpiece().getLogicalStructure().getType(),
                     tempProcess.getWorkpiece().getLogicalStructure().getMetadata(), CREATE, metadata);
@@ -147,9 +157,12 @@ public class CreateNewProcessesProcessor extends ActiveMQProcessor {
      *            order for creating the process
      * @param which
      *            which dataset should be imported
+     * @param rulesetManagement
+     *            ruleset of the process
      * @return the imported dataset
      */
-    private TempProcess importProcess(CreateNewProcessOrder order, int which) throws DAOException,
+    private TempProcess importProcess(CreateNewProcessOrder order, int which,
+            RulesetManagementInterface rulesetManagement) throws DAOException,
             InvalidMetadataValueException, IOException, NoRecordFoundException, NoSuchMetadataFieldException,
             ParserConfigurationException, ProcessGenerationException, ProcessorException, SAXException,
             TransformerException, UnsupportedFormatException, URISyntaxException, XPathExpressionException,
@@ -169,7 +182,8 @@ public class CreateNewProcessesProcessor extends ActiveMQProcessor {
 
     /* In the second and middle part of the processing routine, the process
      * title is generated. */
-    private Process formProcessTitle(CreateNewProcessOrder order, TempProcess tempProcess, Process process)
+    private Process formProcessTitle(CreateNewProcessOrder order, TempProcess tempProcess, Process process,
+            RulesetManagementInterface rulesetManagement)
             throws DAOException, ProcessGenerationException, ProcessorException {
 
         ProcessFieldedMetadata processDetails = ProcessHelper.initializeProcessDetails(tempProcess.getWorkpiece()
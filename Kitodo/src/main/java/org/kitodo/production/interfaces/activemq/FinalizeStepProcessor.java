@@ -44,6 +44,14 @@ public class FinalizeStepProcessor extends ActiveMQProcessor {
         super(ConfigCore.getOptionalString(ParameterCore.ACTIVE_MQ_FINALIZE_STEP_QUEUE).orElse(null));
     }
 
+    /**
+     * Keeps the messages concerning the same process in order.
+     */
+    @Override
+    protected Object getOrderingKey(MapMessageObjectReader ticket) throws ProcessorException, JMSException {
+        return getProcessIdOfTask(ticket, "id");
+    }
+
     /**
      * This is the main routine processing incoming tickets. It gets an CurrentTaskForm object, sets it to the
      * appropriate step which is retrieved from the database, appends the message − if any − to process comments, and
@@ -47,6 +47,15 @@ public class KitodoScriptProcessor extends ActiveMQProcessor {
         super(ConfigCore.getOptionalString(ParameterCore.ACTIVE_MQ_KITODO_SCRIPT_QUEUE).orElse(null));
     }
 
+    /**
+     * Kitodo scripts may concern any number of processes, so they are
+     * processed one after the other.
+     */
+    @Override
+    protected Object getOrderingKey(MapMessageObjectReader ticket) {
+        return getQueueName();
+    }
+
     @Override
     protected void process(MapMessageObjectReader ticket) throws ProcessorException, JMSException {
         final String[] allowedCommands = ConfigCore.getStringArrayParameter(
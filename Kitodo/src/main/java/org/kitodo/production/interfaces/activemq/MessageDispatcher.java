@@ -0,0 +1,188 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.interfaces.activemq;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Connection;
+import javax.jms.DeliveryMode;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.activemq.ActiveMQSession;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Receives the messages of the queue of a processor and distributes them to a
+ * number of worker threads. Messages with the same ordering key always go to
+ * the same worker, so they are processed in the order of their arrival, while
+ * messages with different keys are processed in parallel. The ordering keys
+ * are determined on a thread of their own, in the order of arrival, as this
+ * may need a database query, which must not hold up the delivery of messages.
+ *
+ * <p>
+ * Each message is acknowledged individually, after it has been processed and
+ * its result has been reported. If the application stops before, the Active MQ
+ * server delivers the message again. A message whose processing failed is
+ * moved to the dead letter queue of the queue, named with the prefix
+ * {@code DLQ.}, so that it is not lost. The number of messages waiting for the
+ * workers is limited by the prefetch limit of the connection.
+ */
+class MessageDispatcher implements MessageListener {
+    private static final Logger logger = LogManager.getLogger(MessageDispatcher.class);
+
+    /**
+     * How long to wait on shutdown for the messages being processed.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+    private static final String DEAD_LETTER_QUEUE_PREFIX = "DLQ.";
+
+    private final ActiveMQProcessor processor;
+    private final ThreadPoolExecutor distributor;
+    private final List<ThreadPoolExecutor> workers;
+    private Session session;
+
+    /**
+     * Session and producer for the dead letter queue. The session of the
+     * consumer is not used for this, because sessions must not be used by
+     * several threads at the same time.
+     */
+    private Session deadLetterSession;
+    private MessageProducer deadLetterProducer;
+
+    /**
+     * Creates a message dispatcher.
+     *
+     * @param processor
+     *            processor to process the messages
+     * @param consumers
+     *            number of worker threads
+     */
+    MessageDispatcher(ActiveMQProcessor processor, int consumers) {
+        this.processor = processor;
+        this.distributor = createThread(processor.getQueueName() + "-distributor");
+        this.workers = new ArrayList<>(consumers);
+        for (int i = 1; i <= consumers; i++) {
+            workers.add(createThread(processor.getQueueName() + '-' + i));
+        }
+    }
+
+    private static ThreadPoolExecutor createThread(String threadName) {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts receiving messages from the queue of the processor. The
+     * dispatcher uses sessions of its own.
+     *
+     * @param connection
+     *            connection to the Active MQ server
+     * @return the message consumer
+     * @throws JMSException
+     *             if the queue cannot be listened to
+     */
+    MessageConsumer start(Connection connection) throws JMSException {
+        deadLetterSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        deadLetterProducer = deadLetterSession.createProducer(deadLetterSession.createQueue(
+            DEAD_LETTER_QUEUE_PREFIX + processor.getQueueName()));
+        deadLetterProducer.setDeliveryMode(DeliveryMode.PERSISTENT);
+        session = connection.createSession(false, ActiveMQSession.INDIVIDUAL_ACKNOWLEDGE);
+        MessageConsumer messageConsumer = session.createConsumer(session.createQueue(processor.getQueueName()));
+        messageConsumer.setMessageListener(this);
+        return messageConsumer;
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        distributor.execute(() -> {
+            int worker = Math.floorMod(Objects.hashCode(processor.getOrderingKey(message)), workers.size());
+            workers.get(worker).execute(() -> process(message));
+        });
+    }
+
+    private void process(Message message) {
+        if (!processor.processMessage(message)) {
+            try {
+                synchronized (deadLetterProducer) {
+                    deadLetterProducer.send(message);
+                }
+                logger.warn("Message on \"{}\" could not be processed and was moved to the dead letter queue",
+                    processor.getQueueName());
+            } catch (JMSException | RuntimeException e) {
+                logger.error("Message on \"{}\" could not be processed nor moved to the dead letter queue. It is"
+                        + " not acknowledged and will be delivered again.", processor.getQueueName(), e);
+                return;
+            }
+        }
+        try {
+            message.acknowledge();
+        } catch (JMSException | RuntimeException e) {
+            logger.error("Message cannot be acknowledged on \"{}\"", processor.getQueueName(), e);
+        }
+    }
+
+    /**
+     * Shuts down the dispatcher. This must be called after the message
+     * consumer has been closed. Messages not yet processed are discarded. They
+     * have not been acknowledged, so the Active MQ server will deliver them
+     * again. Messages being processed are completed.
+     */
+    void shutDown() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        distributor.getQueue().clear();
+        distributor.shutdown();
+        try {
+            // the distributor must not hand on messages to stopped workers
+            distributor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (ThreadPoolExecutor worker : workers) {
+            worker.getQueue().clear();
+            worker.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor worker : workers) {
+                if (!worker.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    logger.warn("Processing messages on \"{}\" did not finish in time", processor.getQueueName());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Session openSession : Arrays.asList(session, deadLetterSession)) {
+            try {
+                if (Objects.nonNull(openSession)) {
+                    openSession.close();
+                }
+            } catch (JMSException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -45,7 +45,12 @@ public class TaskActionProcessor extends ActiveMQProcessor {
     public static final String KEY_TASK_ACTION = "action";
     public static final String KEY_TASK_ID = "id";
     private final TaskService taskService = ServiceManager.getTaskService();
-    private final WorkflowControllerService workflowControllerService;
+    /**
+     * The workflow controller service keeps state while processing, so each
+     * thread processing messages gets its own.
+     */
+    private final ThreadLocal<WorkflowControllerService> workflowControllerService = ThreadLocal
+            .withInitial(WorkflowControllerService::new);
 
     /**
      * The default constructor looks up the queue name to use in kitodo_config.properties. If that is not configured and
@@ -54,7 +59,15 @@ public class TaskActionProcessor extends ActiveMQProcessor {
      */
     public TaskActionProcessor() {
         super(ConfigCore.getOptionalString(ParameterCore.ACTIVE_MQ_TASK_ACTION_QUEUE).orElse(null));
-        workflowControllerService = new WorkflowControllerService();
+    }
+
+    /**
+     * Keeps the messages concerning the same process in order.
+     */
+    @Override
+    protected Object getOrderingKey(MapMessageObjectReader mapMessageObjectReader) throws ProcessorException,
+            JMSException {
+        return getProcessIdOfTask(mapMessageObjectReader, KEY_TASK_ID);
     }
 
     /**
@@ -120,7 +133,7 @@ public class TaskActionProcessor extends ActiveMQProcessor {
                 actionErrorClose(mapMessageObjectReader, currentTask, currentUser);
                 break;
             case CLOSE:
-                workflowControllerService.closeTaskByUser(currentTask);
+                workflowControllerService.get().closeTaskByUser(currentTask);
                 break;
             default:
                 if (!mapMessageObjectReader.hasField(KEY_MESSAGE)) {
@@ -155,7 +168,7 @@ public class TaskActionProcessor extends ActiveMQProcessor {
             comment.setCorrectionTask(correctionTask);
         }
         comment.setType(CommentType.ERROR);
-        workflowControllerService.reportProblem(comment, TaskEditType.QUEUE);
+        workflowControllerService.get().reportProblem(comment, TaskEditType.QUEUE);
     }
 
     private void actionProcess(Task currentTask, User currentUser) throws DAOException {
@@ -197,7 +210,7 @@ public class TaskActionProcessor extends ActiveMQProcessor {
                 currentTaskComment.getType()) && !currentTaskComment.isCorrected() && isEqualCorrectionTask(
                 correctionTaskId, currentTaskComment.getCorrectionTask())).findFirst();
         if (optionalComment.isPresent()) {
-            workflowControllerService.solveProblem(optionalComment.get(), TaskEditType.QUEUE);
+            workflowControllerService.get().solveProblem(optionalComment.get(), TaskEditType.QUEUE);
         }
     }
 
@@ -67,7 +67,8 @@ public class WebServiceResult {
     }
 
     /**
-     * Send.
+     * Send. Results may be sent from several threads processing messages, but
+     * share the session of the results topic, so sending is synchronized.
      */
     public void send() {
         if (Objects.isNull(ActiveMQDirector.getResultsTopic())) {
@@ -77,22 +78,27 @@ public class WebServiceResult {
                         + (Objects.nonNull(message) ? " (" + message + ")" : ""));
         } else {
             try {
-                MapMessage report = ActiveMQDirector.getSession().createMapMessage();
-
-                report.setString("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME));
-                report.setString("queue", queueName);
-                report.setString("id", id);
-                report.setString("level", level.toLowerCase());
-                if (Objects.nonNull(message)) {
-                    report.setString("message", message);
+                synchronized (WebServiceResult.class) {
+                    sendReport();
                 }
-
-                ActiveMQDirector.getResultsTopic().send(report);
-
             } catch (JMSException | RuntimeException e) {
                 logger.fatal("Error sending report  for \"{}@{}\" ({}{}): Giving up.", id, queueName,
                     level.toLowerCase(), Objects.nonNull(message) ? ": " + message : "", e);
             }
         }
     }
+
+    private void sendReport() throws JMSException {
+        MapMessage report = ActiveMQDirector.getSession().createMapMessage();
+
+        report.setString("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME));
+        report.setString("queue", queueName);
+        report.setString("id", id);
+        report.setString("level", level.toLowerCase());
+        if (Objects.nonNull(message)) {
+            report.setString("message", message);
+        }
+
+        ActiveMQDirector.getResultsTopic().send(report);
+    }
 }
@@ -12,17 +12,19 @@
 package org.kitodo.production.services.command;
 
 // base Java
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Properties;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,6 +45,8 @@ import org.kitodo.exceptions.MediaNotFoundException;
 import org.kitodo.exceptions.ProcessGenerationException;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.ResumableTask;
+import org.kitodo.production.helper.tasks.TaskLane;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.ProjectService;
 import org.kitodo.production.services.data.TemplateService;
@@ -50,11 +54,22 @@ import org.xml.sax.SAXException;
 
 
 /**
- * Long-running task importing processes into Production.
+ * Long-running task importing processes into Production. The task can be
+ * resumed after a restart. Initialization and validation are repeated then,
+ * while the steps of copying the processes that had been completed are only
+ * retraced, without accessing the file system or the database.
  */
-public final class ImportProcesses extends EmptyTask {
+public final class ImportProcesses extends EmptyTask implements ResumableTask {
     private static final Logger logger = LogManager.getLogger(ImportProcesses.class);
 
+    // parameter and checkpoint keys
+    private static final String INDIR = "indir";
+    private static final String PROJECT = "project";
+    private static final String TEMPLATE = "template";
+    private static final String ERRORS = "errors";
+    private static final String STEP = "step";
+    private static final String PROCESS_ID_PREFIX = "processId.";
+
     // number of actions required for initialization
     private static final int INIT_ACTIONS_COUNT = 1;
     // number of actions required for validation
@@ -68,6 +83,7 @@ public final class ImportProcesses extends EmptyTask {
     private final boolean strictValidation = ConfigCore.getBooleanParameter(ParameterCore.VALIDATION_FAIL_ON_WARNING);
 
     // data
+    private final Properties parameters = new Properties();
     private final Path importRootPath;
     private final Project project;
     private final Template templateForProcesses;
@@ -85,6 +101,11 @@ public final class ImportProcesses extends EmptyTask {
     private int nextAction = 0;
     private int numberOfRemainingActions = 0;
 
+    // checkpoint
+    private volatile int completedSteps = 0;
+    private final Map<String, Integer> createdProcessIds;
+    private int resumeStep = 0;
+
 
     /**
      * <b>Constructor.</b><!-- --> Creates a {@code ProcessesImport}
@@ -109,6 +130,10 @@ public final class ImportProcesses extends EmptyTask {
      */
     public ImportProcesses(String indir, String project, String template, String errors) throws IOException {
         super(indir);
+        putParameter(INDIR, indir);
+        putParameter(PROJECT, project);
+        putParameter(TEMPLATE, template);
+        putParameter(ERRORS, errors);
         this.importRootPath = checkIndir(indir);
         this.project = checkProject(project);
         this.templateForProcesses = checkTemplate(template);
@@ -120,6 +145,28 @@ public final class ImportProcesses extends EmptyTask {
                         (existing, replacing) -> replacing, TreeMap::new));
         }
         this.numberOfImportingProcesses = importingProcesses.size();
+        this.createdProcessIds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <b>Resume constructor.</b><!-- --> Creates the task again from its
+     * parameters, to continue at the checkpoint.
+     *
+     * @param parameters
+     *            parameters of the task
+     * @param checkpoint
+     *            last checkpoint of the task
+     */
+    public ImportProcesses(Properties parameters, Properties checkpoint) throws IOException {
+        this(parameters.getProperty(INDIR), parameters.getProperty(PROJECT), parameters.getProperty(TEMPLATE),
+                parameters.getProperty(ERRORS));
+        this.resumeStep = Integer.parseInt(checkpoint.getProperty(STEP, "0"));
+        for (String key : checkpoint.stringPropertyNames()) {
+            if (key.startsWith(PROCESS_ID_PREFIX)) {
+                createdProcessIds.put(key.substring(PROCESS_ID_PREFIX.length()),
+                    Integer.valueOf(checkpoint.getProperty(key)));
+            }
+        }
     }
 
     /**
@@ -136,6 +183,10 @@ public final class ImportProcesses extends EmptyTask {
         this.errorPath = source.errorPath;
         this.importingProcesses = source.importingProcesses;
         this.numberOfImportingProcesses = source.numberOfImportingProcesses;
+        this.parameters.putAll(source.parameters);
+        this.completedSteps = source.completedSteps;
+        this.createdProcessIds = source.createdProcessIds;
+        this.resumeStep = source.resumeStep;
 
         this.step = source.step;
         this.totalActions = source.totalActions;
@@ -146,6 +197,34 @@ public final class ImportProcesses extends EmptyTask {
         this.numberOfRemainingActions = source.numberOfRemainingActions;
     }
 
+    private void putParameter(String key, String value) {
+        if (Objects.nonNull(value)) {
+            parameters.setProperty(key, value);
+        }
+    }
+
+    @Override
+    public Properties getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns the number of completed steps and the IDs of the processes
+     * created so far. The number of steps is read first: The IDs are recorded
+     * before the step creating them is counted as completed, so the IDs of
+     * all completed steps are contained.
+     */
+    @Override
+    public Properties getCheckpoint() {
+        Properties checkpoint = new Properties();
+        checkpoint.setProperty(STEP, Integer.toString(completedSteps));
+        for (Entry<String, Integer> createdProcessId : createdProcessIds.entrySet()) {
+            checkpoint.setProperty(PROCESS_ID_PREFIX + createdProcessId.getKey(),
+                createdProcessId.getValue().toString());
+        }
+        return checkpoint;
+    }
+
     /**
      * Checks whether the {@code indir} parameter is specified and valid. If
      * not, a corresponding error message is thrown as an exception. (This is
@@ -228,6 +307,11 @@ public final class ImportProcesses extends EmptyTask {
         }
     }
 
+    @Override
+    public TaskLane getLane() {
+        return TaskLane.IMPORT;
+    }
+
     /**
      * Checks whether the parameter {@code errors} is specified and—if so—is
      * valid. If not, a corresponding error message is thrown as an exception.
@@ -300,15 +384,14 @@ public final class ImportProcesses extends EmptyTask {
         } else if (step <= numberOfImportingProcesses) {
             validate();
         } else {
-            copyFilesAndCreateDatabaseEntry(step, processesPath);
+            copyFilesAndCreateDatabaseEntry(step, processesPath, step < resumeStep);
         }
+        completedSteps = setStep + 1;
     }
 
     private void initialize() throws IOException {
         super.setWorkDetail(importRootPath.toString());
-        ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
-        ruleset.load(new File(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS),
-            templateForProcesses.getRuleset().getFile()).toString()));
+        ruleset = ServiceManager.getRulesetService().openRuleset(templateForProcesses.getRuleset());
         totalActions = importingProcesses.entrySet().parallelStream().map(Entry::getValue)
                 .mapToInt(ImportingProcess::numberOfActions).sum() + INIT_ACTIONS_COUNT;
         importingProcessesIterator = importingProcesses.values().iterator();
@@ -331,9 +414,9 @@ public final class ImportProcesses extends EmptyTask {
         }
     }
 
-    private void copyFilesAndCreateDatabaseEntry(int step, Path processesPath) throws IOException, DAOException,
-            ProcessGenerationException, MediaNotFoundException, InvalidImagesException, SAXException,
-            FileStructureValidationException {
+    private void copyFilesAndCreateDatabaseEntry(int step, Path processesPath, boolean completed)
+            throws IOException, DAOException, ProcessGenerationException, MediaNotFoundException,
+            InvalidImagesException, SAXException, FileStructureValidationException {
         if (nextAction == numberOfRemainingActions && step < totalActions - 1) {
             currentlyImporting = importingProcessesIterator.next();
             currentlyImporting.setProject(project);
@@ -343,7 +426,15 @@ public final class ImportProcesses extends EmptyTask {
             numberOfRemainingActions = currentlyImporting.numberOfActions() - VALIDATION_ACTIONS_COUNT;
         }
         super.setWorkDetail(currentlyImporting.directoryName);
-        currentlyImporting.executeAction(nextAction);
+        if (completed) {
+            currentlyImporting.retraceAction(nextAction, createdProcessIds.get(currentlyImporting.directoryName));
+        } else {
+            currentlyImporting.executeAction(nextAction);
+            Integer processId = currentlyImporting.getProcessId();
+            if (nextAction == 0 && Objects.nonNull(processId)) {
+                createdProcessIds.put(currentlyImporting.directoryName, processId);
+            }
+        }
         nextAction++;
     }
 }
@@ -423,6 +423,36 @@ final class ImportingProcess {
         }
     }
 
+    /**
+     * Retraces a processing step that has already been executed before the
+     * import was interrupted, when the import is resumed. The state of this
+     * object is restored as if the step had been executed, without accessing
+     * the file system or the database.
+     *
+     * @param action
+     *            processing step
+     * @param createdProcessId
+     *            ID of the process created in the database in the first step,
+     *            if the process was correct
+     */
+    void retraceAction(int action, Integer createdProcessId) {
+        if (isCorrect()) {
+            if (action == 0) {
+                processId = Objects.requireNonNull(createdProcessId,
+                    () -> "No process ID recorded for " + this.directoryName);
+            } else if (action == 1) {
+                outputDir = copyToRoot.resolve(processId.toString());
+                filesAndDirectoriesIterator = filesAndDirectories.iterator();
+            } else if (filesAndDirectoriesIterator.hasNext()
+                    && filesAndDirectoriesIterator.next().toString().equals(META_FILE_NAME)
+                    && filesAndDirectoriesIterator.hasNext()) {
+                filesAndDirectoriesIterator.next();
+            }
+        } else if (Objects.nonNull(copyToRoot) && action == 0) {
+            outputDir = copyToRoot.resolve(this.directoryName);
+        }
+    }
+
     /**
      * Performs a processing step on a successfully validated process. First,
      * the process is created in the database to get its ID, which is the name
@@ -602,6 +632,15 @@ final class ImportingProcess {
         }
     }
 
+    /**
+     * Returns the ID of the process created in the database.
+     *
+     * @return the process ID, {@code null} if the process has not been created
+     */
+    Integer getProcessId() {
+        return processId;
+    }
+
     void setProject(Project project) {
         this.project = project;
     }
@@ -19,7 +19,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -42,6 +41,13 @@ import org.primefaces.model.SortOrder;
 public class BeanQuery {
     private static final Pattern EXPLICIT_ID_SEARCH = Pattern.compile("id:(\\d+)");
     private static final Collection<Integer> NO_HIT = Collections.singletonList(0);
+    private static final String INDEX_PARAMETER_NAME = "userFilterIndex";
+
+    /**
+     * Minimum length of a run of consecutive IDs from the index search that is
+     * passed to the database as a range instead of as single IDs.
+     */
+    private static final int MIN_ID_RANGE_LENGTH = 32;
     private static final String JOIN_LAST_TASK = "process.tasks lastTask WITH "
             + "(lastTask.processingBegin IS NOT NULL OR lastTask.processingEnd IS NOT NULL) "
             + "AND (CASE WHEN lastTask.processingBegin IS NOT NULL AND lastTask.processingEnd IS NOT NULL "
@@ -61,10 +67,11 @@ public class BeanQuery {
     private final Collection<String> innerJoins = new ArrayList<>();
     private final Collection<String> leftJoins = new ArrayList<>();
     private final Collection<String> restrictions = new ArrayList<>();
-    private final List<String> restrictionAlternatives = new ArrayList<>();
     private boolean indexFiltersAsAlternatives = false;
     private Pair<String, String> sorting;
-    private final Map<String, Pair<FilterField, String>> indexQueries = new HashMap<>();
+    private final List<Pair<String, String>> indexMatching = new ArrayList<>();
+    private final List<Pair<String, String>> indexNotMatching = new ArrayList<>();
+    private String indexIdField;
     private final Map<String, Object> parameters = new HashMap<>();
 
     /**
@@ -223,15 +230,79 @@ public class BeanQuery {
     }
 
     /**
-     * Searches the index and inserts the IDs into the HQL query parameters.
+     * Searches the index and inserts the IDs into the HQL query parameters. All
+     * index parts of the user filter are combined into one boolean query, so
+     * that the search index is queried only once and only one restriction is
+     * added to the database query.
      */
     public void performIndexSearches() {
-        for (var iterator = indexQueries.entrySet().iterator(); iterator.hasNext();) {
-            Entry<String, Pair<FilterField, String>> entry = iterator.next();
-            Collection<Integer> ids = indexingService.searchIds(Process.class, entry.getValue().getLeft()
-                    .getSearchField(), entry.getValue().getRight());
-            parameters.put(entry.getKey(), ids.isEmpty() ? NO_HIT : ids);
-            iterator.remove();
+        if (Objects.isNull(indexIdField)) {
+            return;
+        }
+        /* The index query is always formed so that it hits the smaller set of
+         * processes. Where the filter consists of exclusions only, the
+         * excluded processes are searched for and then excluded in the
+         * database query. */
+        boolean exclude;
+        int[] ids;
+        if (indexFiltersAsAlternatives) {
+            exclude = !indexNotMatching.isEmpty();
+            ids = exclude ? indexingService.searchIds(Process.class, indexNotMatching, indexMatching, false)
+                    : indexingService.searchIds(Process.class, indexMatching, Collections.emptyList(), true);
+        } else {
+            exclude = indexMatching.isEmpty();
+            ids = exclude ? indexingService.searchIds(Process.class, indexNotMatching, Collections.emptyList(), true)
+                    : indexingService.searchIds(Process.class, indexMatching, indexNotMatching, false);
+        }
+        addIdSetRestriction(varName + '.' + indexIdField, ids, exclude);
+        indexMatching.clear();
+        indexNotMatching.clear();
+        indexIdField = null;
+    }
+
+    /**
+     * Adds a restriction to a sorted set of IDs. Runs of consecutive IDs are
+     * passed as ranges, so that the query stays small even for large hit
+     * sets.
+     */
+    private void addIdSetRestriction(String field, int[] sortedIds, boolean exclude) {
+        if (sortedIds.length == 0) {
+            restrictions.add(field + (exclude ? " NOT IN (:" : " IN (:") + INDEX_PARAMETER_NAME + ')');
+            parameters.put(INDEX_PARAMETER_NAME, NO_HIT);
+            return;
+        }
+        List<Integer> singleIds = new ArrayList<>();
+        List<String> alternatives = new ArrayList<>();
+        int rangeCount = 0;
+        int runStart = 0;
+        for (int i = 1; i <= sortedIds.length; i++) {
+            if (i < sortedIds.length && sortedIds[i] == sortedIds[i - 1] + 1) {
+                continue;
+            }
+            if (i - runStart >= MIN_ID_RANGE_LENGTH) {
+                rangeCount++;
+                String fromParameter = INDEX_PARAMETER_NAME + "From" + rangeCount;
+                String toParameter = INDEX_PARAMETER_NAME + "To" + rangeCount;
+                alternatives.add(field + " BETWEEN :" + fromParameter + " AND :" + toParameter);
+                parameters.put(fromParameter, sortedIds[runStart]);
+                parameters.put(toParameter, sortedIds[i - 1]);
+            } else {
+                for (int j = runStart; j < i; j++) {
+                    singleIds.add(sortedIds[j]);
+                }
+            }
+            runStart = i;
+        }
+        if (!singleIds.isEmpty()) {
+            alternatives.addFirst(field + " IN (:" + INDEX_PARAMETER_NAME + ')');
+            parameters.put(INDEX_PARAMETER_NAME, singleIds);
+        }
+        if (exclude) {
+            restrictions.add(alternatives.stream().collect(Collectors.joining(" OR ", "NOT (", ")")));
+        } else if (alternatives.size() == 1) {
+            restrictions.add(alternatives.getFirst());
+        } else {
+            restrictions.add(alternatives.stream().collect(Collectors.joining(" OR ", "(", ")")));
         }
     }
 
@@ -335,9 +406,8 @@ public class BeanQuery {
                     }
                 } else {
                     IndexQueryPart indexQueryPart = (IndexQueryPart) searchFilter;
-                    indexQueryPart.putQueryParameters(varName, parameterName, (className.equals("Process") ? "id"
-                            : "process.id"), indexQueries, indexFiltersAsAlternatives ? restrictionAlternatives
-                                    : restrictions);
+                    indexIdField = className.equals("Process") ? "id" : "process.id";
+                    indexQueryPart.putQueryParameters(indexMatching, indexNotMatching);
                 }
             }
             if (groupFilters.size() == 1) {
@@ -451,12 +521,6 @@ public class BeanQuery {
         for (String leftJoin : leftJoins) {
             query.append(" LEFT JOIN ").append(leftJoin);
         }
-        if (restrictionAlternatives.size() == 1) {
-            restrictions.add(restrictionAlternatives.getFirst());
-        } else if (restrictionAlternatives.size() > 1) {
-            restrictions.add(restrictionAlternatives.stream().collect(Collectors.joining(" OR ", "(", ")")));
-        }
-        restrictionAlternatives.clear();
         if (!restrictions.isEmpty()) {
             boolean first = true;
             for (String restriction : restrictions) {
@@ -474,7 +538,7 @@ public class BeanQuery {
      *             if index queries still need to be made for parameterization
      */
     public Map<String, Object> getQueryParameters() {
-        if (!indexQueries.isEmpty()) {
+        if (Objects.nonNull(indexIdField)) {
             throw new IllegalStateException("index searches not yet performed");
         }
         return parameters;
@@ -130,10 +130,8 @@ public class ImportService {
     private static final Logger logger = LogManager.getLogger(ImportService.class);
 
     private static volatile ImportService instance = null;
-    private static ExternalDataImportInterface importModule;
     private static final String KITODO_NAMESPACE = "http://meta.kitodo.org/v1/";
 
-    private ProcessGenerator processGenerator;
     private static final String REPLACE_ME = "REPLACE_ME";
     // default value for identifierMetadata if no OPAC specific metadata has been configured in kitodo_opac.xml
     private static final String PARENT_XPATH = "//kitodo:metadata[@name='" + REPLACE_ME + "']";
@@ -203,7 +201,7 @@ public class ImportService {
      */
     public SearchResult performSearch(String searchField, String searchTerm, ImportConfiguration importConfiguration,
                                       int start, int rows) {
-        importModule = initializeImportModule();
+        ExternalDataImportInterface importModule = initializeImportModule();
         searchTerm = getSearchTermWithDelimiter(searchTerm, importConfiguration);
         return importModule.search(createDataImportFromImportConfiguration(importConfiguration), searchField,
                 searchTerm, start, rows);
@@ -426,10 +424,7 @@ public class ImportService {
                                                      int templateID, int projectID)
             throws ProcessGenerationException, IOException, TransformerException {
         Process process = null;
-        // "processGenerator" needs to be initialized when function is called for the first time
-        if (Objects.isNull(processGenerator)) {
-            processGenerator = new ProcessGenerator();
-        }
+        ProcessGenerator processGenerator = new ProcessGenerator();
         if (processGenerator.generateProcess(templateID, projectID)) {
             process = processGenerator.getGeneratedProcess();
             process.setImportConfiguration(importConfiguration);
@@ -578,8 +573,6 @@ public class ImportService {
             throws IOException, ProcessGenerationException, XPathExpressionException, ParserConfigurationException,
             NoRecordFoundException, UnsupportedFormatException, URISyntaxException, SAXException, DAOException,
             TransformerException, InvalidMetadataValueException, NoSuchMetadataFieldException, FileStructureValidationException {
-        importModule = initializeImportModule();
-        processGenerator = new ProcessGenerator();
         LinkedList<TempProcess> processes = new LinkedList<>();
         String parentMetadataKey = "";
         if (parentIdMetadata.isEmpty()) {
@@ -705,7 +698,8 @@ public class ImportService {
         }
     }
 
-    private List<DataRecord> searchChildRecords(ImportConfiguration config, String parentId, int numberOfRows) {
+    private List<DataRecord> searchChildRecords(ExternalDataImportInterface importModule, ImportConfiguration config,
+                                                String parentId, int numberOfRows) {
         SearchField parenIDSearchField = config.getParentSearchField();
         if (Objects.isNull(parenIDSearchField)) {
             throw new ConfigException("Unable to find parent ID search field for catalog '" + config.getTitle() + "'!");
@@ -754,8 +748,8 @@ public class ImportService {
             throws SAXException, UnsupportedFormatException, URISyntaxException, ParserConfigurationException,
             NoRecordFoundException, IOException, ProcessGenerationException, TransformerException,
             InvalidMetadataValueException, NoSuchMetadataFieldException {
-        importModule = initializeImportModule();
-        List<DataRecord> childRecords = searchChildRecords(importConfiguration, elementID, rows);
+        List<DataRecord> childRecords = searchChildRecords(initializeImportModule(), importConfiguration, elementID,
+                rows);
         LinkedList<TempProcess> childProcesses = new LinkedList<>();
         if (!childRecords.isEmpty()) {
             SchemaConverterInterface converter = getSchemaConverter(childRecords.getFirst());
@@ -795,7 +789,7 @@ public class ImportService {
                                                 boolean extractExemplars)
             throws NoRecordFoundException, IOException,
             XPathExpressionException, ParserConfigurationException, SAXException {
-        importModule = initializeImportModule();
+        ExternalDataImportInterface importModule = initializeImportModule();
         DataImport dataImport = createDataImportFromImportConfiguration(importConfiguration);
         DataRecord dataRecord = importModule.getFullRecordById(dataImport,
                 getSearchTermWithDelimiter(identifier, importConfiguration));
@@ -1613,9 +1607,7 @@ public class ImportService {
                                       Map<String, List<String>> presetMetadata, String metadataSeparator)
             throws ProcessGenerationException, IOException, InvalidMetadataValueException, NoSuchMetadataFieldException,
             CommandException, DAOException, SAXException, FileStructureValidationException {
-        if (Objects.isNull(processGenerator)) {
-            processGenerator = new ProcessGenerator();
-        }
+        ProcessGenerator processGenerator = new ProcessGenerator();
         processGenerator.generateProcess(templateId, projectId);
         Process process = processGenerator.getGeneratedProcess();
         RulesetManagementInterface rulesetManagementInterface = ServiceManager.getRulesetService()
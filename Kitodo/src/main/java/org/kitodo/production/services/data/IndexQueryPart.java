@@ -15,7 +15,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.kitodo.data.database.beans.ProcessKeywords;
@@ -26,8 +25,6 @@ import org.kitodo.data.database.beans.ProcessKeywords;
  */
 class IndexQueryPart implements UserSpecifiedFilter {
 
-    private static final String UNIQUE_PARAMETER_EXTENSION = "query";
-
     private static final char VALUE_SEPARATOR = 'q';
     private final List<String> lookfor = new ArrayList<>();
     private final FilterField filterField;
@@ -88,33 +85,18 @@ class IndexQueryPart implements UserSpecifiedFilter {
     }
 
     /**
-     * Inserts the search parameters into the database query logic.
+     * Inserts the search tokens into the combined index query. Tokens whose
+     * search must match are added to the matching clauses, all others to the
+     * clauses that must not match.
      * 
-     * @param varName
-     *            variable name of the HQL search
-     * @param parameterName
-     *            name of the search parameter for the results
-     * @param idField
-     *            field name of the process ID
-     * @param indexQueries
-     *            puts the prepared tokens for the search queries here
-     * @param restrictions
-     *            puts the HQL restrictions here
+     * @param matching
+     *            puts the search field and token of matching clauses here
+     * @param notMatching
+     *            puts the search field and token of excluding clauses here
      */
-    void putQueryParameters(String varName, String parameterName, String idField,
-            Map<String, Pair<FilterField, String>> indexQueries,
-            Collection<String> restrictions) {
-        if (lookfor.size() == 1) {
-            restrictions.add(varName + "." + idField + (operand ? " IN (:" : " NOT IN (:") + parameterName + ')');
-            indexQueries.put(parameterName, Pair.of(filterField, lookfor.getFirst()));
-        } else if (lookfor.size() >= 1) {
-            int queryCount = 0;
-            for (String lookingFor : lookfor) {
-                queryCount++;
-                String uniqueParameterName = parameterName + UNIQUE_PARAMETER_EXTENSION + queryCount;
-                restrictions.add(varName + "." + idField + (operand ? " IN (:" : " NOT IN (:") + uniqueParameterName + ')');
-                indexQueries.put(uniqueParameterName, Pair.of(filterField, lookingFor));
-            }
+    void putQueryParameters(Collection<Pair<String, String>> matching, Collection<Pair<String, String>> notMatching) {
+        for (String lookingFor : lookfor) {
+            (operand ? matching : notMatching).add(Pair.of(filterField.getSearchField(), lookingFor));
         }
     }
 
@@ -25,7 +25,6 @@ import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
@@ -33,7 +32,6 @@ import java.io.OutputStream;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -72,7 +70,6 @@ import jakarta.faces.context.ExternalContext;
 import jakarta.faces.context.FacesContext;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.Level;
@@ -87,7 +84,6 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalDivision;
 import org.kitodo.api.dataformat.LogicalDivision;
-import org.kitodo.api.dataformat.PhysicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.docket.DocketData;
 import org.kitodo.api.docket.DocketInterface;
@@ -101,6 +97,7 @@ import org.kitodo.data.database.beans.Comment;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.ImportConfiguration;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.ProcessKeywords;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.Property;
 import org.kitodo.data.database.beans.Role;
@@ -132,7 +129,7 @@ import org.kitodo.production.metadata.MetadataEditor;
 import org.kitodo.production.metadata.copier.CopierData;
 import org.kitodo.production.metadata.copier.DataCopier;
 import org.kitodo.production.services.ServiceManager;
-import org.kitodo.production.services.dataformat.MetsService;
+import org.kitodo.production.services.dataformat.WorkpieceStatistics;
 import org.kitodo.production.services.file.FileService;
 import org.kitodo.production.services.workflow.WorkflowControllerService;
 import org.kitodo.production.workflow.KitodoNamespaceContext;
@@ -181,8 +178,6 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
     private static final Pattern TYPE_PATTERN = Pattern.compile("structMap TYPE=\"LOGICAL\">.*?TYPE=\"([^\"]+)\"", Pattern.DOTALL);
     private static final boolean USE_ORIG_FOLDER = ConfigCore
             .getBooleanParameterOrDefaultValue(ParameterCore.USE_ORIG_FOLDER);
-    private static final Map<Integer, Collection<String>> RULESET_CACHE_FOR_CREATE_FROM_CALENDAR = new HashMap<>();
-    private static final Map<Integer, Collection<String>> RULESET_CACHE_FOR_CREATE_CHILD_FROM_PARENT = new HashMap<>();
     private static final List<String> BG_COLORS = Arrays
             .asList(ConfigCore.getParameterOrDefaultValue(ParameterCore.ISSUE_COLOURS).split(";"));
 
@@ -212,14 +207,6 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
         return localReference;
     }
 
-    /**
-     * Emptys the cache generated from ruleset, so changes in Ruleset are recognized in new session.
-     */
-    public static void emptyCache() {
-        RULESET_CACHE_FOR_CREATE_CHILD_FROM_PARENT.clear();
-        RULESET_CACHE_FOR_CREATE_FROM_CALENDAR.clear();
-    }
-
     /**
      * Checks if an imported Process should be created with Tasks and removes them if not,
      * depending on the configuration of the doctype.
@@ -328,6 +315,23 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
             }
         }
         super.save(process);
+        ServiceManager.getIndexingService().invalidateSearchResults();
+    }
+
+    @Override
+    public void remove(Process process) throws DAOException {
+        super.remove(process);
+        ProcessKeywords.discardCachedMetadataKeywords(process.getId());
+        ServiceManager.getIndexingService().processRemoved(process.getId());
+        ServiceManager.getIndexingService().invalidateSearchResults();
+    }
+
+    @Override
+    public void remove(Integer id) throws DAOException {
+        super.remove(id);
+        ProcessKeywords.discardCachedMetadataKeywords(id);
+        ServiceManager.getIndexingService().processRemoved(id);
+        ServiceManager.getIndexingService().invalidateSearchResults();
     }
 
     /**
@@ -1125,10 +1129,13 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
         if (!facesContext.getResponseComplete()) {
             // write run note to servlet output stream
             DocketInterface module = initialiseDocketModule();
-
-            File file = module.generateDocket(getDocketData(process), xsltFile);
-            writeToOutputStream(facesContext, file, Helper.getNormalizedTitle(process.getTitle()) + ".pdf");
-            Files.deleteIfExists(file.toPath());
+            DocketData docketData = getDocketData(process);
+            ExternalContext externalContext = prepareHeaderInformation(facesContext,
+                Helper.getNormalizedTitle(process.getTitle()) + ".pdf");
+            try (OutputStream outputStream = externalContext.getResponseOutputStream()) {
+                module.generateDocket(docketData, xsltFile, outputStream);
+            }
+            facesContext.responseComplete();
         }
     }
 
@@ -1147,11 +1154,12 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
             DocketInterface module = initialiseDocketModule();
-            File file = module.generateMultipleDockets(getDocketData(processes),
-                xsltFile);
-
-            writeToOutputStream(facesContext, file, "batch_docket.pdf");
-            Files.deleteIfExists(file.toPath());
+            List<DocketData> docketData = getDocketData(processes);
+            ExternalContext externalContext = prepareHeaderInformation(facesContext, "batch_docket.pdf");
+            try (OutputStream outputStream = externalContext.getResponseOutputStream()) {
+                module.generateMultipleDockets(docketData, xsltFile, outputStream);
+            }
+            facesContext.responseComplete();
         }
     }
 
@@ -1224,29 +1232,6 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
         }
     }
 
-    /**
-     * Good explanation how it should be implemented:
-     * https://stackoverflow.com/a/9394237/2701807.
-     *
-     * @param facesContext
-     *            context
-     * @param file
-     *            temporal file which contains content to save
-     * @param fileName
-     *            name of the new docket file
-     */
-    private void writeToOutputStream(FacesContext facesContext, File file, String fileName) throws IOException {
-        ExternalContext externalContext = prepareHeaderInformation(facesContext, fileName);
-
-        try (OutputStream outputStream = externalContext.getResponseOutputStream();
-                FileInputStream fileInputStream = new FileInputStream(file)) {
-            byte[] bytes = IOUtils.toByteArray(fileInputStream);
-            outputStream.write(bytes);
-            outputStream.flush();
-        }
-        facesContext.responseComplete();
-    }
-
     private ExternalContext prepareHeaderInformation(FacesContext facesContext, String outputFileName) {
         ExternalContext externalContext = facesContext.getExternalContext();
         externalContext.responseReset();
@@ -2096,19 +2081,12 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
      */
     public static boolean canCreateProcessWithCalendar(Process process)
             throws DAOException, IOException {
-        Collection<String> functionalDivisions;
         if (Objects.isNull(process.getRuleset())) {
             return false;
         }
-        Integer rulesetId = process.getRuleset().getId();
-        if (RULESET_CACHE_FOR_CREATE_FROM_CALENDAR.containsKey(rulesetId)) {
-            functionalDivisions = RULESET_CACHE_FOR_CREATE_FROM_CALENDAR.get(rulesetId);
-        } else {
-            Ruleset ruleset = ServiceManager.getRulesetService().getById(rulesetId);
-            functionalDivisions = ServiceManager.getRulesetService().openRuleset(ruleset)
-                    .getFunctionalDivisions(FunctionalDivision.CREATE_CHILDREN_WITH_CALENDAR);
-            RULESET_CACHE_FOR_CREATE_FROM_CALENDAR.put(rulesetId, functionalDivisions);
-        }
+        Ruleset ruleset = ServiceManager.getRulesetService().getById(process.getRuleset().getId());
+        Collection<String> functionalDivisions = ServiceManager.getRulesetService().openRuleset(ruleset)
+                .getFunctionalDivisions(FunctionalDivision.CREATE_CHILDREN_WITH_CALENDAR);
         return functionalDivisions.contains(process.getBaseType());
     }
 
@@ -2122,19 +2100,12 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
      */
     public static boolean canCreateChildProcess(Process process) throws DAOException,
             IOException {
-        Collection<String> functionalDivisions;
         if (Objects.isNull(process.getRuleset())) {
             return false;
         }
-        Integer rulesetId = process.getRuleset().getId();
-        if (RULESET_CACHE_FOR_CREATE_CHILD_FROM_PARENT.containsKey(rulesetId)) {
-            functionalDivisions = RULESET_CACHE_FOR_CREATE_CHILD_FROM_PARENT.get(rulesetId);
-        } else {
-            Ruleset ruleset = ServiceManager.getRulesetService().getById(rulesetId);
-            functionalDivisions = ServiceManager.getRulesetService().openRuleset(ruleset)
-                    .getFunctionalDivisions(FunctionalDivision.CREATE_CHILDREN_FROM_PARENT);
-            RULESET_CACHE_FOR_CREATE_CHILD_FROM_PARENT.put(rulesetId, functionalDivisions);
-        }
+        Ruleset ruleset = ServiceManager.getRulesetService().getById(process.getRuleset().getId());
+        Collection<String> functionalDivisions = ServiceManager.getRulesetService().openRuleset(ruleset)
+                .getFunctionalDivisions(FunctionalDivision.CREATE_CHILDREN_FROM_PARENT);
         String baseType = process.getBaseType();
         if (Objects.isNull(baseType)) {
             baseType = getBaseType(process);
@@ -2477,21 +2448,9 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
         return configuration.getTitle();
     }
 
-    private int getNumberOfImagesForIndex(Workpiece workpiece) {
-        return Math.toIntExact(Workpiece.treeStream(workpiece.getPhysicalStructure())
-                .filter(physicalDivision -> Objects.equals(physicalDivision.getType(), PhysicalDivision.TYPE_PAGE)).count());
-    }
-
-    private int getNumberOfMetadata(Workpiece workpiece) {
-        return Math.toIntExact(MetsService.countLogicalMetadata(workpiece));
-    }
-
-    private int getNumberOfStructures(Workpiece workpiece) {
-        return Math.toIntExact(Workpiece.treeStream(workpiece.getLogicalStructure()).count());
-    }
-
     /**
      * Update amount of referenced files, document structure elements and metadata fields in database.
+     * The metadata file is only parsed if it has changed since it was last read or written.
      * @param process Process to update
      * @param save Save process in method call itself or not.
      * @throws DAOException Thrown if storing of process data in database is not possible
@@ -2504,10 +2463,10 @@ public class ProcessService extends BaseBeanService<Process, ProcessDAO> {
 
         URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
         try {
-            Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri, false);
-            process.setSortHelperImages(getNumberOfImagesForIndex(workpiece));
-            process.setSortHelperDocstructs(getNumberOfStructures(workpiece));
-            process.setSortHelperMetadata(getNumberOfMetadata(workpiece));
+            WorkpieceStatistics statistics = ServiceManager.getMetsService().getWorkpieceStatistics(metadataFileUri);
+            process.setSortHelperImages(statistics.getNumberOfImages());
+            process.setSortHelperDocstructs(statistics.getNumberOfStructures());
+            process.setSortHelperMetadata(statistics.getNumberOfMetadata());
             if (save) {
                 super.save(process);
             }
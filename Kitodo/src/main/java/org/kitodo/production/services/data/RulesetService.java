@@ -11,7 +11,6 @@
 
 package org.kitodo.production.services.data;
 
-import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Paths;
@@ -197,7 +196,9 @@ public class RulesetService extends BaseBeanService<Ruleset, RulesetDAO> {
     }
 
     /**
-     * Acquires a ruleset Management and loads a ruleset into it.
+     * Returns a ruleset management in which a ruleset has been loaded. The
+     * ruleset management is shared and is only loaded again if the ruleset
+     * files have changed. It must not be loaded with another ruleset.
      *
      * @param ruleset
      *            database object that references the ruleset
@@ -205,17 +206,17 @@ public class RulesetService extends BaseBeanService<Ruleset, RulesetDAO> {
      */
     public RulesetManagementInterface openRuleset(Ruleset ruleset) throws IOException {
         final long begin = System.nanoTime();
-        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
-                .getRulesetManagement();
+        RulesetManagementInterface rulesetManagement;
         String fileName = ruleset.getFile();
         try {
-            rulesetManagement.load(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), fileName).toFile());
+            rulesetManagement = ServiceManager.getRulesetManagementService().getRulesetManagement(
+                Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), fileName).toFile());
         } catch (FileNotFoundException | IllegalArgumentException e) {
             throw new RulesetNotFoundException(fileName);
         }
 
         if (logger.isTraceEnabled()) {
-            logger.trace("Reading ruleset took {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+            logger.trace("Opening ruleset took {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
         }
         return rulesetManagement;
     }
@@ -252,12 +253,7 @@ public class RulesetService extends BaseBeanService<Ruleset, RulesetDAO> {
      */
     public static Collection<String> getFunctionalMetadataKeys(Ruleset ruleset, FunctionalMetadata metadata)
             throws IOException {
-        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
-                .getRulesetManagement();
-        String rulesetDir = ConfigCore.getParameter(ParameterCore.DIR_RULESETS);
-        String rulesetPath = Paths.get(rulesetDir, ruleset.getFile()).toString();
-        rulesetManagement.load(new File(rulesetPath));
-        return rulesetManagement.getFunctionalKeys(metadata);
+        return ServiceManager.getRulesetService().openRuleset(ruleset).getFunctionalKeys(metadata);
     }
 
     /**
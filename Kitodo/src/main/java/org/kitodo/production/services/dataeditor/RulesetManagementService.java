@@ -11,15 +11,54 @@
 
 package org.kitodo.production.services.dataeditor;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 
 public class RulesetManagementService {
+    private static final Logger logger = LogManager.getLogger(RulesetManagementService.class);
+
     private static volatile RulesetManagementService instance = null;
     private final KitodoServiceLoader<RulesetManagementInterface> rulesetManagementLoader;
 
+    /**
+     * Loaded ruleset managements by ruleset file.
+     */
+    private final Map<File, LoadedRuleset> loadedRulesets = new ConcurrentHashMap<>();
+
+    /**
+     * A loaded ruleset management and the modification times of the files it
+     * was loaded from.
+     */
+    private static class LoadedRuleset {
+        private final RulesetManagementInterface rulesetManagement;
+        private final Map<File, Long> lastModified = new HashMap<>();
+
+        LoadedRuleset(RulesetManagementInterface rulesetManagement) {
+            this.rulesetManagement = rulesetManagement;
+            for (File file : rulesetManagement.getFiles()) {
+                lastModified.put(file, file.lastModified());
+            }
+        }
+
+        boolean isUpToDate() {
+            for (Map.Entry<File, Long> entry : lastModified.entrySet()) {
+                if (entry.getKey().lastModified() != entry.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     /**
      * Return singleton variable of type MetsService.
      *
@@ -51,4 +90,38 @@ public class RulesetManagementService {
     public RulesetManagementInterface getRulesetManagement() {
         return rulesetManagementLoader.loadModule();
     }
+
+    /**
+     * Returns a ruleset management with the given ruleset file loaded. The
+     * ruleset management is shared by all callers, so it must not be loaded
+     * with another file. It is loaded again if the ruleset file, one of its
+     * included files or one of its namespace files has been modified since,
+     * or if it was invalidated.
+     *
+     * @param rulesetFile
+     *            ruleset file to load
+     * @return a ruleset management with the ruleset loaded
+     * @throws IOException
+     *             if the ruleset cannot be read
+     */
+    public RulesetManagementInterface getRulesetManagement(File rulesetFile) throws IOException {
+        File key = rulesetFile.getAbsoluteFile().toPath().normalize().toFile();
+        LoadedRuleset loadedRuleset = loadedRulesets.get(key);
+        if (Objects.nonNull(loadedRuleset) && loadedRuleset.isUpToDate()) {
+            return loadedRuleset.rulesetManagement;
+        }
+        logger.debug("Loading ruleset {}", key);
+        RulesetManagementInterface rulesetManagement = getRulesetManagement();
+        rulesetManagement.load(key);
+        loadedRulesets.put(key, new LoadedRuleset(rulesetManagement));
+        return rulesetManagement;
+    }
+
+    /**
+     * Discards the loaded ruleset managements, so that the rulesets are read
+     * again when they are next used.
+     */
+    public void invalidateLoadedRulesets() {
+        loadedRulesets.clear();
+    }
 }
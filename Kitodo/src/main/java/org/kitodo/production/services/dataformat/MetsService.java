@@ -13,11 +13,15 @@ package org.kitodo.production.services.dataformat;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.xml.transform.Result;
@@ -26,7 +30,9 @@ import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
+import javax.xml.validation.Schema;
 
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.MetadataEntry;
@@ -34,7 +40,6 @@ import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.MetsXmlElementAccessInterface;
 import org.kitodo.exceptions.FileStructureValidationException;
-import org.kitodo.production.helper.XMLUtils;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 import org.w3c.dom.Document;
@@ -43,9 +48,26 @@ import org.xml.sax.SAXException;
 public class MetsService {
     private static final Logger logger = LogManager.getLogger(MetsService.class);
 
+    /**
+     * Maximum number of metadata files whose statistics are remembered.
+     */
+    private static final int STATISTICS_CACHE_SIZE = 10_000;
+
     private static volatile MetsService instance = null;
     private final MetsXmlElementAccessInterface metsXmlElementAccess;
 
+    /**
+     * Statistics of recently read or written metadata files, together with the
+     * modification time and size of the file at that time.
+     */
+    private final Map<URI, Triple<Long, Long, WorkpieceStatistics>> statisticsCache = new LinkedHashMap<>(16,
+            0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<URI, Triple<Long, Long, WorkpieceStatistics>> eldest) {
+            return size() > STATISTICS_CACHE_SIZE;
+        }
+    };
+
     /**
      * Return singleton variable of type MetsService.
      *
@@ -127,7 +149,8 @@ public class MetsService {
     }
 
     /**
-     * Function for loading METS files from URI.
+     * Function for loading METS files from URI. The file is parsed only once,
+     * the schema validation takes place while parsing.
      *
      * @param uri
      *            address of the file to be loaded
@@ -141,24 +164,20 @@ public class MetsService {
      */
     public Workpiece loadWorkpiece(URI uri, boolean validateAgainstSchema) throws IOException, SAXException,
             FileStructureValidationException {
+        Schema schema = validateAgainstSchema
+                ? ServiceManager.getFileStructureValidationService().getInternalRecordSchema(true)
+                : null;
+        List<String> validationErrors = new ArrayList<>();
+        Workpiece workpiece;
         try (InputStream inputStream = ServiceManager.getFileService().read(uri)) {
             logger.debug("Reading {}", uri.toString());
-            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                inputStream.transferTo(outputStream);
-                try (InputStream xmlValidationStream = new ByteArrayInputStream(outputStream.toByteArray())) {
-                    XMLUtils.checkIfXmlIsWellFormed(new String(xmlValidationStream.readAllBytes(), StandardCharsets.UTF_8));
-                } catch (SAXException e) {
-                    logger.error("Error loading workpiece. Metadata file '{}' contains malformed XML: {}", uri, e.getMessage());
-                    throw e;
-                }
-                if (validateAgainstSchema) {
-                    ServiceManager.getFileStructureValidationService().validateInternalRecord(outputStream.toString(), true, null);
-                }
-                try (InputStream metsDocumentStream = new ByteArrayInputStream(outputStream.toByteArray())) {
-                    return metsXmlElementAccess.read(metsDocumentStream);
-                }
-            }
+            workpiece = metsXmlElementAccess.read(inputStream, schema, validationErrors);
+        } catch (SAXException e) {
+            logger.error("Error loading workpiece. Metadata file '{}' contains malformed XML: {}", uri, e.getMessage());
+            throw e;
         }
+        ServiceManager.getFileStructureValidationService().checkInternalRecordValidationErrors(validationErrors, null);
+        return workpiece;
     }
 
     /**
@@ -197,6 +216,70 @@ public class MetsService {
             logger.debug("Saving {}", uri.toString());
             save(workpiece, outputStream);
         }
+        rememberStatistics(uri, new WorkpieceStatistics(workpiece));
+    }
+
+    /**
+     * Function for writing METS files to URI, which only serializes the
+     * sections of the file that have changed since the workpiece was last
+     * written this way. The written sections are kept with the workpiece, so
+     * this is meant for workpieces that are saved repeatedly while being
+     * edited. (URI target must allow writing operation.)
+     *
+     * @param workpiece
+     *            data to be written
+     * @param uri
+     *            address where should be written
+     * @throws IOException
+     *             if writing does not work (partition full, or is generally not
+     *             supported, ...)
+     */
+    public void saveWorkpieceIncrementally(Workpiece workpiece, URI uri) throws IOException {
+        try (OutputStream outputStream = ServiceManager.getFileService().write(uri)) {
+            logger.debug("Saving {} incrementally", uri);
+            metsXmlElementAccess.saveIncrementally(workpiece, outputStream);
+        }
+        rememberStatistics(uri, new WorkpieceStatistics(workpiece));
+    }
+
+    /**
+     * Returns the statistics of the workpiece in a METS file. The file is only
+     * read if it has been changed since it was last read or written by this
+     * service.
+     *
+     * @param uri
+     *            address of the METS file
+     * @return the statistics of the workpiece
+     * @throws IOException
+     *             if reading is not working (disk broken, ...)
+     * @throws SAXException
+     *             if XML is malformed
+     * @throws FileStructureValidationException
+     *             when validating the metadata file fails
+     */
+    public WorkpieceStatistics getWorkpieceStatistics(URI uri) throws IOException, SAXException,
+            FileStructureValidationException {
+        File file = ServiceManager.getFileService().getFile(uri);
+        long lastModified = file.lastModified();
+        long size = file.length();
+        synchronized (statisticsCache) {
+            Triple<Long, Long, WorkpieceStatistics> cached = statisticsCache.get(uri);
+            if (Objects.nonNull(cached) && cached.getLeft() == lastModified && cached.getMiddle() == size) {
+                return cached.getRight();
+            }
+        }
+        WorkpieceStatistics statistics = new WorkpieceStatistics(loadWorkpiece(uri, false));
+        synchronized (statisticsCache) {
+            statisticsCache.put(uri, Triple.of(lastModified, size, statistics));
+        }
+        return statistics;
+    }
+
+    private void rememberStatistics(URI uri, WorkpieceStatistics statistics) {
+        File file = ServiceManager.getFileService().getFile(uri);
+        synchronized (statisticsCache) {
+            statisticsCache.put(uri, Triple.of(file.lastModified(), file.length(), statistics));
+        }
     }
 
     public void save(Workpiece workpiece, OutputStream outputStream) throws IOException {
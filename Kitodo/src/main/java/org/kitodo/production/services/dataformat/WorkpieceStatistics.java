@@ -0,0 +1,69 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.dataformat;
+
+import java.util.Objects;
+
+import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.api.dataformat.Workpiece;
+
+/**
+ * The number of images, structures and metadata of a workpiece, which are
+ * stored with the process to sort the process list.
+ */
+public class WorkpieceStatistics {
+
+    private final int numberOfImages;
+    private final int numberOfStructures;
+    private final int numberOfMetadata;
+
+    /**
+     * Constructor. Counts the images, structures and metadata of a workpiece.
+     *
+     * @param workpiece
+     *            workpiece to count
+     */
+    public WorkpieceStatistics(Workpiece workpiece) {
+        this.numberOfImages = Math.toIntExact(Workpiece.treeStream(workpiece.getPhysicalStructure())
+                .filter(physicalDivision -> Objects.equals(physicalDivision.getType(), PhysicalDivision.TYPE_PAGE))
+                .count());
+        this.numberOfStructures = Math.toIntExact(Workpiece.treeStream(workpiece.getLogicalStructure()).count());
+        this.numberOfMetadata = MetsService.countLogicalMetadata(workpiece);
+    }
+
+    /**
+     * Returns the number of pages of the workpiece.
+     *
+     * @return the number of images
+     */
+    public int getNumberOfImages() {
+        return numberOfImages;
+    }
+
+    /**
+     * Returns the number of logical divisions of the workpiece.
+     *
+     * @return the number of structures
+     */
+    public int getNumberOfStructures() {
+        return numberOfStructures;
+    }
+
+    /**
+     * Returns the number of non-empty logical metadata of the workpiece.
+     *
+     * @return the number of metadata
+     */
+    public int getNumberOfMetadata() {
+        return numberOfMetadata;
+    }
+}
@@ -20,12 +20,20 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -36,6 +44,9 @@ import javax.imageio.ImageIO;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.imagemanagement.ImageFileFormat;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.config.xml.fileformats.FileFormat;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.production.enums.GenerationMode;
@@ -56,6 +67,12 @@ import org.kitodo.production.thread.TaskScriptThread;
  */
 public class ImageGenerator implements Runnable {
     private static final Logger logger = LogManager.getLogger(ImageGenerator.class);
+
+    /**
+     * Worker pool shared by all image generators.
+     */
+    private static ExecutorService workerPool;
+
     private final FileService fileService = ServiceManager.getFileService();
     private final ImageService imageService = ServiceManager.getImageService();
 
@@ -164,8 +181,20 @@ public class ImageGenerator implements Runnable {
      */
     public void createDerivatives(ContentToBeGenerated instruction) {
         try {
+            Map<URI, Pair<Double, ImageFileFormat>> derivatives = new LinkedHashMap<>();
             for (Subfolder destinationFolder : instruction.getSubfoldersWhoseContentsAreToBeGenerated()) {
-                generateDerivative(instruction.getSourceURI(), destinationFolder, instruction.getCanonical());
+                Optional<Double> optionalDerivative = destinationFolder.getFolder().getDerivative();
+                Optional<ImageFileFormat> optionalImageFileFormat = destinationFolder.getFileFormat()
+                        .getImageFileFormat();
+                if (optionalDerivative.isPresent() && optionalImageFileFormat.isPresent()) {
+                    derivatives.put(destinationFolder.getUri(instruction.getCanonical()),
+                        Pair.of(optionalDerivative.get(), optionalImageFileFormat.get()));
+                } else {
+                    generateDerivative(instruction.getSourceURI(), destinationFolder, instruction.getCanonical());
+                }
+            }
+            if (!derivatives.isEmpty()) {
+                imageService.createDerivatives(instruction.getSourceURI(), derivatives);
             }
         } catch (IOException e) {
             throw new UndeclaredThrowableException(e);
@@ -236,7 +265,10 @@ public class ImageGenerator implements Runnable {
     }
 
     /**
-     * Generates the derivative depending on the declared generator function.
+     * Generates a derivative that is created as a Java image, if the folder
+     * declares such a generator function. Derivatives created by scaling the
+     * source image are created together in
+     * {@link #createDerivatives(ContentToBeGenerated)}.
      *
      * @param sourceImage
      *            source file
@@ -254,23 +286,68 @@ public class ImageGenerator implements Runnable {
         boolean isChangingDpi = imageProperties.getDpi().isPresent();
         boolean isGettingSizedWebImage = imageProperties.getImageSize().isPresent();
 
-        Optional<Double> optionalDerivative = imageProperties.getDerivative();
-        if (optionalDerivative.isPresent() && destinationImage.getFileFormat().getImageFileFormat().isPresent()) {
-            imageService.createDerivative(sourceImage, optionalDerivative.get(), destinationImage.getUri(canonical),
-                destinationImage.getFileFormat().getImageFileFormat().orElseThrow(IllegalStateException::new));
-        } else if (isChangingDpi || isGettingSizedWebImage) {
+        if (isChangingDpi || isGettingSizedWebImage) {
             createImageWithImageIO(sourceImage, imageProperties, destinationImage.getFileFormat(),
                 destinationImage.getUri(canonical));
         }
     }
 
     /**
-     * Returns from contentToBeGenerated the item specified by position.
+     * Generates all images to be generated. The images are generated in
+     * parallel by the worker pool shared by all image generators. The position
+     * counts the images that are done, so that the progress can be reported.
+     */
+    public void generateImages() {
+        CompletionService<ContentToBeGenerated> completionService = new ExecutorCompletionService<>(
+                getWorkerPool());
+        List<Future<ContentToBeGenerated>> futures = new ArrayList<>(contentToBeGenerated.size());
+        for (ContentToBeGenerated instruction : contentToBeGenerated) {
+            futures.add(completionService.submit(() -> {
+                letTheSupervisorDo(emptyTask -> emptyTask.setWorkDetail(
+                    Helper.getTranslation("generateImages", instruction.getCanonical())));
+                logger.info("Generating {}", instruction);
+                createDerivatives(instruction);
+                return instruction;
+            }));
+        }
+        try {
+            position = 0;
+            while (position < futures.size()) {
+                completionService.take().get();
+                position++;
+                setProgress();
+                if (Objects.nonNull(supervisor) && supervisor.isInterrupted()) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                    : new UndeclaredThrowableException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    /**
+     * Returns the worker pool that generates the images. The pool is shared by
+     * all image generators, so that the number of images generated at the
+     * same time is limited for the whole application.
      *
-     * @return the item specified by position
+     * @return the worker pool
      */
-    public ContentToBeGenerated getFromContentToBeGeneratedByPosition() {
-        return contentToBeGenerated.get(position);
+    private static synchronized ExecutorService getWorkerPool() {
+        if (Objects.isNull(workerPool)) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            workerPool = Executors.newFixedThreadPool(ConfigCore.getIntParameterOrDefaultValue(
+                ParameterCore.IMAGE_GENERATION_THREADS), runnable -> {
+                    Thread thread = new Thread(runnable, "ImageGenerator-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        }
+        return workerPool;
     }
 
     /**
@@ -372,8 +449,8 @@ public class ImageGenerator implements Runnable {
             if (Objects.nonNull(supervisor) && supervisor.isInterrupted()) {
                 return;
             }
-        } while (!(state.equals(ImageGeneratorStep.GENERATE_IMAGES)
-                && getPosition() == getContentToBeGenerated().size()));
+        } while (!state.equals(ImageGeneratorStep.GENERATE_IMAGES));
+        state.accept(this);
         logger.info("Completed");
     }
 
@@ -14,8 +14,10 @@ package org.kitodo.production.services.image;
 import java.awt.Image;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Map;
 import java.util.Objects;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.kitodo.api.imagemanagement.ImageFileFormat;
 import org.kitodo.api.imagemanagement.ImageManagementInterface;
 import org.kitodo.serviceloader.KitodoServiceLoader;
@@ -71,6 +73,27 @@ public class ImageService {
         return imageManagement.createDerivative(imageFileUri, percent, resultFileUri, resultFileFormat);
     }
 
+    /**
+     * Creates several derivatives for an image at a given path, decoding the
+     * image only once.
+     *
+     * @param imageFileUri
+     *            the URI to the image
+     * @param derivatives
+     *            the derivatives to create. Key: the URI to save the derivative
+     *            to, value: the percentage of scaling and the format for the
+     *            derivative
+     * @return true, if creation of all derivatives was successful, false
+     *         otherwise
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    boolean createDerivatives(URI imageFileUri, Map<URI, Pair<Double, ImageFileFormat>> derivatives)
+            throws IOException {
+        return imageManagement.createDerivatives(imageFileUri, derivatives);
+    }
+
     /**
      * Changes the size (in pixel) of the image.
      *
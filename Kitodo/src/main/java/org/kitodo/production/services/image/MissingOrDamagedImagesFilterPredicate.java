@@ -25,6 +25,7 @@ import org.kitodo.api.validation.longtermpreservation.LtpValidationConditionSeve
 import org.kitodo.api.validation.longtermpreservation.LtpValidationResult;
 import org.kitodo.api.validation.longtermpreservation.LtpValidationResultState;
 import org.kitodo.production.model.Subfolder;
+import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.validation.LongTermPreservationValidationService;
 
 /**
@@ -99,7 +100,8 @@ public class MissingOrDamagedImagesFilterPredicate implements Predicate<Subfolde
         }
         Optional<FileType> fileType = folder.getFileFormat().getFileType();
         if (fileType.isPresent()) {
-            LongTermPreservationValidationService serviceLoader = new LongTermPreservationValidationService();
+            LongTermPreservationValidationService serviceLoader = ServiceManager
+                    .getLongTermPreservationValidationService();
             LtpValidationCondition condition = new LtpValidationCondition(
                 "valid", 
                 LtpValidationConditionOperation.EQUAL, 
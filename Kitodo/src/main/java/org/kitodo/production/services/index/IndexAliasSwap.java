@@ -0,0 +1,363 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.http.util.EntityUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.RestClient;
+import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
+import org.hibernate.search.backend.elasticsearch.metamodel.ElasticsearchIndexDescriptor;
+import org.hibernate.search.backend.elasticsearch.schema.management.ElasticsearchIndexSchemaExport;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.mapping.SearchMapping;
+import org.kitodo.data.database.persistence.HibernateUtil;
+
+/**
+ * Builds a new search index for a type of objects while the search continues
+ * to use the existing one. The indexes are named by
+ * {@link org.kitodo.data.index.KitodoCustomLayoutStrategy} with a
+ * consecutive number. Hibernate Search reads through the read alias and
+ * writes through the write alias. While the new index is being built, the
+ * write alias points to it, so that changes made in the meantime end up in the
+ * new index. Changed documents are copied over to the old index, so that
+ * the search is not outdated while the new index is built. When the new index
+ * is complete, the read alias is switched over and the old index is deleted.
+ */
+class IndexAliasSwap {
+    private static final Logger logger = LogManager.getLogger(IndexAliasSwap.class);
+    private static final Pattern INDEX_NUMBER = Pattern.compile("(.*)-(\\d{6})");
+    private static final String MODIFICATION_DATE = "modificationDate";
+    private static final String SCROLL_KEEP_ALIVE = "1m";
+
+    /**
+     * Number of documents copied to the old index in one round trip.
+     */
+    private static final int COPY_CHUNK_SIZE = 1000;
+
+    private final Class<?> type;
+    private final String readAlias;
+    private final String writeAlias;
+    private final RestClient restClient;
+
+    /**
+     * Constructor.
+     *
+     * @param type
+     *            type of objects whose index is swapped
+     */
+    IndexAliasSwap(Class<?> type) {
+        this.type = type;
+        SearchMapping searchMapping = Search.mapping(HibernateUtil.getSession().getSessionFactory());
+        ElasticsearchIndexManager indexManager = searchMapping.indexedEntity(type).indexManager().unwrap(
+            ElasticsearchIndexManager.class);
+        ElasticsearchIndexDescriptor descriptor = indexManager.descriptor();
+        this.readAlias = descriptor.readName();
+        this.writeAlias = descriptor.writeName();
+        // do not call close() on restClient as this will terminate the connection to search index
+        this.restClient = indexManager.backend().client(RestClient.class);
+    }
+
+    /**
+     * Returns the index the search currently reads from.
+     *
+     * @return the index name, {@code null} if there is none
+     * @throws IOException
+     *             if the search server cannot be queried
+     */
+    String getReadIndex() throws IOException {
+        return getAliasedIndex(readAlias);
+    }
+
+    /**
+     * Returns the index changes are currently written to.
+     *
+     * @return the index name, {@code null} if there is none
+     * @throws IOException
+     *             if the search server cannot be queried
+     */
+    String getWriteIndex() throws IOException {
+        return getAliasedIndex(writeAlias);
+    }
+
+    /**
+     * Creates a new, empty index with the current mapping and redirects the
+     * write alias to it. The search must already have an index to read from.
+     *
+     * @return the name of the new index
+     * @throws IOException
+     *             if the search server reports an error
+     */
+    String createNextIndex() throws IOException {
+        String readIndex = getReadIndex();
+        String writeIndex = getWriteIndex();
+        String nextIndex = nextIndexName(Objects.nonNull(writeIndex) ? writeIndex : readIndex);
+        Request create = new Request("PUT", "/" + nextIndex);
+        ElasticsearchIndexSchemaExport export = exportSchema();
+        export.parameters().forEach(create::addParameter);
+        JsonObject body = export.bodyParts().getFirst().deepCopy();
+        body.remove("aliases");
+        create.setJsonEntity(body.toString());
+        restClient.performRequest(create);
+
+        JsonArray actions = new JsonArray();
+        if (Objects.nonNull(writeIndex)) {
+            actions.add(aliasAction("remove", writeIndex, writeAlias, null));
+        }
+        actions.add(aliasAction("add", nextIndex, writeAlias, true));
+        updateAliases(actions);
+        if (Objects.nonNull(writeIndex) && !writeIndex.equals(readIndex)) {
+            deleteIndex(writeIndex);
+        }
+        logger.info("Building new index {} for {}", nextIndex, type.getSimpleName());
+        return nextIndex;
+    }
+
+    /**
+     * Makes the new index the one the search reads from and deletes the old
+     * index.
+     *
+     * @param newIndex
+     *            name of the new index
+     * @throws IOException
+     *             if the search server reports an error
+     */
+    void switchReadAlias(String newIndex) throws IOException {
+        String readIndex = getReadIndex();
+        if (newIndex.equals(readIndex)) {
+            return;
+        }
+        JsonArray actions = new JsonArray();
+        if (Objects.nonNull(readIndex)) {
+            actions.add(aliasAction("remove", readIndex, readAlias, null));
+        }
+        actions.add(aliasAction("add", newIndex, readAlias, false));
+        updateAliases(actions);
+        logger.info("Search for {} switched to index {}", type.getSimpleName(), newIndex);
+        if (Objects.nonNull(readIndex)) {
+            deleteIndex(readIndex);
+        }
+    }
+
+    /**
+     * Discards a new index that is being built and writes to the index the
+     * search reads from again.
+     *
+     * @param newIndex
+     *            name of the new index
+     * @throws IOException
+     *             if the search server reports an error
+     */
+    void abandon(String newIndex) throws IOException {
+        String readIndex = getReadIndex();
+        if (Objects.isNull(readIndex) || readIndex.equals(newIndex)) {
+            return;
+        }
+        if (newIndex.equals(getWriteIndex())) {
+            JsonArray actions = new JsonArray();
+            actions.add(aliasAction("remove", newIndex, writeAlias, null));
+            actions.add(aliasAction("add", readIndex, writeAlias, true));
+            updateAliases(actions);
+        }
+        deleteIndex(newIndex);
+    }
+
+    /**
+     * Copies the documents changed since a point in time from the new index to
+     * the index the search reads from. While the new index is being built,
+     * changes are only written to the new index, so this keeps the search up
+     * to date. Documents that do not fit the mapping of the old index are
+     * skipped.
+     *
+     * @param newIndex
+     *            name of the new index
+     * @param since
+     *            time in milliseconds; documents whose modification date is
+     *            not before are copied
+     * @return the number of documents copied
+     * @throws IOException
+     *             if the search server reports an error
+     */
+    int copyChangesToReadIndex(String newIndex, long since) throws IOException {
+        String readIndex = getReadIndex();
+        if (Objects.isNull(readIndex) || readIndex.equals(newIndex)) {
+            return 0;
+        }
+        restClient.performRequest(new Request("POST", "/" + newIndex + "/_refresh"));
+        JsonObject modificationDate = new JsonObject();
+        modificationDate.addProperty("gte", since);
+        modificationDate.addProperty("format", "epoch_millis");
+        JsonObject range = new JsonObject();
+        range.add(MODIFICATION_DATE, modificationDate);
+        JsonObject query = new JsonObject();
+        query.add("range", range);
+        JsonObject body = new JsonObject();
+        body.addProperty("size", COPY_CHUNK_SIZE);
+        body.add("query", query);
+        Request search = new Request("POST", "/" + newIndex + "/_search");
+        search.addParameter("scroll", SCROLL_KEEP_ALIVE);
+        search.setJsonEntity(body.toString());
+        JsonObject result = performJsonRequest(search);
+        int copied = 0;
+        try {
+            for (JsonArray hits = getHits(result); !hits.isEmpty(); hits = getHits(result)) {
+                copied += bulkIndex(readIndex, hits);
+                JsonObject next = new JsonObject();
+                next.addProperty("scroll", SCROLL_KEEP_ALIVE);
+                next.addProperty("scroll_id", result.get("_scroll_id").getAsString());
+                Request scroll = new Request("POST", "/_search/scroll");
+                scroll.setJsonEntity(next.toString());
+                result = performJsonRequest(scroll);
+            }
+        } finally {
+            JsonObject clear = new JsonObject();
+            clear.addProperty("scroll_id", result.get("_scroll_id").getAsString());
+            Request clearScroll = new Request("DELETE", "/_search/scroll");
+            clearScroll.setJsonEntity(clear.toString());
+            restClient.performRequest(clearScroll);
+        }
+        return copied;
+    }
+
+    /**
+     * Removes a document from the index the search reads from, if a new index
+     * is being built. Deletions are only written to the new index, so
+     * otherwise the search would still find the object until the indexes are
+     * swapped.
+     *
+     * @param id
+     *            ID of the document
+     * @throws IOException
+     *             if the search server reports an error
+     */
+    void removeFromReadIndex(Object id) throws IOException {
+        String readIndex = getReadIndex();
+        if (Objects.isNull(readIndex) || readIndex.equals(getWriteIndex())) {
+            return;
+        }
+        try {
+            restClient.performRequest(new Request("DELETE", "/" + readIndex + "/_doc/" + id));
+        } catch (ResponseException e) {
+            if (e.getResponse().getStatusLine().getStatusCode() != 404) {
+                throw e;
+            }
+        }
+    }
+
+    private int bulkIndex(String index, JsonArray hits) throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (JsonElement hit : hits) {
+            JsonObject target = new JsonObject();
+            target.addProperty("_index", index);
+            target.addProperty("_id", hit.getAsJsonObject().get("_id").getAsString());
+            JsonObject action = new JsonObject();
+            action.add("index", target);
+            body.append(action).append('\n').append(hit.getAsJsonObject().get("_source")).append('\n');
+        }
+        Request bulk = new Request("POST", "/_bulk");
+        bulk.setJsonEntity(body.toString());
+        JsonObject result = performJsonRequest(bulk);
+        int failed = 0;
+        if (result.get("errors").getAsBoolean()) {
+            for (JsonElement item : result.getAsJsonArray("items")) {
+                JsonObject outcome = item.getAsJsonObject().getAsJsonObject("index");
+                if (outcome.has("error")) {
+                    failed++;
+                    logger.warn("Could not copy document {} to index {}: {}", outcome.get("_id"), index, outcome
+                            .get("error"));
+                }
+            }
+        }
+        return hits.size() - failed;
+    }
+
+    private static JsonArray getHits(JsonObject searchResult) {
+        return searchResult.getAsJsonObject("hits").getAsJsonArray("hits");
+    }
+
+    private JsonObject performJsonRequest(Request request) throws IOException {
+        Response response = restClient.performRequest(request);
+        return JsonParser.parseString(EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8))
+                .getAsJsonObject();
+    }
+
+    private ElasticsearchIndexSchemaExport exportSchema() {
+        List<ElasticsearchIndexSchemaExport> exports = new ArrayList<>(1);
+        Search.mapping(HibernateUtil.getSession().getSessionFactory()).scope(type).schemaManager()
+                .exportExpectedSchema((backendName, indexName, export) -> exports.add(
+                    (ElasticsearchIndexSchemaExport) export));
+        return exports.getFirst();
+    }
+
+    private String getAliasedIndex(String alias) throws IOException {
+        try {
+            Response response = restClient.performRequest(new Request("GET", "/_alias/" + alias));
+            JsonObject indexes = JsonParser.parseString(EntityUtils.toString(response.getEntity(),
+                StandardCharsets.UTF_8)).getAsJsonObject();
+            return indexes.keySet().stream().findFirst().orElse(null);
+        } catch (ResponseException e) {
+            if (e.getResponse().getStatusLine().getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private static String nextIndexName(String indexName) {
+        Matcher matcher = INDEX_NUMBER.matcher(Objects.toString(indexName, ""));
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Unrecognized index name: " + indexName);
+        }
+        return String.format("%s-%06d", matcher.group(1), Integer.parseInt(matcher.group(2)) % 999_999 + 1);
+    }
+
+    private static JsonElement aliasAction(String action, String index, String alias, Boolean isWriteIndex) {
+        JsonObject parameters = new JsonObject();
+        parameters.addProperty("index", index);
+        parameters.addProperty("alias", alias);
+        if (Objects.nonNull(isWriteIndex)) {
+            parameters.addProperty("is_write_index", isWriteIndex);
+        }
+        JsonObject element = new JsonObject();
+        element.add(action, parameters);
+        return element;
+    }
+
+    private void updateAliases(JsonArray actions) throws IOException {
+        JsonObject body = new JsonObject();
+        body.add("actions", actions);
+        Request request = new Request("POST", "/_aliases");
+        request.setJsonEntity(body.toString());
+        restClient.performRequest(request);
+    }
+
+    private void deleteIndex(String index) throws IOException {
+        restClient.performRequest(new Request("DELETE", "/" + index));
+        logger.info("Deleted index {}", index);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.Session;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.data.RangeBoundInclusion;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.persistence.HibernateUtil;
+
+/**
+ * Compares the processes in the database with the documents in the search
+ * index. The processes are divided into ranges of IDs. For each range, the
+ * number of processes and a checksum over their IDs and modification dates is
+ * calculated on both sides. The database and the index are read in parallel.
+ * Ranges where the two differ contain processes that are missing in the index,
+ * that are outdated there, or that have been deleted from the database.
+ *
+ * <p>
+ * Processes may be saved or deleted while the check runs, and their index
+ * documents are updated shortly after. Ranges containing a process modified
+ * after the check started are therefore skipped, and the ranges found to
+ * differ are checked once more before they are reported.
+ */
+class IndexConsistencyCheck {
+    private static final Logger logger = LogManager.getLogger(IndexConsistencyCheck.class);
+
+    /**
+     * Number of rows or hits fetched per round trip.
+     */
+    private static final int FETCH_SIZE = 10_000;
+
+    private final int rangeSize;
+
+    /**
+     * Constructor.
+     *
+     * @param rangeSize
+     *            number of IDs checked as one range
+     */
+    IndexConsistencyCheck(int rangeSize) {
+        this.rangeSize = rangeSize;
+    }
+
+    /**
+     * Performs the check.
+     *
+     * @return the ranges of IDs where the index differs from the database, as
+     *         pairs of first and last ID. Adjacent ranges are merged.
+     */
+    List<Pair<Integer, Integer>> findDriftedRanges() {
+        long begin = System.nanoTime();
+        // the database stores the modification date in seconds
+        long started = TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+        List<Pair<Integer, Integer>> driftedRanges = new ArrayList<>();
+        int checked = 0;
+        for (Pair<Integer, Integer> candidate : compare(Integer.MIN_VALUE, Integer.MAX_VALUE, started)) {
+            checked++;
+            driftedRanges.addAll(compare(candidate.getKey() - 1, candidate.getValue(), started));
+        }
+        logger.info("Index consistency check took {} ms, drifted: {}, rechecked: {}", TimeUnit.NANOSECONDS
+                .toMillis(System.nanoTime() - begin), driftedRanges, checked);
+        return driftedRanges;
+    }
+
+    /**
+     * Compares the processes with IDs in the given bounds.
+     *
+     * @param after
+     *            the IDs compared are greater than this
+     * @param upTo
+     *            the IDs compared are not greater than this
+     * @param started
+     *            time the check started, in milliseconds
+     * @return the ranges of IDs where the index differs from the database, as
+     *         pairs of first and last ID. Adjacent ranges are merged.
+     */
+    private List<Pair<Integer, Integer>> compare(int after, int upTo, long started) {
+        CompletableFuture<Map<Integer, Checksum>> database = CompletableFuture.supplyAsync(() -> checksumDatabase(
+            after, upTo));
+        CompletableFuture<Map<Integer, Checksum>> index = CompletableFuture.supplyAsync(() -> checksumIndex(after,
+            upTo));
+        Map<Integer, Checksum> databaseChecksums = database.join();
+        Map<Integer, Checksum> indexChecksums = index.join();
+
+        TreeSet<Integer> ranges = new TreeSet<>(databaseChecksums.keySet());
+        ranges.addAll(indexChecksums.keySet());
+        List<Pair<Integer, Integer>> driftedRanges = new ArrayList<>();
+        for (int range : ranges) {
+            Checksum databaseChecksum = databaseChecksums.get(range);
+            Checksum indexChecksum = indexChecksums.get(range);
+            if (Objects.equals(databaseChecksum, indexChecksum) || isModifiedSince(databaseChecksum, started)
+                    || isModifiedSince(indexChecksum, started)) {
+                continue;
+            }
+            int first = range * rangeSize;
+            int last = first + rangeSize - 1;
+            int lastIndex = driftedRanges.size() - 1;
+            if (lastIndex >= 0 && driftedRanges.get(lastIndex).getValue() == first - 1) {
+                driftedRanges.set(lastIndex, Pair.of(driftedRanges.get(lastIndex).getKey(), last));
+            } else {
+                driftedRanges.add(Pair.of(first, last));
+            }
+        }
+        return driftedRanges;
+    }
+
+    private static boolean isModifiedSince(Checksum checksum, long time) {
+        return Objects.nonNull(checksum) && checksum.latest >= time;
+    }
+
+    private Map<Integer, Checksum> checksumDatabase(int after, int upTo) {
+        Map<Integer, Checksum> checksums = new HashMap<>();
+        try (Session session = HibernateUtil.getSession()) {
+            int lastId = after;
+            List<Object[]> rows;
+            do {
+                rows = session.createQuery("SELECT id, modificationDate FROM Process WHERE id > :lastId"
+                        + " AND id <= :upTo ORDER BY id", Object[].class).setParameter("lastId", lastId)
+                        .setParameter("upTo", upTo).setMaxResults(FETCH_SIZE).list();
+                for (Object[] row : rows) {
+                    lastId = (Integer) row[0];
+                    add(checksums, lastId, (Date) row[1]);
+                }
+                session.clear();
+            } while (rows.size() == FETCH_SIZE);
+        }
+        return checksums;
+    }
+
+    private Map<Integer, Checksum> checksumIndex(int after, int upTo) {
+        Map<Integer, Checksum> checksums = new HashMap<>();
+        try (Session session = HibernateUtil.getSession();
+                SearchScroll<Pair<Integer, Date>> scroll = Search.session(session).search(Process.class)
+                        .select(function -> function.composite().from(function.field("id", Integer.class),
+                            function.field("modificationDate", Date.class)).as(Pair::of))
+                        .where(function -> function.range().field("id").range(Range.between(after,
+                            RangeBoundInclusion.EXCLUDED, upTo, RangeBoundInclusion.INCLUDED)))
+                        .scroll(FETCH_SIZE)) {
+            for (SearchScrollResult<Pair<Integer, Date>> chunk = scroll.next(); chunk.hasHits(); chunk = scroll
+                    .next()) {
+                for (Pair<Integer, Date> hit : chunk.hits()) {
+                    add(checksums, hit.getKey(), hit.getValue());
+                }
+            }
+        }
+        return checksums;
+    }
+
+    private void add(Map<Integer, Checksum> checksums, int id, Date modificationDate) {
+        checksums.computeIfAbsent(Math.floorDiv(id, rangeSize), range -> new Checksum()).add(id, modificationDate);
+    }
+
+    /**
+     * Order-independent checksum over the processes of a range.
+     */
+    private static class Checksum {
+        private int count;
+        private long hash;
+        private long latest = Long.MIN_VALUE;
+
+        void add(int id, Date modificationDate) {
+            long seconds = Objects.isNull(modificationDate) ? 0
+                    : TimeUnit.MILLISECONDS.toSeconds(modificationDate.getTime());
+            long mixed = id * 0x9E3779B97F4A7C15L ^ seconds;
+            mixed = (mixed ^ (mixed >>> 33)) * 0xFF51AFD7ED558CCDL;
+            mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            count++;
+            hash += mixed ^ (mixed >>> 33);
+            if (Objects.nonNull(modificationDate)) {
+                latest = Math.max(latest, modificationDate.getTime());
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Checksum)) {
+                return false;
+            }
+            Checksum checksum = (Checksum) other;
+            return count == checksum.count && hash == checksum.hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, hash);
+        }
+    }
+}
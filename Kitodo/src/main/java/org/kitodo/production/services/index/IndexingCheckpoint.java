@@ -0,0 +1,189 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+
+/**
+ * Records the progress of indexing one type of objects in the temp directory.
+ * While indexing is running, the time it was started, the highest ID up to
+ * which all objects have been indexed and the index being built are recorded.
+ * If indexing is interrupted, it can be continued from there. After indexing
+ * has finished, the time it was started is kept, so that a later incremental
+ * indexing knows which changes are missing in the index.
+ */
+class IndexingCheckpoint {
+    private static final String SUBDIRECTORY = "indexing";
+    private static final String STARTED = "started";
+    private static final String INDEXED_UP_TO_ID = "indexedUpToId";
+    private static final String TARGET_INDEX = "targetIndex";
+    private static final String LAST_COMPLETED = "lastCompleted";
+
+    private final Path file;
+    private final Properties properties = new Properties();
+
+    private IndexingCheckpoint(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the checkpoint for a type of objects.
+     *
+     * @param type
+     *            type of objects being indexed
+     * @return the checkpoint, which is empty if none was recorded
+     * @throws IOException
+     *             if the checkpoint file cannot be read
+     */
+    static IndexingCheckpoint load(Class<?> type) throws IOException {
+        Path file = Paths.get(ConfigCore.getParameterOrDefaultValue(ParameterCore.DIR_TEMP), SUBDIRECTORY, type
+                .getSimpleName() + ".properties");
+        IndexingCheckpoint checkpoint = new IndexingCheckpoint(file);
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                checkpoint.properties.load(in);
+            }
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Returns whether an indexing was started and has not been finished.
+     *
+     * @return whether indexing can be resumed
+     */
+    boolean isUnfinished() {
+        return properties.containsKey(STARTED);
+    }
+
+    /**
+     * Returns the ID up to which all objects have been indexed by the
+     * unfinished indexing.
+     *
+     * @return the ID up to which all objects have been indexed
+     */
+    int getIndexedUpToId() {
+        return Integer.parseInt(properties.getProperty(INDEXED_UP_TO_ID, "0"));
+    }
+
+    /**
+     * Returns the time the unfinished indexing was started.
+     *
+     * @return the time in milliseconds
+     */
+    long getStarted() {
+        return Long.parseLong(properties.getProperty(STARTED));
+    }
+
+    /**
+     * Returns the name of the index being built by the unfinished indexing.
+     *
+     * @return the index name, {@code null} if the index is built in place
+     */
+    String getTargetIndex() {
+        return properties.getProperty(TARGET_INDEX);
+    }
+
+    /**
+     * Returns the time the last finished indexing was started. All changes
+     * made before that time are contained in the index.
+     *
+     * @return the time in milliseconds, {@code null} if there was no finished
+     *         indexing yet
+     */
+    Long getLastCompleted() {
+        String lastCompleted = properties.getProperty(LAST_COMPLETED);
+        return Objects.isNull(lastCompleted) ? null : Long.valueOf(lastCompleted);
+    }
+
+    /**
+     * Records that an indexing has been started.
+     *
+     * @param started
+     *            time the indexing was started
+     * @param targetIndex
+     *            name of the index being built, {@code null} if the index is
+     *            built in place
+     * @throws IOException
+     *             if the checkpoint file cannot be written
+     */
+    void begin(long started, String targetIndex) throws IOException {
+        properties.setProperty(STARTED, Long.toString(started));
+        properties.setProperty(INDEXED_UP_TO_ID, "0");
+        if (Objects.nonNull(targetIndex)) {
+            properties.setProperty(TARGET_INDEX, targetIndex);
+        } else {
+            properties.remove(TARGET_INDEX);
+        }
+        save();
+    }
+
+    /**
+     * Records that all objects up to the given ID have been indexed.
+     *
+     * @param id
+     *            ID up to which all objects have been indexed
+     * @throws IOException
+     *             if the checkpoint file cannot be written
+     */
+    void indexedUpTo(int id) throws IOException {
+        properties.setProperty(INDEXED_UP_TO_ID, Integer.toString(id));
+        save();
+    }
+
+    /**
+     * Records that the indexing has been finished.
+     *
+     * @throws IOException
+     *             if the checkpoint file cannot be written
+     */
+    void finish() throws IOException {
+        completed(getStarted());
+    }
+
+    /**
+     * Records that all changes before the given time are contained in the
+     * index, and discards any unfinished indexing.
+     *
+     * @param started
+     *            time the indexing was started
+     * @throws IOException
+     *             if the checkpoint file cannot be written
+     */
+    void completed(long started) throws IOException {
+        properties.remove(STARTED);
+        properties.remove(INDEXED_UP_TO_ID);
+        properties.remove(TARGET_INDEX);
+        properties.setProperty(LAST_COMPLETED, Long.toString(started));
+        save();
+    }
+
+    private void save() throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), null);
+        try (OutputStream out = Files.newOutputStream(temporaryFile)) {
+            properties.store(out, null);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -11,20 +11,48 @@
 
 package org.kitodo.production.services.index;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hibernate.Session;
-import org.hibernate.exception.DataException;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
 import org.hibernate.search.engine.search.projection.SearchProjection;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexerReindexParameterStep;
 import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.exceptions.DAOException;
@@ -39,6 +67,56 @@ public class IndexingService {
 
     private static volatile IndexingService instance = null;
 
+    /**
+     * Number of hits fetched from the search index per round trip.
+     */
+    private static final int SCROLL_CHUNK_SIZE = 10_000;
+
+    /**
+     * Maximum number of IDs in one query when reindexing processes whose
+     * metadata file has changed.
+     */
+    private static final int ID_LIST_SIZE = 1000;
+
+    private static final String STRATEGY_SWAP = "swap";
+
+    /**
+     * Seconds between copying changed processes to the index in use while a
+     * new index is built.
+     */
+    private static final long MIRROR_INTERVAL_SECONDS = 5;
+
+    /**
+     * Each copy also takes the changes of the last seconds before the
+     * previous copy, as the database may store the time without milliseconds
+     * and changes may reach the index late.
+     */
+    private static final long MIRROR_OVERLAP_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final SearchResultCache searchResultCache = new SearchResultCache(ConfigCore
+            .getIntParameterOrDefaultValue(ParameterCore.SEARCHINDEX_RESULT_CACHE_SIZE), TimeUnit.SECONDS.toMillis(
+                ConfigCore.getLongParameterOrDefaultValue(ParameterCore.SEARCHINDEX_RESULT_CACHE_SECONDS)));
+
+    private volatile Pair<Long, List<Pair<Integer, Integer>>> consistencyCheckResult;
+
+    /**
+     * The consistency check currently running, if any. There is at most one
+     * at a time; callers asking for a check while one is running get its
+     * result.
+     */
+    private CompletableFuture<List<Pair<Integer, Integer>>> runningConsistencyCheck;
+
+    /**
+     * Counts changes to the index, so that the result of a consistency check
+     * that overlapped a change is not kept.
+     */
+    private final AtomicLong indexGeneration = new AtomicLong();
+
+    /**
+     * The alias swap of the process index while a new index is built.
+     */
+    private volatile IndexAliasSwap processIndexSwap;
+
     String serverInformation;
     long serverLastCheck;
     long serverCheckThreadId;
@@ -104,7 +182,10 @@ public class IndexingService {
     }
 
     /**
-     * Starts indexing for a bean type.
+     * Starts indexing for a bean type. Depending on the configured strategy,
+     * the index is either dropped and rebuilt, or a new index is built in the
+     * background and replaces the old one when it is complete. The progress is
+     * recorded, and if an indexing was interrupted, it is resumed.
      * 
      * @param type
      *            class of beans to be indexed
@@ -114,53 +195,431 @@ public class IndexingService {
      *         ends (including to exceptions)
      */
     public CompletionStage<?> startIndexing(Class<? extends BaseBean> type, MassIndexingMonitor monitor) {
+        invalidateSearchResults();
+        return runAsync("Indexing " + type.getSimpleName(), () -> indexAll(type, monitor));
+    }
+
+    /**
+     * Starts indexing the processes that have been changed in the database or
+     * whose metadata file has been changed since the last indexing of
+     * processes was started. If there was no complete indexing of processes
+     * yet, or if it was interrupted, all processes are indexed.
+     * 
+     * @param monitor
+     *            object to be notified of progress changes
+     * @return a CompletionStage that can react asynchronously when the indexing
+     *         ends (including to exceptions)
+     */
+    public CompletionStage<?> startIncrementalIndexing(MassIndexingMonitor monitor) {
+        invalidateSearchResults();
+        return runAsync("Incremental indexing", () -> indexChangedProcesses(monitor));
+    }
+
+    private static CompletionStage<?> runAsync(String threadName, IndexingRun indexingRun) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                indexingRun.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, runnable -> new Thread(runnable, threadName).start());
+    }
+
+    private void indexAll(Class<? extends BaseBean> type, MassIndexingMonitor monitor) throws IOException,
+            InterruptedException {
+        IndexingCheckpoint checkpoint = IndexingCheckpoint.load(type);
+        IndexAliasSwap aliasSwap = new IndexAliasSwap(type);
+        boolean swap = STRATEGY_SWAP.equals(ConfigCore.getParameterOrDefaultValue(
+            ParameterCore.SEARCHINDEX_INDEXING_STRATEGY)) && Objects.nonNull(aliasSwap.getReadIndex());
+        String targetIndex = checkpoint.getTargetIndex();
+        boolean resume = checkpoint.isUnfinished() && (swap ? Objects.nonNull(targetIndex) && targetIndex.equals(
+            aliasSwap.getWriteIndex()) : Objects.isNull(targetIndex));
+        if (resume) {
+            logger.info("Resuming indexing of {} after ID {}", type.getSimpleName(), checkpoint.getIndexedUpToId());
+        } else {
+            if (Objects.nonNull(targetIndex)) {
+                aliasSwap.abandon(targetIndex);
+            }
+            if (swap) {
+                targetIndex = aliasSwap.createNextIndex();
+            } else {
+                targetIndex = null;
+                Search.mapping(HibernateUtil.getSession().getSessionFactory()).scope(type).schemaManager()
+                        .dropAndCreate();
+            }
+            checkpoint.begin(System.currentTimeMillis(), targetIndex);
+        }
+        ScheduledExecutorService mirror = swap && Process.class.equals(type) ? startMirroring(aliasSwap, targetIndex,
+            checkpoint.getStarted()) : null;
+        try {
+            indexSections(type, monitor, checkpoint);
+        } finally {
+            stopMirroring(mirror);
+        }
+        if (swap) {
+            aliasSwap.switchReadAlias(targetIndex);
+        }
+        checkpoint.finish();
+        forgetConsistencyCheck();
+        invalidateSearchResults();
+    }
+
+    private static void indexSections(Class<? extends BaseBean> type, MassIndexingMonitor monitor,
+            IndexingCheckpoint checkpoint) throws IOException, InterruptedException {
+        int sectionSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.SEARCHINDEX_INDEXING_SECTION_SIZE);
+        int maxId = getMaxId(type);
+        for (int from = checkpoint.getIndexedUpToId(); from < maxId;) {
+            int to = sectionSize > 0 ? (int) Math.min((long) from + sectionSize, maxId) : maxId;
+            massIndex(type, monitor, "e.id > :from and e.id <= :to", Map.of("from", from, "to", to));
+            checkpoint.indexedUpTo(to);
+            from = to;
+        }
+    }
+
+    /**
+     * Starts copying the processes changed while a new index is built to the
+     * index the search reads from, and removing deleted processes from it.
+     * Without this, the search would not see changes until the indexes are
+     * swapped.
+     */
+    private ScheduledExecutorService startMirroring(IndexAliasSwap aliasSwap, String newIndex, long started) {
+        processIndexSwap = aliasSwap;
+        ScheduledExecutorService mirror = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Index mirror");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicLong copiedUntil = new AtomicLong(started);
+        mirror.scheduleWithFixedDelay(() -> {
+            long copyStarted = System.currentTimeMillis();
+            try {
+                int copied = aliasSwap.copyChangesToReadIndex(newIndex, copiedUntil.get() - MIRROR_OVERLAP_MILLIS);
+                copiedUntil.set(copyStarted);
+                if (copied > 0) {
+                    logger.debug("Copied {} changed processes to the index in use", copied);
+                    invalidateSearchResults();
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not copy changed processes to the index in use", e);
+            }
+        }, 0, MIRROR_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        return mirror;
+    }
+
+    private void stopMirroring(ScheduledExecutorService mirror) throws InterruptedException {
+        if (Objects.isNull(mirror)) {
+            return;
+        }
+        processIndexSwap = null;
+        mirror.shutdown();
+        mirror.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Removes a deleted process from the index the search reads from, while
+     * a new index is being built. Otherwise, Hibernate Search removes it.
+     *
+     * @param id
+     *            ID of the deleted process
+     */
+    public void processRemoved(Integer id) {
+        IndexAliasSwap aliasSwap = processIndexSwap;
+        if (Objects.isNull(aliasSwap) || Objects.isNull(id)) {
+            return;
+        }
+        try {
+            aliasSwap.removeFromReadIndex(id);
+        } catch (IOException e) {
+            logger.warn("Could not remove process {} from the index in use", id, e);
+        }
+    }
+
+    private void indexChangedProcesses(MassIndexingMonitor monitor) throws IOException, InterruptedException {
+        IndexingCheckpoint checkpoint = IndexingCheckpoint.load(Process.class);
+        Long lastCompleted = checkpoint.getLastCompleted();
+        if (checkpoint.isUnfinished() || Objects.isNull(lastCompleted)) {
+            indexAll(Process.class, monitor);
+            return;
+        }
+        long started = System.currentTimeMillis();
+        // the database may store the time without milliseconds
+        Date since = new Date(lastCompleted - TimeUnit.SECONDS.toMillis(1));
+        massIndex(Process.class, monitor, "e.modificationDate >= :since", Map.of("since", since));
+        List<Integer> changedMetadataFiles = getProcessesWithChangedMetadataFile(since.getTime());
+        for (int i = 0; i < changedMetadataFiles.size(); i += ID_LIST_SIZE) {
+            List<Integer> ids = changedMetadataFiles.subList(i, Math.min(i + ID_LIST_SIZE,
+                changedMetadataFiles.size()));
+            massIndex(Process.class, monitor, "e.id in (:ids)", Map.of("ids", ids));
+        }
+        checkpoint.completed(started);
+        logger.info("Incremental indexing complete, {} changed metadata files", changedMetadataFiles.size());
+        forgetConsistencyCheck();
+        invalidateSearchResults();
+    }
+
+    private static List<Integer> getProcessesWithChangedMetadataFile(long since) throws IOException {
+        List<Integer> processIds = new ArrayList<>();
+        try (DirectoryStream<Path> processDirectories = Files.newDirectoryStream(Paths.get(ConfigCore
+                .getKitodoDataDirectory()))) {
+            for (Path processDirectory : processDirectories) {
+                String directoryName = processDirectory.getFileName().toString();
+                if (!StringUtils.isNumeric(directoryName)) {
+                    continue;
+                }
+                File metadataFile = processDirectory.resolve("meta.xml").toFile();
+                if (metadataFile.lastModified() >= since) {
+                    processIds.add(Integer.valueOf(directoryName));
+                }
+            }
+        }
+        return processIds;
+    }
+
+    private static int getMaxId(Class<? extends BaseBean> type) {
+        try (Session ormSession = HibernateUtil.getSession()) {
+            Integer maxId = ormSession.createQuery("SELECT MAX(id) FROM " + type.getSimpleName(), Integer.class)
+                    .uniqueResult();
+            return Objects.nonNull(maxId) ? maxId : 0;
+        }
+    }
+
+    private static void massIndex(Class<? extends BaseBean> type, MassIndexingMonitor monitor, String condition,
+            Map<String, Object> parameters) throws InterruptedException {
         try (Session ormSession = HibernateUtil.getSession()) {
             MassIndexer massIndexer = Search.session(ormSession).massIndexer(type);
-            massIndexer.dropAndCreateSchemaOnStart(true);
+            MassIndexerReindexParameterStep filter = massIndexer.type(type).reindexOnly(condition);
+            parameters.forEach(filter::param);
+            massIndexer.dropAndCreateSchemaOnStart(false).purgeAllOnStart(false).mergeSegmentsOnFinish(false);
             if (Objects.nonNull(monitor)) {
                 massIndexer.monitor(monitor);
             }
-            massIndexer.idFetchSize(Integer.MIN_VALUE).batchSizeToLoadObjects(1000);
-            return massIndexer.start();
+            massIndexer.threadsToLoadObjects(ConfigCore.getIntParameterOrDefaultValue(
+                ParameterCore.SEARCHINDEX_INDEXING_THREADS));
+            massIndexer.idFetchSize(ConfigCore.getIntParameterOrDefaultValue(
+                ParameterCore.SEARCHINDEX_INDEXING_ID_FETCH_SIZE)).batchSizeToLoadObjects(ConfigCore
+                        .getIntParameterOrDefaultValue(ParameterCore.SEARCHINDEX_INDEXING_BATCH_SIZE));
+            massIndexer.startAndWait();
         }
     }
 
     /**
-     * Searches for a search term in a search field and returns the hit IDs.
+     * Searches for several search terms in one combined query and returns the
+     * hit IDs. The hits are read from the index in chunks, so that large hit
+     * sets do not have to be held as a list of objects. Search results are
+     * cached for a short time, so that repeated requests for the same search
+     * do not query the index again.
      * 
      * @param beanClass
      *            class of beans to search for
-     * @param searchField
-     *            search field to search on
-     * @param value
-     *            value to be found in the search field
-     * @return ids of the found beans
+     * @param matching
+     *            pairs of search field and value that must be found
+     * @param notMatching
+     *            pairs of search field and value that must not be found
+     * @param anyMatching
+     *            if {@code true}, finding one of the matching values is
+     *            sufficient, otherwise all of them must be found
+     * @return sorted ids of the found beans
      */
-    public Collection<Integer> searchIds(Class<? extends BaseBean> beanClass, String searchField, String value) {
+    public int[] searchIds(Class<? extends BaseBean> beanClass, Collection<Pair<String, String>> matching,
+            Collection<Pair<String, String>> notMatching, boolean anyMatching) {
+        return searchResultCache.get(beanClass, matching, notMatching, anyMatching, () -> searchIdsInIndex(beanClass,
+            matching, notMatching, anyMatching));
+    }
+
+    private int[] searchIdsInIndex(Class<? extends BaseBean> beanClass, Collection<Pair<String, String>> matching,
+            Collection<Pair<String, String>> notMatching, boolean anyMatching) {
         try (Session ormSession = HibernateUtil.getSession()) {
             SearchSession searchSession = Search.session(ormSession);
             SearchProjection<Integer> idField = searchSession.scope(beanClass).projection().field("id", Integer.class)
                     .toProjection();
-            List<Integer> ids = searchSession.search(beanClass).select(idField).where(function -> function.match().field(
-                    searchField).matching(value)).fetchAll().hits();
-            logger.debug("Searching {} IDs in field \"{}\" for \"{}\": {} hits", beanClass.getSimpleName(), searchField,
-                    value, ids.size());
-            return ids;
+            int[] ids = new int[SCROLL_CHUNK_SIZE];
+            int count = 0;
+            try (SearchScroll<Integer> scroll = searchSession.search(beanClass).select(idField).where(function -> {
+                BooleanPredicateClausesStep<?> bool = function.bool();
+                for (Pair<String, String> match : matching) {
+                    SearchPredicate predicate = function.match().field(match.getKey()).matching(match.getValue())
+                            .toPredicate();
+                    if (anyMatching) {
+                        bool.should(predicate);
+                    } else {
+                        bool.must(predicate);
+                    }
+                }
+                for (Pair<String, String> match : notMatching) {
+                    bool.mustNot(function.match().field(match.getKey()).matching(match.getValue()));
+                }
+                if (matching.isEmpty()) {
+                    bool.must(function.matchAll());
+                }
+                return bool;
+            }).scroll(SCROLL_CHUNK_SIZE)) {
+                for (SearchScrollResult<Integer> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next()) {
+                    for (Integer id : chunk.hits()) {
+                        if (count == ids.length) {
+                            ids = Arrays.copyOf(ids, count * 2);
+                        }
+                        ids[count++] = id;
+                    }
+                }
+            }
+            int[] result = Arrays.copyOf(ids, count);
+            Arrays.sort(result);
+            logger.debug("Searching {} IDs for {}{} without {}: {} hits", beanClass.getSimpleName(), anyMatching
+                    ? "any of " : "", matching, notMatching, result.length);
+            return result;
         }
     }
 
     /**
-     * Returns whether the search index is corrupted.
+     * Discards all cached search results. Must be called whenever objects are
+     * added to, changed in, or removed from the index.
+     */
+    public void invalidateSearchResults() {
+        searchResultCache.invalidate();
+    }
+
+    /**
+     * Returns whether the search index is corrupted. This is checked on login,
+     * so it must be cheap: The number of processes in the database is compared
+     * with the number of documents in the index, and the result of the last
+     * consistency check is taken into account. If that result is missing or
+     * older than configured, a new consistency check is started in the
+     * background.
      * 
      * @return whether the index is corrupted
+     * @throws DAOException
+     *             if the processes cannot be counted
      */
-    public boolean isIndexCorrupted() throws DAOException, DataException {
+    public boolean isIndexCorrupted() throws DAOException {
+        Pair<Long, List<Pair<Integer, Integer>>> lastCheck = consistencyCheckResult;
+        if (Objects.isNull(lastCheck) || System.currentTimeMillis() - lastCheck.getKey() > TimeUnit.MINUTES
+                .toMillis(ConfigCore.getLongParameterOrDefaultValue(ParameterCore.SEARCHINDEX_CONSISTENCY_MINUTES))) {
+            startIndexConsistencyCheck();
+        }
+        if (Objects.nonNull(lastCheck) && !lastCheck.getValue().isEmpty()) {
+            return true;
+        }
         BeanQuery beanQuery = new BeanQuery(Process.class);
         Long totalCount = ServiceManager.getProcessService().count(beanQuery.formCountQuery(), beanQuery
                 .getQueryParameters());
         return totalCount != getAllIndexed();
     }
 
+    /**
+     * Starts a consistency check in the background, unless one is already
+     * running. The check compares the processes in the database with the
+     * process documents in the search index and finds the ranges of IDs where
+     * they differ. These contain processes missing in the index, outdated in
+     * the index, or deleted from the database but not from the index. The
+     * check reads all processes from the database and scrolls through the
+     * whole index, so it never runs more than once at a time. Its result is
+     * also available from {@link #getDriftedRanges()} when it has finished.
+     * 
+     * @return the result of the running check, as pairs of first and last ID
+     *         of the ranges that differ
+     */
+    public synchronized CompletableFuture<List<Pair<Integer, Integer>>> startIndexConsistencyCheck() {
+        if (Objects.nonNull(runningConsistencyCheck)) {
+            return runningConsistencyCheck;
+        }
+        CompletableFuture<List<Pair<Integer, Integer>>> check = new CompletableFuture<>();
+        runningConsistencyCheck = check;
+        Thread thread = new Thread(() -> {
+            long generation = indexGeneration.get();
+            long started = System.currentTimeMillis();
+            try {
+                List<Pair<Integer, Integer>> driftedRanges = new IndexConsistencyCheck(ConfigCore
+                        .getIntParameterOrDefaultValue(ParameterCore.SEARCHINDEX_CONSISTENCY_RANGE_SIZE))
+                        .findDriftedRanges();
+                if (indexGeneration.get() == generation) {
+                    consistencyCheckResult = Pair.of(started, driftedRanges);
+                }
+                check.complete(driftedRanges);
+            } catch (RuntimeException e) {
+                logger.error("Index consistency check failed", e);
+                check.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    runningConsistencyCheck = null;
+                }
+            }
+        }, "Index consistency check");
+        thread.setDaemon(true);
+        thread.start();
+        return check;
+    }
+
+    /**
+     * Returns whether a consistency check is running.
+     * 
+     * @return whether a consistency check is running
+     */
+    public synchronized boolean isIndexConsistencyCheckRunning() {
+        return Objects.nonNull(runningConsistencyCheck);
+    }
+
+    private void forgetConsistencyCheck() {
+        indexGeneration.incrementAndGet();
+        consistencyCheckResult = null;
+    }
+
+    /**
+     * Returns the ranges of IDs found to differ by the last consistency check.
+     * 
+     * @return pairs of first and last ID of the ranges that differ, empty if
+     *         no check has been performed yet
+     */
+    public List<Pair<Integer, Integer>> getDriftedRanges() {
+        Pair<Long, List<Pair<Integer, Integer>>> lastCheck = consistencyCheckResult;
+        return Objects.nonNull(lastCheck) ? lastCheck.getValue() : Collections.emptyList();
+    }
+
+    /**
+     * Starts reindexing the processes in the given ranges of IDs. Documents of
+     * processes no longer existing in the database are removed from the
+     * index.
+     * 
+     * @param ranges
+     *            pairs of first and last ID of the ranges to be reindexed
+     * @param monitor
+     *            object to be notified of progress changes
+     * @return a CompletionStage that can react asynchronously when the indexing
+     *         ends (including to exceptions)
+     */
+    public CompletionStage<?> startReindexing(List<Pair<Integer, Integer>> ranges, MassIndexingMonitor monitor) {
+        invalidateSearchResults();
+        return runAsync("Reindexing ranges", () -> {
+            for (Pair<Integer, Integer> range : ranges) {
+                purgeDeletedProcesses(range.getKey(), range.getValue());
+                massIndex(Process.class, monitor, "e.id >= :from and e.id <= :to", Map.of("from", range.getKey(),
+                    "to", range.getValue()));
+            }
+            forgetConsistencyCheck();
+            invalidateSearchResults();
+        });
+    }
+
+    private static void purgeDeletedProcesses(int from, int to) {
+        try (Session ormSession = HibernateUtil.getSession()) {
+            Set<Integer> existing = new HashSet<>(ormSession.createQuery(
+                "SELECT id FROM Process WHERE id >= :from AND id <= :to", Integer.class).setParameter("from", from)
+                    .setParameter("to", to).list());
+            SearchSession searchSession = Search.session(ormSession);
+            List<Integer> indexed = searchSession.search(Process.class).select(function -> function.field("id",
+                Integer.class)).where(function -> function.range().field("id").between(from, to)).fetchAllHits();
+            SearchIndexingPlan indexingPlan = searchSession.indexingPlan();
+            for (Integer id : indexed) {
+                if (!existing.contains(id)) {
+                    indexingPlan.purge(Process.class, id, null);
+                }
+            }
+            indexingPlan.execute();
+        }
+    }
+
     /**
      * Return the number of all objects processed during the current indexing
      * progress.
@@ -174,4 +633,9 @@ public class IndexingService {
             return allIndexed;
         }
     }
+
+    @FunctionalInterface
+    private interface IndexingRun {
+        void run() throws IOException, InterruptedException;
+    }
 }
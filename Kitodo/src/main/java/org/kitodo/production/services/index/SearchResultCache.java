@@ -0,0 +1,151 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Caches the hit IDs of index searches for a short time. When the process list
+ * is displayed, the number of hits and the hits of the page are requested
+ * separately, and paging requests the same filter again. The cache allows
+ * these requests to share one round trip to the search index.
+ *
+ * <p>The cache is bounded and the entries expire after a configurable time.
+ * All entries are discarded whenever the index changes.
+ */
+class SearchResultCache {
+
+    private final int maximumSize;
+    private final long timeToLiveMillis;
+    private long generation = 0;
+    private final Map<Key, Entry> entries;
+
+    /**
+     * Constructor. Creates a new search result cache.
+     *
+     * @param maximumSize
+     *            maximum number of search results to keep, if zero or less,
+     *            nothing is cached
+     * @param timeToLiveMillis
+     *            time after which a search result expires
+     */
+    SearchResultCache(int maximumSize, long timeToLiveMillis) {
+        this.maximumSize = maximumSize;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > SearchResultCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached hit IDs for a search, or performs the search and
+     * caches its result.
+     *
+     * @param beanClass
+     *            class of beans to search for
+     * @param matching
+     *            pairs of search field and value that must be found
+     * @param notMatching
+     *            pairs of search field and value that must not be found
+     * @param anyMatching
+     *            whether finding one of the matching values is sufficient
+     * @param search
+     *            performs the search if the result is not cached
+     * @return the hit IDs
+     */
+    int[] get(Class<?> beanClass, Collection<Pair<String, String>> matching,
+            Collection<Pair<String, String>> notMatching, boolean anyMatching, Supplier<int[]> search) {
+        if (maximumSize <= 0) {
+            return search.get();
+        }
+        Key key = new Key(beanClass, new ArrayList<>(matching), new ArrayList<>(notMatching), anyMatching);
+        long searchGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (Objects.nonNull(entry) && System.currentTimeMillis() - entry.created <= timeToLiveMillis) {
+                return entry.ids;
+            }
+            searchGeneration = generation;
+        }
+        int[] ids = search.get();
+        synchronized (this) {
+            // a result from before an index change must not be stored
+            if (searchGeneration == generation) {
+                entries.put(key, new Entry(ids, System.currentTimeMillis()));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Discards all cached search results. Must be called when the index
+     * changes.
+     */
+    synchronized void invalidate() {
+        generation++;
+        entries.clear();
+    }
+
+    private static class Key {
+        private final Class<?> beanClass;
+        private final List<Pair<String, String>> matching;
+        private final List<Pair<String, String>> notMatching;
+        private final boolean anyMatching;
+
+        Key(Class<?> beanClass, List<Pair<String, String>> matching, List<Pair<String, String>> notMatching,
+                boolean anyMatching) {
+            this.beanClass = beanClass;
+            this.matching = matching;
+            this.notMatching = notMatching;
+            this.anyMatching = anyMatching;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return anyMatching == key.anyMatching && beanClass.equals(key.beanClass) && matching.equals(key.matching)
+                    && notMatching.equals(key.notMatching);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(beanClass, matching, notMatching, anyMatching);
+        }
+    }
+
+    private static class Entry {
+        private final int[] ids;
+        private final long created;
+
+        Entry(int[] ids, long created) {
+            this.ids = ids;
+            this.created = created;
+        }
+    }
+}
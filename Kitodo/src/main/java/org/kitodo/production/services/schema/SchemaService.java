@@ -14,8 +14,10 @@ package org.kitodo.production.services.schema;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
@@ -145,6 +147,8 @@ public class SchemaService {
             throws URISyntaxException {
         List<Folder> folders = process.getProject().getFolders();
         VariableReplacer variableReplacer = new VariableReplacer(workpiece, process, null);
+        // a URL structure without file placeholders is the same for all files
+        Map<String, String> urlPrefixes = new HashMap<>();
         for (PhysicalDivision physicalDivision : workpiece.getAllPhysicalDivisions()) {
             for (Entry<MediaVariant, URI> mediaFileForMediaVariant : physicalDivision.getMediaFiles().entrySet()) {
                 for (Folder folder : folders) {
@@ -153,7 +157,8 @@ public class SchemaService {
                         String mediaFilename = FilenameUtils.getName(mediaFileWithPath);
                         String mediaFile = variableReplacer.containsFiles(folder.getUrlStructure())
                                 ? variableReplacer.replaceWithFilename(folder.getUrlStructure(), mediaFileWithPath)
-                                : variableReplacer.replace(folder.getUrlStructure() + mediaFilename);
+                                : urlPrefixes.computeIfAbsent(folder.getUrlStructure(), variableReplacer::replace)
+                                        + mediaFilename;
                         mediaFileForMediaVariant.setValue(new URI(mediaFile));
                     }
                 }
@@ -24,6 +24,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import javax.xml.validation.Schema;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -66,6 +68,10 @@ public class FileStructureValidationService {
         if (xsdFileNames.isEmpty()) {
             return null;
         }
+        return validationModule.validate(xmlContent, getSchemaUris(xsdFileNames));
+    }
+
+    private List<URI> getSchemaUris(Collection<String> xsdFileNames) {
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         List<URI> schemaUris = new ArrayList<>();
         for (String filename : xsdFileNames) {
@@ -82,7 +88,7 @@ public class FileStructureValidationService {
                 }
             }
         }
-        return validationModule.validate(xmlContent, schemaUris);
+        return schemaUris;
     }
 
     /**
@@ -195,16 +201,45 @@ public class FileStructureValidationService {
      */
     public void validateInternalRecord(String xmlString, boolean validateMets, String mappingFiles) throws IOException,
             SAXException, FileStructureValidationException {
-        Collection<String> schemata = new ArrayList<>();
-        // always validate internalRecord against kitodo schema
-        schemata.add(KITODO_XSD);
-        // only validate against METS schema as well if the record was created using "prestructured import"
-        if (validateMets) {
-            schemata.add(METS_XSD);
+        ValidationResult validationResult = validateXmlFile(xmlString, getInternalRecordSchemata(validateMets));
+        if (Objects.nonNull(validationResult)) {
+            checkInternalRecordValidationErrors(validationResult.getResultMessages(), mappingFiles);
         }
-        ValidationResult validationResult = validateXmlFile(xmlString, schemata);
-        if (Objects.nonNull(validationResult) && !validationResult.getResultMessages().isEmpty()) {
-            logger.info("Validation errors for internal record: {}", validationResult.getResultMessages());
+    }
+
+    /**
+     * Returns the compiled schema to validate internal records against. This
+     * allows validating the internal record while it is being parsed.
+     *
+     * @param validateMets
+     *            whether the METS part of the internal record should be
+     *            validated as well
+     * @return the compiled schema
+     * @throws SAXException
+     *             when schema definition for metadata file validation contains
+     *             invalid XML syntax
+     */
+    public Schema getInternalRecordSchema(boolean validateMets) throws SAXException {
+        return validationModule.getSchema(getSchemaUris(getInternalRecordSchemata(validateMets)));
+    }
+
+    /**
+     * Throws an exception if errors were found during validation of an
+     * internal record.
+     *
+     * @param validationErrors
+     *            messages of the validation errors found
+     * @param mappingFiles
+     *            String containing the list of mapping file names used to
+     *            create the internal record
+     * @throws FileStructureValidationException
+     *             if there are validation errors
+     */
+    public void checkInternalRecordValidationErrors(Collection<String> validationErrors, String mappingFiles)
+            throws FileStructureValidationException {
+        if (!validationErrors.isEmpty()) {
+            logger.info("Validation errors for internal record: {}", validationErrors);
+            ValidationResult validationResult = new ValidationResult(ERROR, validationErrors);
             if (StringUtils.isBlank(mappingFiles)) {
                 throw new FileStructureValidationException(Helper.getTranslation(
                         "validation.internalDataRecordValidationError"), validationResult);
@@ -215,6 +250,17 @@ public class FileStructureValidationService {
         }
     }
 
+    private Collection<String> getInternalRecordSchemata(boolean validateMets) {
+        Collection<String> schemata = new ArrayList<>();
+        // always validate internalRecord against kitodo schema
+        schemata.add(KITODO_XSD);
+        // only validate against METS schema as well if the record was created using "prestructured import"
+        if (validateMets) {
+            schemata.add(METS_XSD);
+        }
+        return schemata;
+    }
+
     /**
      * Validate the external XML record returned from a search interface against the schema definitions corresponding
      * to the metadata format configured in the given import configuration.
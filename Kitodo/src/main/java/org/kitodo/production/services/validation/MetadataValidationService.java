@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
@@ -30,6 +31,7 @@ import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.validation.State;
 import org.kitodo.api.validation.ValidationResult;
+import org.kitodo.api.validation.metadata.MetadataValidationCache;
 import org.kitodo.api.validation.metadata.MetadataValidationInterface;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
@@ -192,13 +194,36 @@ public class MetadataValidationService {
      */
     public ValidationResult validate(Workpiece workpiece, RulesetManagementInterface ruleset, boolean strict)
             throws DAOException {
+        return validate(workpiece, ruleset, strict, null);
+    }
+
+    /**
+     * Validates a workpiece based on a rule set. Divisions which have not
+     * changed since the last validation with the given cache are not
+     * validated again.
+     *
+     * @param workpiece
+     *            METS file
+     * @param ruleset
+     *            Ruleset file
+     * @param strict
+     *            whether to validate document ID and presence of images
+     * @param cache
+     *            validation results of the previous validation of the
+     *            workpiece, may be {@code null}
+     * @return the validation result
+     * @throws DAOException
+     *             if an error occurs while reading from the database
+     */
+    public ValidationResult validate(Workpiece workpiece, RulesetManagementInterface ruleset, boolean strict,
+            MetadataValidationCache cache) throws DAOException {
 
         Collection<ValidationResult> results = new ArrayList<>();
         if (strict) {
             results.add(checkTheIdentifier(workpiece));
         }
         results.add(metadataValidation.validate(workpiece, ruleset, getMetadataLanguage(),
-            getTranslations(), strict));
+            getTranslations(), strict, cache));
         return merge(results);
     }
 
@@ -270,7 +295,7 @@ public class MetadataValidationService {
     private static ValidationResult merge(Collection<ValidationResult> results) {
         boolean error = false;
         boolean warning = false;
-        Collection<String> messages = new HashSet<>();
+        Collection<String> messages = new LinkedHashSet<>();
 
         for (ValidationResult result : results) {
             if (result.getState().equals(State.ERROR)) {
@@ -11,10 +11,8 @@
 
 package org.kitodo.production.services.workflow;
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -208,10 +206,8 @@ public class WorkflowControllerService {
     private boolean validateMetadata(Task task) throws IOException, DAOException, SAXException, FileStructureValidationException {
         URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(task.getProcess());
         Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
-        RulesetManagementInterface ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
-        ruleset.load(new File(Paths.get(
-                ConfigCore.getParameter(ParameterCore.DIR_RULESETS),
-                task.getProcess().getRuleset().getFile()).toString()));
+        RulesetManagementInterface ruleset = ServiceManager.getRulesetService()
+                .openRuleset(task.getProcess().getRuleset());
         ValidationResult validationResult = ServiceManager.getMetadataValidationService().validate(workpiece, ruleset);
         boolean strictValidation = ConfigCore.getBooleanParameter(ParameterCore.VALIDATION_FAIL_ON_WARNING);
         State state = validationResult.getState();
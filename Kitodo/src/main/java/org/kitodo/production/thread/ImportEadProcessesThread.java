@@ -64,6 +64,7 @@ import org.kitodo.production.helper.ProcessHelper;
 import org.kitodo.production.helper.TempProcess;
 import org.kitodo.production.helper.XMLUtils;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.TaskLane;
 import org.kitodo.production.metadata.MetadataEditor;
 import org.kitodo.production.security.SecurityUserDetails;
 import org.kitodo.production.services.ServiceManager;
@@ -124,6 +125,11 @@ public class ImportEadProcessesThread extends EmptyTask {
         super.setNameDetail(detail);
     }
 
+    @Override
+    public TaskLane getLane() {
+        return TaskLane.IMPORT;
+    }
+
     @Override
     public void run() {
         setAuthenticatedUser();
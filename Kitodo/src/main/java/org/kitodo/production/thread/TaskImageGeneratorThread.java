@@ -14,6 +14,7 @@ package org.kitodo.production.thread;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.TaskLane;
 import org.kitodo.production.services.image.ImageGenerator;
 
 /**
@@ -51,6 +52,11 @@ public class TaskImageGeneratorThread extends EmptyTask {
         this.imageGenerator = master.imageGenerator;
     }
 
+    @Override
+    public TaskLane getLane() {
+        return TaskLane.IMAGE_GENERATION;
+    }
+
     /**
      * If the task is started, it will execute this run() method which will
      * start the export on the ExportDms. This task instance is passed in
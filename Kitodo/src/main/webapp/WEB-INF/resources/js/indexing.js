@@ -64,6 +64,9 @@ function toggleButtons(state, objectTypes) {
             }
         }
         PF('startIndexingAll').enable();
+        if (PrimeFaces.widgets['startIncrementalIndexingPROCESS']) {
+            PF('startIncrementalIndexingPROCESS').enable();
+        }
     } else {
         for (var i = 0; i < objectTypes.length; i++) {
             if (objectTypes[i] !== 'NONE') {
@@ -71,5 +74,8 @@ function toggleButtons(state, objectTypes) {
             }
         }
         PF('startIndexingAll').disable();
+        if (PrimeFaces.widgets['startIncrementalIndexingPROCESS']) {
+            PF('startIncrementalIndexingPROCESS').disable();
+        }
     }
 }
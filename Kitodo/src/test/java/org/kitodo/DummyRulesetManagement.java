@@ -75,6 +75,11 @@ public class DummyRulesetManagement implements RulesetManagementInterface {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Collection<File> getFiles() {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void load(File rulesetFile) throws IOException {
         throw new UnsupportedOperationException();
@@ -95,4 +100,19 @@ public class DummyRulesetManagement implements RulesetManagementInterface {
     public Reimport getMetadataReimport(String key, String acquisitionStage) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public long getViewCacheHits() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long getViewCacheMisses() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getViewCacheSize() {
+        throw new UnsupportedOperationException();
+    }
 }
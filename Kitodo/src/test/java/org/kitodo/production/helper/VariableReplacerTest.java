@@ -44,6 +44,31 @@ public class VariableReplacerTest {
         assertEquals(expected, replaced, "String was replaced incorrectly!");
     }
 
+    @Test
+    public void shouldReplaceTitleContainingSpecialCharacters() {
+        Process process = prepareProcess(2, "2");
+        process.setTitle("Replacement$1\\x");
+        VariableReplacer variableReplacer = new VariableReplacer(null, process, null);
+
+        String replaced = variableReplacer.replace("-title (processtitle) -hardcoded test");
+        String expected = "-title Replacement$1\\x -hardcoded test";
+
+        assertEquals(expected, replaced, "String was replaced incorrectly!");
+    }
+
+    @Test
+    public void shouldReplaceSameStringForDifferentProcesses() {
+        String stringWithVariables = "(processpath)/images/(processtitle)_media";
+
+        String replaced = new VariableReplacer(null, prepareProcess(2, "2"), null).replace(stringWithVariables);
+        assertEquals("2/images/Replacement_media", replaced, "String was replaced incorrectly!");
+
+        Process otherProcess = prepareProcess(3, "3");
+        otherProcess.setTitle("Other");
+        replaced = new VariableReplacer(null, otherProcess, null).replace(stringWithVariables);
+        assertEquals("3/images/Other_media", replaced, "String was replaced incorrectly!");
+    }
+
     @Test
     public void shouldReplacePrefs() {
         VariableReplacer variableReplacer = new VariableReplacer(null, prepareProcess(2, "2"), null);
@@ -0,0 +1,151 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.persistence.BackgroundJobDAO;
+
+public class TaskSitterIT {
+
+    private static final Map<String, AtomicInteger> runs = new ConcurrentHashMap<>();
+    private static final AtomicInteger working = new AtomicInteger();
+    private static final AtomicInteger maxWorking = new AtomicInteger();
+
+    @BeforeAll
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        // sets up the database before the task manager starts to access it
+        new BackgroundJobDAO().getAll();
+        ConfigCore.getConfig().setProperty("taskManager.autoRunLimit", 4);
+        ConfigCore.getConfig().setProperty("taskManager.autoRunLimit.export", 1);
+        TaskSitter.setAutoRunningThreads(true);
+    }
+
+    @AfterAll
+    public static void cleanDatabase() throws Exception {
+        TaskManager.stopAndDeleteAllTasks();
+        BackgroundJobDAO backgroundJobDAO = new BackgroundJobDAO();
+        for (BackgroundJob backgroundJob : backgroundJobDAO.getAll()) {
+            backgroundJobDAO.remove(backgroundJob.getId());
+        }
+        ConfigCore.getConfig().clearProperty("taskManager.autoRunLimit");
+        ConfigCore.getConfig().clearProperty("taskManager.autoRunLimit.export");
+        TaskSitter.setAutoRunningThreads(true);
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldRunEachQueuedTaskOnceWhenLaneIsFull() throws Exception {
+        List<CountingTask> tasks = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Properties parameters = new Properties();
+            parameters.setProperty("job", Integer.toString(i));
+            CountingTask task = new CountingTask(parameters, new Properties());
+            TaskManager.addTask(task);
+            assertNotNull(task.getBackgroundJobId(), "Task should have been written to the database");
+            tasks.add(task);
+        }
+
+        TaskSitter taskSitter = new TaskSitter();
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (runs.values().stream().mapToInt(AtomicInteger::get).sum() < 3 || working.get() > 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "Tasks were not run in time");
+            taskSitter.run();
+            Thread.sleep(50);
+        }
+        // a few more inspections, in which nothing must be started again
+        for (int i = 0; i < 10; i++) {
+            taskSitter.run();
+            Thread.sleep(50);
+        }
+        for (CountingTask task : tasks) {
+            task.join();
+        }
+
+        assertEquals(3, new BackgroundJobDAO().getAll().size(), "No further jobs should have been written");
+        assertEquals(3, runs.size(), "Every task should have run");
+        for (Map.Entry<String, AtomicInteger> entry : runs.entrySet()) {
+            assertEquals(1, entry.getValue().get(), "Task " + entry.getKey() + " should have run once");
+        }
+        assertEquals(1, maxWorking.get(), "The export lane should run one task at a time");
+    }
+
+    /**
+     * A resumable task in the export lane that counts how often it runs.
+     */
+    public static class CountingTask extends EmptyTask implements ResumableTask {
+        private final Properties parameters;
+
+        /**
+         * Creates the task, also when it is resumed from the database.
+         *
+         * @param parameters
+         *            parameters of the task
+         * @param checkpoint
+         *            checkpoint of the task, not used
+         */
+        public CountingTask(Properties parameters, Properties checkpoint) {
+            super(parameters.getProperty("job"));
+            this.parameters = parameters;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return "CountingTask";
+        }
+
+        @Override
+        public TaskLane getLane() {
+            return TaskLane.EXPORT;
+        }
+
+        @Override
+        public Properties getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public Properties getCheckpoint() {
+            return new Properties();
+        }
+
+        @Override
+        public void run() {
+            maxWorking.accumulateAndGet(working.incrementAndGet(), Math::max);
+            runs.computeIfAbsent(parameters.getProperty("job"), job -> new AtomicInteger()).incrementAndGet();
+            try {
+                sleep(300);
+            } catch (InterruptedException e) {
+                interrupt();
+            }
+            setProgress(100);
+            working.decrementAndGet();
+        }
+    }
+}
@@ -12,6 +12,7 @@
 package org.kitodo.production.helper.validation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
@@ -110,6 +111,30 @@ public class LtpValidationHelperIT {
         assertEquals(LtpValidationResultState.VALID, results.get(jpegFolder).get(validJpegUri).getState());
     }
 
+    /**
+     * Check that files which could not be validated because the validation was
+     * interrupted are reported as errors.
+     */
+    @Test
+    public void shouldReportErrorsWhenInterrupted() throws DAOException {
+        Process process = ServiceManager.getProcessService().getById(1);
+        Task validationTask = new Task();
+        validationTask.setProcess(process);
+        validationTask.setTypeValidateImages(true);
+
+        Map<Folder, Map<URI, LtpValidationResult>> results;
+        Thread.currentThread().interrupt();
+        try {
+            results = LtpValidationHelper.validateImageFoldersForTask(validationTask);
+        } finally {
+            assertTrue(Thread.interrupted(), "interrupt status should be kept");
+        }
+
+        // files validated before the interruption keep their result, all others are errors
+        assertEquals(2, results.keySet().size(), "validation results should contain both folders");
+        assertEquals(3, results.values().stream().mapToInt(Map::size).sum(), "all files should be reported");
+    }
+
     @AfterAll
     public static void tearDown() throws Exception {
         cleanFiles();
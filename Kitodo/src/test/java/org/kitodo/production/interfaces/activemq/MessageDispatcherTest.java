@@ -0,0 +1,163 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.interfaces.activemq;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.junit.jupiter.api.Test;
+
+public class MessageDispatcherTest {
+
+    private static final int KEYS = 5;
+    private static final int MESSAGES_PER_KEY = 20;
+
+    @Test
+    public void shouldKeepOrderPerKeyAndAcknowledgeAfterProcessing() throws JMSException, InterruptedException {
+        Map<Message, String> keys = new HashMap<>();
+        Map<Message, Integer> sequenceNumbers = new HashMap<>();
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        List<String> acknowledged = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(KEYS * MESSAGES_PER_KEY);
+        Set<Thread> orderingKeyThreads = ConcurrentHashMap.newKeySet();
+
+        ActiveMQProcessor processor = new ActiveMQProcessor("test") {
+            @Override
+            protected void process(MapMessageObjectReader ticket) {
+            }
+
+            @Override
+            Object getOrderingKey(Message message) {
+                orderingKeyThreads.add(Thread.currentThread());
+                return keys.get(message);
+            }
+
+            @Override
+            boolean processMessage(Message message) {
+                processed.add(keys.get(message) + ':' + sequenceNumbers.get(message));
+                return true;
+            }
+        };
+
+        List<Message> messages = new ArrayList<>();
+        for (int sequenceNumber = 0; sequenceNumber < MESSAGES_PER_KEY; sequenceNumber++) {
+            for (int key = 0; key < KEYS; key++) {
+                Message message = mock(Message.class);
+                keys.put(message, "process" + key);
+                sequenceNumbers.put(message, sequenceNumber);
+                doAnswer(invocation -> {
+                    String entry = keys.get(message) + ':' + sequenceNumbers.get(message);
+                    assertTrue(processed.contains(entry), "Message acknowledged before processing");
+                    acknowledged.add(entry);
+                    done.countDown();
+                    return null;
+                }).when(message).acknowledge();
+                messages.add(message);
+            }
+        }
+
+        MessageDispatcher dispatcher = new MessageDispatcher(processor, 3);
+        for (Message message : messages) {
+            dispatcher.onMessage(message);
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS), "Not all messages were processed");
+        dispatcher.shutDown();
+
+        assertEquals(KEYS * MESSAGES_PER_KEY, acknowledged.size());
+        assertFalse(orderingKeyThreads.contains(Thread.currentThread()),
+            "Ordering keys should not be determined on the delivering thread");
+        for (int key = 0; key < KEYS; key++) {
+            int expected = 0;
+            for (String entry : processed) {
+                if (entry.startsWith("process" + key + ':')) {
+                    assertEquals("process" + key + ':' + expected++, entry, "Messages out of order");
+                }
+            }
+            assertEquals(MESSAGES_PER_KEY, expected);
+        }
+    }
+
+    @Test
+    public void shouldMoveFailedMessagesToDeadLetterQueue() throws JMSException, InterruptedException {
+        Session session = mock(Session.class);
+        MessageProducer deadLetterProducer = mock(MessageProducer.class);
+        Connection connection = mock(Connection.class);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.createProducer(any())).thenReturn(deadLetterProducer);
+        when(session.createConsumer(any())).thenReturn(mock(MessageConsumer.class));
+
+        Message failing = mock(Message.class);
+        Message succeeding = mock(Message.class);
+        CountDownLatch done = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            done.countDown();
+            return null;
+        }).when(failing).acknowledge();
+        doAnswer(invocation -> {
+            done.countDown();
+            return null;
+        }).when(succeeding).acknowledge();
+
+        ActiveMQProcessor processor = new ActiveMQProcessor("test") {
+            @Override
+            protected void process(MapMessageObjectReader ticket) {
+            }
+
+            @Override
+            Object getOrderingKey(Message message) {
+                return "process";
+            }
+
+            @Override
+            boolean processMessage(Message message) {
+                return message == succeeding;
+            }
+        };
+
+        MessageDispatcher dispatcher = new MessageDispatcher(processor, 1);
+        dispatcher.start(connection);
+        verify(session).createQueue("DLQ.test");
+        dispatcher.onMessage(failing);
+        dispatcher.onMessage(succeeding);
+        assertTrue(done.await(10, TimeUnit.SECONDS), "Not all messages were acknowledged");
+        dispatcher.shutDown();
+
+        verify(deadLetterProducer).send(failing);
+        verify(deadLetterProducer, never()).send(succeeding);
+    }
+}
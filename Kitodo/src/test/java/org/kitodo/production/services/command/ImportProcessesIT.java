@@ -17,6 +17,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 // base Java
@@ -27,6 +28,7 @@ import java.nio.file.Paths;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.Properties;
 
 // open source code
 import org.apache.commons.lang3.SystemUtils;
@@ -34,7 +36,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
 import org.kitodo.ExecutionPermission;
 import org.kitodo.MockDatabase;
 import org.kitodo.SecurityTestUtils;
@@ -51,6 +56,8 @@ import org.kitodo.data.database.beans.User;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.test.utils.ProcessTestUtils;
 
+// shouldImport() expects the process IDs to follow the existing processes
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class ImportProcessesIT {
     private static final Path ERRORS_DIR_PATH = Paths.get("src/test/resources/errors");
 
@@ -115,6 +122,7 @@ public class ImportProcessesIT {
      * Tests the target behavior specified.
      */
     @Test
+    @Order(1)
     public void shouldImport() throws Exception {
         // create test object
         String indir = "src/test/resources/ImportProcessesIT";
@@ -295,6 +303,45 @@ public class ImportProcessesIT {
         assertEquals(6, ERRORS_DIR_PATH.toFile().list().length, "Should not import 6 processes,");
     }
 
+    /**
+     * Tests that an interrupted import is resumed at its checkpoint.
+     */
+    @Test
+    @Order(2)
+    public void shouldResumeImport() throws Exception {
+        ImportProcesses interrupted = new ImportProcesses("src/test/resources/ImportProcessesIT", "1",
+                template.getId().toString(), "src/test/resources/errors");
+        int processesBefore = ServiceManager.getProcessService().count().intValue();
+
+        // validate all, create 1st process and its directory, copy first item
+        for (int step = 0; step <= 12; step++) {
+            interrupted.run(step);
+        }
+        Properties checkpoint = interrupted.getCheckpoint();
+        assertEquals("13", checkpoint.getProperty("step"), "should have recorded completed steps");
+        assertEquals(processesBefore + 1, (long) ServiceManager.getProcessService().count(),
+            "should have created 1st process");
+
+        ImportProcesses resumed = new ImportProcesses(interrupted.getParameters(), checkpoint);
+        resumed.run();
+        assertNull(resumed.getException(), "should have resumed without error");
+        Properties result = resumed.getCheckpoint();
+        firstProcessId = Integer.parseInt(result.getProperty("processId.p1c1_valid"));
+        secondProcessId = Integer.parseInt(result.getProperty("processId.p1c2_valid"));
+        thirdProcessId = Integer.parseInt(result.getProperty("processId.p1_valid"));
+        assertEquals(checkpoint.getProperty("processId.p1c1_valid"), Integer.toString(firstProcessId),
+            "should not have created 1st process again");
+        assertEquals(processesBefore + 3, (long) ServiceManager.getProcessService().count(),
+            "Should import 3 processes,");
+        Path firstMetaXml = Paths.get("src/test/resources/metadata", Integer.toString(firstProcessId), "meta.xml");
+        assertTrue(Files.readString(firstMetaXml, UTF_8).contains(
+            "xlink:href=\"images/17_123_0001_media/00000001.jpg\""), "should have added image to meta.xml file");
+        assertThat("should have added correct child links to meta.xml file", Files.readString(Paths.get(
+            "src/test/resources/metadata", Integer.toString(thirdProcessId), "meta.xml"), UTF_8),
+            containsString("xlink:href=\"database://?process.id=" + firstProcessId + "\""));
+        assertEquals(6, ERRORS_DIR_PATH.toFile().list().length, "Should not import 6 processes,");
+    }
+
     @AfterEach
     public void deleteCreatedFiles() throws Exception {
         ProcessTestUtils.removeTestProcess(firstProcessId);
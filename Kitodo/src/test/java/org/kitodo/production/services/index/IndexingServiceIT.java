@@ -0,0 +1,148 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.hibernate.Session;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.database.persistence.HibernateUtil;
+import org.kitodo.production.services.ServiceManager;
+
+public class IndexingServiceIT {
+
+    private static final String STRATEGY = "searchindex.indexing.strategy";
+
+    @BeforeAll
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+        MockDatabase.setUpAwaitility();
+    }
+
+    @AfterAll
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldFindAndReindexDriftedRange() throws Exception {
+        IndexingService indexingService = ServiceManager.getIndexingService();
+        // the index may still contain documents from other tests
+        indexingService.startReindexing(checkIndexConsistency(), null).toCompletableFuture().join();
+        await().until(() -> checkIndexConsistency().isEmpty());
+
+        try (Session session = HibernateUtil.getSession()) {
+            SearchIndexingPlan indexingPlan = Search.session(session).indexingPlan();
+            indexingPlan.purge(Process.class, 2, null);
+            indexingPlan.execute();
+        }
+        await().until(() -> !checkIndexConsistency().isEmpty());
+        List<Pair<Integer, Integer>> driftedRanges = indexingService.getDriftedRanges();
+        assertEquals(1, driftedRanges.size(), "Should find one drifted range");
+        assertTrue(driftedRanges.getFirst().getKey() <= 2 && driftedRanges.getFirst().getValue() >= 2,
+            "Drifted range should contain the purged process");
+        assertTrue(indexingService.isIndexCorrupted(), "Index should be reported as corrupted");
+
+        indexingService.startReindexing(driftedRanges, null).toCompletableFuture().join();
+        await().until(() -> checkIndexConsistency().isEmpty());
+    }
+
+    @Test
+    public void shouldRebuildIndexInBackgroundAndSwap() throws Exception {
+        IndexingService indexingService = ServiceManager.getIndexingService();
+        IndexAliasSwap aliasSwap = new IndexAliasSwap(Process.class);
+        String oldIndex = aliasSwap.getReadIndex();
+        ConfigCore.getConfig().setProperty(STRATEGY, "swap");
+        try {
+            indexingService.startIndexing(Process.class, null).toCompletableFuture().join();
+        } finally {
+            ConfigCore.getConfig().clearProperty(STRATEGY);
+        }
+        String newIndex = aliasSwap.getReadIndex();
+        assertNotEquals(oldIndex, newIndex, "Search should read from a new index");
+        assertEquals(newIndex, aliasSwap.getWriteIndex(), "Changes should be written to the new index");
+        await().until(() -> checkIndexConsistency().isEmpty());
+    }
+
+    @Test
+    public void shouldCopyChangesToIndexInUseDuringRebuild() throws Exception {
+        IndexingService indexingService = ServiceManager.getIndexingService();
+        indexingService.startReindexing(checkIndexConsistency(), null).toCompletableFuture().join();
+        IndexAliasSwap aliasSwap = new IndexAliasSwap(Process.class);
+        String newIndex = aliasSwap.createNextIndex();
+        try {
+            long since = new Date().getTime() - 1000;
+            Process process = ServiceManager.getProcessService().getById(1);
+            process.setTitle("Mirrored");
+            ServiceManager.getProcessService().save(process);
+            assertTrue(aliasSwap.copyChangesToReadIndex(newIndex, since) > 0, "Changed process should be copied");
+            await().until(() -> searchTitle("mirrored").length == 1);
+
+            aliasSwap.removeFromReadIndex(1);
+            await().until(() -> searchTitle("mirrored").length == 0);
+        } finally {
+            aliasSwap.abandon(newIndex);
+        }
+        indexingService.startReindexing(checkIndexConsistency(), null).toCompletableFuture().join();
+        await().until(() -> checkIndexConsistency().isEmpty());
+    }
+
+    @Test
+    public void shouldReindexProcessWhoseTaskChanged() throws Exception {
+        ServiceManager.getIndexingService().startIndexing(Process.class, null).toCompletableFuture().join();
+        Task task = ServiceManager.getTaskService().getAll().stream().filter(processTask -> Objects.nonNull(
+            processTask.getProcess())).findFirst().orElseThrow();
+        Date modificationDate = ServiceManager.getProcessService().getById(task.getProcess().getId())
+                .getModificationDate();
+        task.setTitle("Retitled");
+        ServiceManager.getTaskService().save(task);
+
+        await().until(() -> searchTitle("retitled", "search").length == 1);
+        assertEquals(task.getProcess().getId(), searchTitle("retitled", "search")[0],
+            "Process of the changed task should be found");
+        assertEquals(modificationDate, ServiceManager.getProcessService().getById(task.getProcess().getId())
+                .getModificationDate(), "Process should not have been modified");
+    }
+
+    private static List<Pair<Integer, Integer>> checkIndexConsistency() {
+        return ServiceManager.getIndexingService().startIndexConsistencyCheck().join();
+    }
+
+    private static int[] searchTitle(String title) {
+        return searchTitle(title, "searchTitle");
+    }
+
+    private static int[] searchTitle(String value, String field) {
+        ServiceManager.getIndexingService().invalidateSearchResults();
+        return ServiceManager.getIndexingService().searchIds(Process.class, List.of(Pair.of(field, value)),
+            Collections.emptyList(), false);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.kitodo.data.database.beans.Process;
+
+public class SearchResultCacheTest {
+
+    private static final List<Pair<String, String>> ZEITUNG = List.of(Pair.of("search", "zeitung"));
+    private static final List<Pair<String, String>> KARTE = List.of(Pair.of("search", "karte"));
+
+    @Test
+    public void shouldReuseSearchResult() {
+        SearchResultCache cache = new SearchResultCache(10, 60_000);
+        AtomicInteger searches = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            int[] ids = cache.get(Process.class, ZEITUNG, Collections.emptyList(), false, () -> {
+                searches.incrementAndGet();
+                return new int[] {1, 2, 3 };
+            });
+            assertArrayEquals(new int[] {1, 2, 3 }, ids);
+        }
+        assertEquals(1, searches.get(), "Search should be performed only once");
+    }
+
+    @Test
+    public void shouldDistinguishSearches() {
+        SearchResultCache cache = new SearchResultCache(10, 60_000);
+        cache.get(Process.class, ZEITUNG, Collections.emptyList(), false, () -> new int[] {1 });
+        assertArrayEquals(new int[] {2 }, cache.get(Process.class, KARTE, Collections.emptyList(), false,
+            () -> new int[] {2 }));
+        assertArrayEquals(new int[] {3 }, cache.get(Process.class, ZEITUNG, Collections.emptyList(), true,
+            () -> new int[] {3 }));
+        assertArrayEquals(new int[] {4 }, cache.get(Process.class, Collections.emptyList(), ZEITUNG, false,
+            () -> new int[] {4 }));
+    }
+
+    @Test
+    public void shouldSearchAgainAfterInvalidation() {
+        SearchResultCache cache = new SearchResultCache(10, 60_000);
+        cache.get(Process.class, ZEITUNG, Collections.emptyList(), false, () -> new int[] {1 });
+        cache.invalidate();
+        assertArrayEquals(new int[] {1, 2 }, cache.get(Process.class, ZEITUNG, Collections.emptyList(), false,
+            () -> new int[] {1, 2 }));
+    }
+
+    @Test
+    public void shouldEvictEldestSearchResult() {
+        SearchResultCache cache = new SearchResultCache(1, 60_000);
+        cache.get(Process.class, ZEITUNG, Collections.emptyList(), false, () -> new int[] {1 });
+        cache.get(Process.class, KARTE, Collections.emptyList(), false, () -> new int[] {2 });
+        assertArrayEquals(new int[] {3 }, cache.get(Process.class, ZEITUNG, Collections.emptyList(), false,
+            () -> new int[] {3 }));
+    }
+
+    @Test
+    public void shouldNotCacheIfDisabled() {
+        SearchResultCache cache = new SearchResultCache(0, 60_000);
+        cache.get(Process.class, ZEITUNG, Collections.emptyList(), false, () -> new int[] {1 });
+        assertArrayEquals(new int[] {2 }, cache.get(Process.class, ZEITUNG, Collections.emptyList(), false,
+            () -> new int[] {2 }));
+    }
+}
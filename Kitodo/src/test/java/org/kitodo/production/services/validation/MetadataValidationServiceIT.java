@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,7 @@ import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.validation.State;
 import org.kitodo.api.validation.ValidationResult;
+import org.kitodo.api.validation.metadata.MetadataValidationCache;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.exceptions.FileStructureValidationException;
 import org.kitodo.production.services.ServiceManager;
@@ -104,6 +106,32 @@ public class MetadataValidationServiceIT {
         assertEquals(State.ERROR, result.getState(), SHOULD_FAIL_MESSAGE);
     }
 
+    @Test
+    public void shouldValidateOnlyChangedDivisionsAgain() throws IOException, DAOException, SAXException,
+            FileStructureValidationException {
+        URI metsUri = Paths.get(TEST_KALLIOPE_PARENT).toUri();
+        RulesetManagementInterface ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
+        ruleset.load(new File(TestConstants.TEST_RULESET));
+        Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metsUri);
+        MetadataValidationService metadataValidationService = ServiceManager.getMetadataValidationService();
+        MetadataValidationCache cache = new MetadataValidationCache();
+
+        ValidationResult result = metadataValidationService.validate(workpiece, ruleset, false, cache);
+        assertEquals(State.ERROR, result.getState(), SHOULD_FAIL_MESSAGE);
+        assertEquals(workpiece.getAllLogicalDivisions().size() + workpiece.getAllPhysicalDivisions().size(),
+            cache.size(), "Wrong number of cached divisions");
+        assertEquals(result.getResultMessages(),
+            metadataValidationService.validate(workpiece, ruleset, false, cache).getResultMessages(),
+            WRONG_VALIDATION_MESSAGE);
+
+        workpiece.getLogicalStructure().getMetadata().clear();
+        ValidationResult changedResult = metadataValidationService.validate(workpiece, ruleset, false, cache);
+        ValidationResult uncachedResult = metadataValidationService.validate(workpiece, ruleset, false);
+        assertEquals(uncachedResult.getState(), changedResult.getState(), WRONG_STATE_MESSAGE);
+        assertEquals(new HashSet<>(uncachedResult.getResultMessages()),
+            new HashSet<>(changedResult.getResultMessages()), WRONG_VALIDATION_MESSAGE);
+    }
+
     private ValidationResult getValidationResultByURI(String metadataFile) {
         URI metsUri = Paths.get(metadataFile).toUri();
         URI rulesetUri = Paths.get(TestConstants.TEST_RULESET).toUri();